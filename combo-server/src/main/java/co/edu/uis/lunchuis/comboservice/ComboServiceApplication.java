@@ -5,11 +5,13 @@ import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Combo Service application.
  */
 @SpringBootApplication
+@EnableScheduling
 @ComponentScan(basePackages = {
         "co.edu.uis.lunchuis.comboservice",
         "co.edu.uis.lunchuis.common"
@@ -0,0 +1,20 @@
+package co.edu.uis.lunchuis.comboservice.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * Data Transfer Object (DTO) for reserving units of a Combo.
+ * Fields:
+ * - units: Number of units to take from the combo's available quota, which must be positive.
+ */
+@Schema(description = "Data Transfer Object for reserving units of a Combo")
+public record ReservationRequestDTO(
+        @Schema(description = "Number of units to reserve", example = "1",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Units are required")
+        @Positive(message = "Units must be positive")
+        Integer units
+) {
+}
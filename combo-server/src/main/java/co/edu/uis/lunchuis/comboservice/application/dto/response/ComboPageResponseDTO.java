@@ -0,0 +1,15 @@
+package co.edu.uis.lunchuis.comboservice.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Represents one page of a keyset-paginated combo listing.
+ * Fields:
+ * - items: The combos in this page, newest first.
+ * - nextCursor: The cursor ("validFrom,id") to request the next page, or null if this is the last page.
+ */
+public record ComboPageResponseDTO(
+        List<ComboResponseDTO> items,
+        String nextCursor
+) {
+}
@@ -0,0 +1,31 @@
+package co.edu.uis.lunchuis.comboservice.application.dto.response;
+
+import co.edu.uis.lunchuis.common.enums.ComboStatus;
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+import java.util.UUID;
+
+/**
+ * Compact delta pushed to clients subscribed to the combo stream.
+ * Fields:
+ * - comboId: The ID of the combo that changed.
+ * - availableQuota: The latest available quota.
+ * - status: The latest status, omitted when it did not change.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record ComboQuotaEventDTO(
+        UUID comboId,
+        Integer availableQuota,
+        ComboStatus status
+) {
+    /**
+     * Combines this delta with a newer one, keeping the latest value of each field.
+     * @param newer The delta that happened after this one.
+     * @return the combined delta.
+     */
+    public ComboQuotaEventDTO merge(ComboQuotaEventDTO newer) {
+        return new ComboQuotaEventDTO(comboId,
+                newer.availableQuota() != null ? newer.availableQuota() : availableQuota,
+                newer.status() != null ? newer.status() : status);
+    }
+}
@@ -0,0 +1,23 @@
+package co.edu.uis.lunchuis.comboservice.application.dto.response;
+
+import co.edu.uis.lunchuis.common.enums.ComboStatus;
+
+import java.util.UUID;
+
+/**
+ * Represents the stored quota of a Combo, as read by the Order Service.
+ * Fields:
+ * - id: The unique identifier of the combo.
+ * - price: The price of the combo.
+ * - status: The status of the combo, represented by {@link ComboStatus}.
+ * - availableQuota: The available quota, as persisted.
+ * - adjustedQuota: The net change applied to the available quota by the Order Service's quota adjustments.
+ */
+public record ComboQuotaStateDTO(
+        UUID id,
+        Double price,
+        ComboStatus status,
+        Integer availableQuota,
+        Integer adjustedQuota
+) {
+}
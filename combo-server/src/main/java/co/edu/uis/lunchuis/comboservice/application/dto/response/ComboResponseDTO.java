@@ -5,12 +5,14 @@ import co.edu.uis.lunchuis.common.enums.ComboType;
 
 import java.time.Instant;
 import java.time.LocalDate;
+import java.util.UUID;
 
 /**
  * Represents a Data Transfer Object (DTO) for Combo entities, encapsulating essential information
  * about a combo to be shared across application layers. This DTO is utilized for communication
  * between the back-end and front-end or between service layers, without exposing the domain model.
  * Fields:
+ * - id: The unique identifier of the combo.
  * - name: The name of the combo.
  * - description: A brief description or details about the combo.
  * - price: The price of the combo.
@@ -23,6 +25,7 @@ import java.time.LocalDate;
  * - validTo: The end date and time when the combo is no longer valid.
  */
 public record ComboResponseDTO(
+        UUID id,
         String name,
         String description,
         Double price,
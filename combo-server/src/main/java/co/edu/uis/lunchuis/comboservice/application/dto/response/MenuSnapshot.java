@@ -0,0 +1,20 @@
+package co.edu.uis.lunchuis.comboservice.application.dto.response;
+
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Pre-serialized copy of a day's menu, ready to be written to the response as is.
+ * Fields:
+ * - date: The day the menu belongs to.
+ * - body: The JSON array of {@link ComboResponseDTO} valid that day.
+ * - etag: The strong entity tag of the body (quoted).
+ * - builtAt: When the snapshot was built.
+ */
+public record MenuSnapshot(
+        LocalDate date,
+        byte[] body,
+        String etag,
+        Instant builtAt
+) {
+}
@@ -0,0 +1,19 @@
+package co.edu.uis.lunchuis.comboservice.application.dto.response;
+
+import java.util.UUID;
+
+/**
+ * Represents the result of a successful reservation on a Combo.
+ * Fields:
+ * - comboId: The ID of the reserved combo.
+ * - units: The number of units reserved.
+ * - availableQuota: The quota left after the reservation.
+ * - unitPrice: The price of each reserved unit.
+ */
+public record ReservationResponseDTO(
+        UUID comboId,
+        Integer units,
+        Integer availableQuota,
+        Double unitPrice
+) {
+}
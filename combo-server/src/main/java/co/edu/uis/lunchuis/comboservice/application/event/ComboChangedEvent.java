@@ -0,0 +1,19 @@
+package co.edu.uis.lunchuis.comboservice.application.event;
+
+import co.edu.uis.lunchuis.common.enums.ComboStatus;
+
+import java.util.UUID;
+
+/**
+ * Application event published whenever a combo is created, updated, deleted
+ * or has its available quota changed.
+ * @param comboId        The ID of the combo that changed.
+ * @param availableQuota The available quota after the change.
+ * @param status         The status after the change, or null if the change did not touch it.
+ */
+public record ComboChangedEvent(
+        UUID comboId,
+        Integer availableQuota,
+        ComboStatus status
+) {
+}
@@ -1,10 +1,18 @@
 package co.edu.uis.lunchuis.comboservice.application.service;
 
 import co.edu.uis.lunchuis.comboservice.application.dto.request.ComboRequestDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.request.ReservationRequestDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.response.ComboPageResponseDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.response.ComboQuotaStateDTO;
 import co.edu.uis.lunchuis.comboservice.application.dto.response.ComboResponseDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.response.ReservationResponseDTO;
+import co.edu.uis.lunchuis.common.dto.QuotaAdjustmentBatchDTO;
+import co.edu.uis.lunchuis.common.dto.QuotaAdjustmentResultDTO;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Application Service Port for managing Combos.
@@ -40,8 +48,60 @@ public interface ComboService {
     ComboResponseDTO getComboById(UUID id);
 
     /**
-     * Retrieves a list of all existing Combos.
-     * @return A list of DTOs for all Combos.
+     * Retrieves the stored quota of a Combo, as the Order Service needs it to keep its view of the quota exact.
+     * @param id The ID of the Combo.
+     * @return DTO with the available and adjusted quota, read together.
      */
-    List<ComboResponseDTO> getAllCombos();
+    ComboQuotaStateDTO getQuotaState(UUID id);
+
+    /**
+     * Reserves units of a Combo, taking them from its available quota.
+     * @param id      The ID of the Combo to reserve.
+     * @param request DTO containing the number of units to reserve.
+     * @return DTO with the quota left after the reservation.
+     */
+    ReservationResponseDTO reserveCombo(UUID id, ReservationRequestDTO request);
+
+    /**
+     * Applies a batch of net quota changes sent by the Order Service, all or nothing.
+     * A batch already applied is skipped and answered with its original outcome, so it can safely be sent again.
+     * @param batch DTO containing the batch ID and the change for each combo.
+     * @return the change applied to each existing combo, the same every time the batch is sent.
+     */
+    List<QuotaAdjustmentResultDTO> applyQuotaAdjustments(QuotaAdjustmentBatchDTO batch);
+
+    /**
+     * Retrieves one page of Combos, newest first, using keyset pagination.
+     * @param after The cursor returned with the previous page ("validFrom,id"), or null for the first page.
+     * @param limit The maximum number of Combos in the page.
+     * @return DTO with the Combos of the page and the cursor of the next one.
+     */
+    ComboPageResponseDTO getCombosPage(String after, int limit);
+
+    /**
+     * Sends every Combo, newest first, to the given consumer as it is read from the database,
+     * without building the full list in memory.
+     * @param consumer The consumer receiving each Combo DTO.
+     */
+    void streamAllCombos(Consumer<ComboResponseDTO> consumer);
+
+    /**
+     * Counts every Combo, so clients reading them page by page can show the total.
+     * @return the number of Combos.
+     */
+    long countCombos();
+
+    /**
+     * Retrieves the Combos whose validity overlaps the given date range.
+     * @param from The first date of the range (inclusive).
+     * @param to   The last date of the range (inclusive).
+     * @return A list of DTOs for the matching Combos.
+     */
+    List<ComboResponseDTO> getCombosBetween(LocalDate from, LocalDate to);
+
+    /**
+     * Retrieves the Combos valid today, i.e. today's menu.
+     * @return A list of DTOs for the Combos valid today.
+     */
+    List<ComboResponseDTO> getTodayCombos();
 }
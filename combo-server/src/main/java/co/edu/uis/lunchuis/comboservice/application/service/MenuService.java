@@ -0,0 +1,16 @@
+package co.edu.uis.lunchuis.comboservice.application.service;
+
+import co.edu.uis.lunchuis.comboservice.application.dto.response.MenuSnapshot;
+
+/**
+ * Application Service Port for today's menu.
+ * Keeps the serialized menu ready so that polling clients cost neither a query
+ * nor a serialization unless a combo has changed.
+ */
+public interface MenuService {
+    /**
+     * Returns the snapshot of today's menu, rebuilding it only if a combo changed since it was built.
+     * @return the current snapshot of today's menu.
+     */
+    MenuSnapshot getTodayMenu();
+}
@@ -0,0 +1,72 @@
+package co.edu.uis.lunchuis.comboservice.application.service;
+
+import co.edu.uis.lunchuis.comboservice.domain.model.Combo;
+
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * Application Service Port for the in-memory quota engine.
+ * Holds the available quota of every active combo in memory so that reservations
+ * and releases never wait on the database. The persisted {@code availableQuota}
+ * remains the durable copy: it is updated in the background and used to rebuild
+ * the counters on startup.
+ */
+public interface QuotaService {
+    /**
+     * Reserves units of a combo without a database round trip.
+     * @param comboId The ID of the combo.
+     * @param units   The number of units to reserve. Must be positive.
+     * @return true if the units were reserved, false if the combo is sold out or not available.
+     */
+    boolean reserve(UUID comboId, int units);
+
+    /**
+     * Gives back previously reserved units of a combo.
+     * @param comboId The ID of the combo.
+     * @param units   The number of units to release. Must be positive.
+     */
+    void release(UUID comboId, int units);
+
+    /**
+     * Records that units reserved in memory were also written to the durable copy,
+     * so the background flush does not apply them twice.
+     * @param comboId The ID of the combo.
+     * @param units   The number of units already persisted.
+     */
+    void acknowledge(UUID comboId, int units);
+
+    /**
+     * Shifts the in-memory quota of a combo by a change already written to the durable copy,
+     * so the background flush does not apply it again.
+     * @param comboId The ID of the combo.
+     * @param delta   The number of units added (positive) or taken (negative).
+     */
+    void shift(UUID comboId, int delta);
+
+    /**
+     * Returns the in-memory available quota of a combo, if it is being tracked.
+     * @param comboId The ID of the combo.
+     * @return the available quota, or an empty OptionalInt if the combo is not tracked.
+     */
+    OptionalInt getAvailableQuota(UUID comboId);
+
+    /**
+     * Starts (or refreshes) tracking of a combo from its persisted state. A tracked combo keeps its
+     * live counter; only its total quota, shifting the available quota by the same amount, and its
+     * status are refreshed. Must only be called with committed state.
+     * @param combo The combo to track.
+     */
+    void track(Combo combo);
+
+    /**
+     * Stops tracking a combo, discarding its counter.
+     * @param comboId The ID of the combo.
+     */
+    void untrack(UUID comboId);
+
+    /**
+     * Writes every pending quota change back to the durable copy.
+     */
+    void flush();
+}
@@ -1,23 +1,50 @@
 package co.edu.uis.lunchuis.comboservice.application.service.impl;
 
 import co.edu.uis.lunchuis.comboservice.application.dto.request.ComboRequestDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.request.ReservationRequestDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.response.ComboPageResponseDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.response.ComboQuotaStateDTO;
 import co.edu.uis.lunchuis.comboservice.application.dto.response.ComboResponseDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.response.ReservationResponseDTO;
+import co.edu.uis.lunchuis.comboservice.application.event.ComboChangedEvent;
 import co.edu.uis.lunchuis.comboservice.application.mapper.ComboMapper;
 import co.edu.uis.lunchuis.comboservice.application.service.ComboService;
+import co.edu.uis.lunchuis.comboservice.application.service.QuotaService;
 import co.edu.uis.lunchuis.comboservice.domain.model.Combo;
+import co.edu.uis.lunchuis.comboservice.domain.model.QuotaAdjustment;
 import co.edu.uis.lunchuis.comboservice.domain.repository.ComboRepository;
+import co.edu.uis.lunchuis.comboservice.domain.repository.QuotaAdjustmentRepository;
+import co.edu.uis.lunchuis.common.dto.QuotaAdjustmentBatchDTO;
+import co.edu.uis.lunchuis.common.dto.QuotaAdjustmentDTO;
+import co.edu.uis.lunchuis.common.dto.QuotaAdjustmentResultDTO;
+import co.edu.uis.lunchuis.common.enums.ComboStatus;
 import co.edu.uis.lunchuis.common.enums.ComboType;
 import co.edu.uis.lunchuis.common.exception.DuplicateResourceException;
 import co.edu.uis.lunchuis.common.exception.InvalidRequestException;
+import co.edu.uis.lunchuis.common.exception.QuotaExhaustedException;
 import co.edu.uis.lunchuis.common.exception.ResourceNotFoundException;
+import co.edu.uis.lunchuis.common.pagination.Keyset;
+import co.edu.uis.lunchuis.common.pagination.KeysetPage;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link ComboService} interface.
@@ -25,9 +52,21 @@ import java.util.stream.Collectors;
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class ComboServiceImpl implements ComboService {
+    private static final int MAX_PAGE_SIZE = 500;
+
     private final ComboRepository comboRepository;
     private final ComboMapper comboMapper;
+    private final QuotaService quotaService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final QuotaAdjustmentRepository quotaAdjustmentRepository;
+
+    /**
+     * How long applied quota adjustment batches are remembered to detect duplicates.
+     */
+    @Value("${combo.quota-adjustments.retention:7d}")
+    private Duration quotaAdjustmentRetention;
 
     @Override
     @Transactional
@@ -40,7 +79,11 @@ public class ComboServiceImpl implements ComboService {
         combo.setAvailableQuota(combo.getTotalQuota());
         // 4. Save to persistence
         Combo savedCombo = comboRepository.save(combo);
-        // 5. Map to Response DTO and return
+        // 5. Start tracking its quota in memory once the combo is durable
+        afterCommit(() -> quotaService.track(savedCombo));
+        eventPublisher.publishEvent(new ComboChangedEvent(savedCombo.getId(), savedCombo.getAvailableQuota(),
+                savedCombo.getStatus()));
+        // 6. Map to Response DTO and return
         return comboMapper.toResponse(savedCombo);
     }
 
@@ -50,8 +93,10 @@ public class ComboServiceImpl implements ComboService {
         // 1. Find an existing combo
         Combo existingCombo = comboRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Combo", "id", id.toString()));
-        // 2. Calculate sold items before update
-        int soldCount = existingCombo.getTotalQuota() - existingCombo.getAvailableQuota();
+        // 2. Calculate sold items before update (the in-memory counter is more recent than the database)
+        int oldTotalQuota = existingCombo.getTotalQuota();
+        int availableQuota = quotaService.getAvailableQuota(id).orElse(existingCombo.getAvailableQuota());
+        int soldCount = oldTotalQuota - availableQuota;
         // 3. Map updated data onto the existing model
         comboMapper.updateModelFromDto(requestDTO, existingCombo);
         // 4. Apply Business Logic & Validations
@@ -60,10 +105,19 @@ public class ComboServiceImpl implements ComboService {
         if (requestDTO.totalQuota() < soldCount) {
             throw new InvalidRequestException("TotalQuota cannot be less than the number of combos already sold (" + soldCount + ")");
         }
-        existingCombo.setAvailableQuota(requestDTO.totalQuota() - soldCount);
-        // 6. Save updated combo
+        int quotaDelta = requestDTO.totalQuota() - oldTotalQuota;
+        availableQuota = Math.max(0, availableQuota + quotaDelta);
+        existingCombo.setAvailableQuota(availableQuota);
+        // 6. Save updated combo; the available quota is shifted relatively so concurrent reservations are kept,
+        //    stopping at zero like the in-memory counter if they sold more than the new total allows
         Combo updatedCombo = comboRepository.save(existingCombo);
-        // 7. Map to Response DTO and return
+        if (quotaDelta != 0) {
+            comboRepository.updateAvailableQuota(id, quotaDelta);
+        }
+        // 7. Resize the in-memory counter only once the new total is durable, so a rollback leaves it untouched
+        afterCommit(() -> quotaService.track(updatedCombo));
+        eventPublisher.publishEvent(new ComboChangedEvent(id, availableQuota, updatedCombo.getStatus()));
+        // 8. Map to Response DTO and return
         return comboMapper.toResponse(updatedCombo);
     }
 
@@ -74,27 +128,172 @@ public class ComboServiceImpl implements ComboService {
         Combo combo = comboRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Combo", "id", id.toString()));
         // 2. Business Rule: Cannot delete it if orders have been placed
-        if (combo.getAvailableQuota() < combo.getTotalQuota()) {
+        int availableQuota = quotaService.getAvailableQuota(id).orElse(combo.getAvailableQuota());
+        if (availableQuota < combo.getTotalQuota()) {
             throw new InvalidRequestException("Cannot delete Combo with ID " + id + ": orders have already been placed.");
         }
         // 3. Delete from persistence
         comboRepository.deleteById(id);
+        afterCommit(() -> quotaService.untrack(id));
+        // A deleted combo can no longer be bought, which clients see as disabled with no quota
+        eventPublisher.publishEvent(new ComboChangedEvent(id, 0, ComboStatus.DISABLE));
+    }
+
+    @Override
+    @Transactional
+    public ReservationResponseDTO reserveCombo(UUID id, ReservationRequestDTO request) {
+        int units = request.units();
+        // 1. Reject in memory, without touching the database, once this instance knows the combo is sold out
+        if (!quotaService.reserve(id, units)) {
+            throw new QuotaExhaustedException("Combo", "id", id.toString());
+        }
+        // 2. Settle the counter with the outcome of the transaction: the database holds the change once it
+        // commits, and on any failure, including a failed commit, the units go back to the counter
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) {
+                    quotaService.acknowledge(id, units);
+                } else {
+                    quotaService.release(id, units);
+                }
+            }
+        });
+        // 3. Apply the reservation with a single guarded update; it stays correct across instances
+        int availableQuota = comboRepository.reserveQuota(id, units)
+                .orElseThrow(() -> new QuotaExhaustedException("Combo", "id", id.toString()));
+        // 4. Served from the combo cache, so callers get the price without another request
+        Double unitPrice = comboRepository.findById(id)
+                .map(combo -> combo.getPrice().doubleValue())
+                .orElseThrow(() -> new ResourceNotFoundException("Combo", "id", id.toString()));
+        return new ReservationResponseDTO(id, units, availableQuota, unitPrice);
+    }
+
+    @Override
+    @Transactional
+    public List<QuotaAdjustmentResultDTO> applyQuotaAdjustments(QuotaAdjustmentBatchDTO batch) {
+        // 1. Skip batches already applied, answering with their outcome; the record commits together with the changes
+        if (!quotaAdjustmentRepository.markApplied(batch.batchId(), Instant.now())) {
+            log.info("Quota adjustment batch {} was already applied; skipping it.", batch.batchId());
+            return toResults(quotaAdjustmentRepository.findResults(batch.batchId()));
+        }
+        // 2. Apply each net change with a single relative update, bounded by zero and the total quota
+        List<QuotaAdjustment> results = new ArrayList<>(batch.adjustments().size());
+        for (QuotaAdjustmentDTO adjustment : batch.adjustments()) {
+            OptionalInt applied = comboRepository.adjustAvailableQuota(adjustment.comboId(), adjustment.delta());
+            if (applied.isEmpty()) {
+                log.warn("Quota adjustment of {} for missing combo {} ignored.", adjustment.delta(), adjustment.comboId());
+                continue;
+            }
+            results.add(new QuotaAdjustment(adjustment.comboId(), adjustment.delta(), applied.getAsInt()));
+        }
+        quotaAdjustmentRepository.saveResults(batch.batchId(), results);
+        // 3. Mirror the applied changes in the quota engine once they are durable
+        afterCommit(() -> results.forEach(result -> quotaService.shift(result.comboId(), result.applied())));
+        return toResults(results);
+    }
+
+    /**
+     * Forgets the applied quota adjustment batches once no sender would resend them.
+     */
+    @Scheduled(fixedDelayString = "${combo.quota-adjustments.purge-interval-ms:3600000}")
+    public void purgeQuotaAdjustmentBatches() {
+        int purged = quotaAdjustmentRepository.deleteAppliedBefore(Instant.now().minus(quotaAdjustmentRetention));
+        if (purged > 0) {
+            log.info("Forgot {} applied quota adjustment batch(es).", purged);
+        }
     }
 
     @Override
     @Transactional(readOnly = true)
     public ComboResponseDTO getComboById(UUID id) {
         return comboRepository.findById(id)
+                .map(this::withLiveQuota)
                 .map(comboMapper::toResponse)
                 .orElseThrow(() -> new ResourceNotFoundException("Combo", "id", id.toString()));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ComboResponseDTO> getAllCombos() {
-        return comboRepository.findAll().stream()
+    public ComboQuotaStateDTO getQuotaState(UUID id) {
+        // Read from the database rather than the quota engine, so both quotas come from the same row version
+        return comboRepository.findQuotaState(id)
+                .map(state -> new ComboQuotaStateDTO(state.comboId(), state.price().doubleValue(), state.status(),
+                        state.availableQuota(), state.adjustedQuota()))
+                .orElseThrow(() -> new ResourceNotFoundException("Combo", "id", id.toString()));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public ComboPageResponseDTO getCombosPage(String after, int limit) {
+        int fetchSize = KeysetPage.fetchSize(limit, MAX_PAGE_SIZE);
+        Keyset<LocalDate> keyset = Keyset.decode(after, "validFrom", LocalDate::parse);
+        List<Combo> combos = comboRepository.findPage(keyset.position(), keyset.id(), fetchSize);
+        KeysetPage<Combo> page = KeysetPage.of(combos, limit, combo -> new Keyset<>(combo.getValidFrom(), combo.getId()));
+        return new ComboPageResponseDTO(page.items().stream().map(comboMapper::toResponse).toList(), page.nextCursor());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllCombos(Consumer<ComboResponseDTO> consumer) {
+        try (Stream<Combo> combos = comboRepository.streamAll()) {
+            combos.map(comboMapper::toResponse).forEach(consumer);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countCombos() {
+        return comboRepository.count();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ComboResponseDTO> getCombosBetween(LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new InvalidRequestException("'to' date cannot be before 'from' date.");
+        }
+        return comboRepository.findBetweenDates(from, to).stream()
+                .map(this::withLiveQuota)
                 .map(comboMapper::toResponse)
-                .collect(Collectors.toList());
+                .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ComboResponseDTO> getTodayCombos() {
+        LocalDate today = LocalDate.now();
+        return getCombosBetween(today, today);
+    }
+
+    /**
+     * Runs an in-memory change once the current transaction commits, so a rollback never reaches the quota engine.
+     */
+    private static void afterCommit(Runnable action) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * Maps the outcome of a quota adjustment batch to the DTOs returned to the Order Service.
+     */
+    private static List<QuotaAdjustmentResultDTO> toResults(List<QuotaAdjustment> adjustments) {
+        return adjustments.stream()
+                .map(adjustment -> new QuotaAdjustmentResultDTO(adjustment.comboId(), adjustment.requested(),
+                        adjustment.applied()))
+                .toList();
+    }
+
+    /**
+     * Replaces the (possibly cached) available quota with the live in-memory one, when tracked.
+     */
+    private Combo withLiveQuota(Combo combo) {
+        quotaService.getAvailableQuota(combo.getId()).ifPresent(combo::setAvailableQuota);
+        return combo;
     }
 
     /**
@@ -0,0 +1,99 @@
+package co.edu.uis.lunchuis.comboservice.application.service.impl;
+
+import co.edu.uis.lunchuis.comboservice.application.dto.response.MenuSnapshot;
+import co.edu.uis.lunchuis.comboservice.application.event.ComboChangedEvent;
+import co.edu.uis.lunchuis.comboservice.application.service.ComboService;
+import co.edu.uis.lunchuis.comboservice.application.service.MenuService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+
+/**
+ * Implementation of the {@link MenuService} interface.
+ * Holds a single pre-serialized snapshot of today's menu. Any {@link ComboChangedEvent}
+ * marks it as stale, and the next read rebuilds it once; every other read returns the
+ * same bytes and ETag. The snapshot is also rebuilt when the day changes or when it is
+ * older than the configured maximum age, which covers changes made by other instances.
+ */
+@Service
+@Slf4j
+public class MenuServiceImpl implements MenuService {
+    private final ComboService comboService;
+    private final ObjectMapper objectMapper;
+    private final Duration maxAge;
+    private volatile MenuSnapshot snapshot;
+    private volatile boolean stale = true;
+
+    /**
+     * Constructs the menu service.
+     * @param comboService The service used to query today's combos.
+     * @param objectMapper The mapper used to serialize the menu.
+     * @param maxAge       The maximum time a snapshot is served without being rebuilt.
+     */
+    public MenuServiceImpl(ComboService comboService, ObjectMapper objectMapper,
+                           @Value("${combo.menu.max-age:5s}") Duration maxAge) {
+        this.comboService = comboService;
+        this.objectMapper = objectMapper;
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public MenuSnapshot getTodayMenu() {
+        MenuSnapshot current = snapshot;
+        if (isFresh(current)) {
+            return current;
+        }
+        synchronized (this) {
+            current = snapshot;
+            if (isFresh(current)) {
+                return current;
+            }
+            // Cleared before reading, so a change that arrives while rebuilding triggers another rebuild
+            stale = false;
+            try {
+                snapshot = build();
+            } catch (RuntimeException ex) {
+                stale = true;
+                throw ex;
+            }
+            return snapshot;
+        }
+    }
+
+    /**
+     * Marks the snapshot as stale once the change that triggered the event is committed.
+     * @param event The change notification.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComboChanged(ComboChangedEvent event) {
+        stale = true;
+    }
+
+    private boolean isFresh(MenuSnapshot current) {
+        return current != null
+                && !stale
+                && current.date().equals(LocalDate.now())
+                && current.builtAt().plus(maxAge).isAfter(Instant.now());
+    }
+
+    private MenuSnapshot build() {
+        LocalDate today = LocalDate.now();
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(comboService.getTodayCombos());
+            String etag = "\"" + DigestUtils.md5DigestAsHex(body) + "\"";
+            log.debug("Rebuilt menu snapshot for {} ({} bytes).", today, body.length);
+            return new MenuSnapshot(today, body, etag, Instant.now());
+        } catch (JsonProcessingException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package co.edu.uis.lunchuis.comboservice.application.service.impl;
+
+import co.edu.uis.lunchuis.comboservice.application.event.ComboChangedEvent;
+import co.edu.uis.lunchuis.comboservice.application.service.QuotaService;
+import co.edu.uis.lunchuis.comboservice.domain.model.Combo;
+import co.edu.uis.lunchuis.comboservice.domain.model.QuotaCounter;
+import co.edu.uis.lunchuis.comboservice.domain.repository.ComboRepository;
+import co.edu.uis.lunchuis.common.enums.ComboStatus;
+import co.edu.uis.lunchuis.common.exception.ResourceNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the {@link QuotaService} interface.
+ * Keeps one {@link QuotaCounter} per combo in a concurrent map. Reservations only
+ * touch the counter; the accumulated deltas are written back to the database by a
+ * scheduled flush as relative updates, so they compose with any other writer of
+ * {@code available_quota}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuotaServiceImpl implements QuotaService {
+    private final ComboRepository comboRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Map<UUID, QuotaCounter> counters = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean reserve(UUID comboId, int units) {
+        QuotaCounter counter = getOrLoad(comboId);
+        if (!counter.tryReserve(units)) {
+            return false;
+        }
+        eventPublisher.publishEvent(new ComboChangedEvent(comboId, counter.getAvailableQuota(), null));
+        return true;
+    }
+
+    @Override
+    public void release(UUID comboId, int units) {
+        QuotaCounter counter = getOrLoad(comboId);
+        if (counter.release(units) > 0) {
+            eventPublisher.publishEvent(new ComboChangedEvent(comboId, counter.getAvailableQuota(), null));
+        }
+    }
+
+    @Override
+    public void acknowledge(UUID comboId, int units) {
+        QuotaCounter counter = counters.get(comboId);
+        if (counter != null) {
+            counter.acknowledge(units);
+        }
+    }
+
+    @Override
+    public void shift(UUID comboId, int delta) {
+        QuotaCounter counter = counters.get(comboId);
+        if (counter != null && delta != 0) {
+            eventPublisher.publishEvent(new ComboChangedEvent(comboId, counter.shift(delta), null));
+        }
+    }
+
+    @Override
+    public OptionalInt getAvailableQuota(UUID comboId) {
+        QuotaCounter counter = counters.get(comboId);
+        return counter != null ? OptionalInt.of(counter.getAvailableQuota()) : OptionalInt.empty();
+    }
+
+    @Override
+    public void track(Combo combo) {
+        QuotaCounter counter = counters.get(combo.getId());
+        if (counter != null) {
+            // Keep the live counter (and its pending delta); only refresh what the admin may change
+            counter.resize(combo.getTotalQuota());
+            counter.setOpen(combo.getStatus() == ComboStatus.AVAILABLE);
+            return;
+        }
+        counters.putIfAbsent(combo.getId(), toCounter(combo));
+    }
+
+    @Override
+    public void untrack(UUID comboId) {
+        counters.remove(comboId);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${combo.quota.flush-interval-ms:500}")
+    public void flush() {
+        counters.values().forEach(this::flush);
+    }
+
+    /**
+     * Rebuilds the counters of every active combo from the durable copy once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        LocalDate today = LocalDate.now();
+        // Combos published further ahead are rare; they are loaded on first use instead
+        List<Combo> active = comboRepository.findBetweenDates(today, today.plusYears(1)).stream()
+                .filter(combo -> combo.getStatus() == ComboStatus.AVAILABLE)
+                .toList();
+        // Counters created by requests served meanwhile are more recent than this read; keep them
+        active.forEach(combo -> counters.putIfAbsent(combo.getId(), toCounter(combo)));
+        log.info("Quota engine rebuilt with {} active combo(s).", active.size());
+    }
+
+    /**
+     * Writes the remaining pending deltas before the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * Returns the counter of a combo, loading it from the durable copy the first time it is used.
+     */
+    private QuotaCounter getOrLoad(UUID comboId) {
+        QuotaCounter counter = counters.get(comboId);
+        if (counter != null) {
+            return counter;
+        }
+        Combo combo = comboRepository.findById(comboId)
+                .orElseThrow(() -> new ResourceNotFoundException("Combo", "id", comboId.toString()));
+        return counters.computeIfAbsent(comboId, id -> toCounter(combo));
+    }
+
+    /**
+     * Persists the pending delta of a single counter, keeping it for the next attempt on failure.
+     */
+    private void flush(QuotaCounter counter) {
+        int delta = counter.drainPending();
+        if (delta == 0) {
+            return;
+        }
+        try {
+            if (!comboRepository.updateAvailableQuota(counter.getComboId(), delta)) {
+                // The combo no longer exists, so there is nothing left to keep in sync
+                counters.remove(counter.getComboId());
+            }
+        } catch (RuntimeException ex) {
+            counter.restorePending(delta);
+            log.warn("Could not flush quota of combo {}: {}", counter.getComboId(), ex.getMessage());
+        }
+    }
+
+    private QuotaCounter toCounter(Combo combo) {
+        return new QuotaCounter(combo.getId(), combo.getTotalQuota(), combo.getAvailableQuota(),
+                combo.getStatus() == ComboStatus.AVAILABLE);
+    }
+}
@@ -0,0 +1,20 @@
+package co.edu.uis.lunchuis.comboservice.domain.model;
+
+import co.edu.uis.lunchuis.common.enums.ComboStatus;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The stored quota of a combo, read in a single statement so its fields agree with each other.
+ * The available quota minus the adjusted quota does not depend on how many batches the
+ * Order Service has relayed yet, which lets it keep an exact view of what is left to sell.
+ * @param comboId        the ID of the combo
+ * @param price          the current price of each unit
+ * @param status         the status of the combo
+ * @param availableQuota the available quota
+ * @param adjustedQuota  the net change applied to the available quota by every quota adjustment batch
+ */
+public record ComboQuotaState(UUID comboId, BigDecimal price, ComboStatus status, int availableQuota,
+                              int adjustedQuota) {
+}
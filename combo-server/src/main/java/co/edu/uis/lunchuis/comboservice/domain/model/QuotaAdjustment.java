@@ -0,0 +1,14 @@
+package co.edu.uis.lunchuis.comboservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * A net quota change of a combo applied as part of a batch sent by the Order Service.
+ * The available quota stays between zero and the total quota, so the applied change
+ * may be smaller than the requested one.
+ * @param comboId   the ID of the combo
+ * @param requested the change that was requested
+ * @param applied   the change that was actually applied
+ */
+public record QuotaAdjustment(UUID comboId, int requested, int applied) {
+}
@@ -0,0 +1,161 @@
+package co.edu.uis.lunchuis.comboservice.domain.model;
+
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * In-memory, lock-free counter holding the available quota of a single combo.
+ * Reservations and releases are applied with compare-and-set loops, so concurrent
+ * requests never block each other and never lose updates. Every change is also
+ * accumulated in a pending delta that is periodically written back to the
+ * durable copy ({@code available_quota}) and then cleared.
+ */
+public final class QuotaCounter {
+    private final UUID comboId;
+    private final AtomicInteger available;
+    private final AtomicInteger pending;
+    private volatile int totalQuota;
+    private volatile boolean open;
+
+    /**
+     * Constructs a new QuotaCounter from the durable state of a combo.
+     * @param comboId        The unique identifier of the combo.
+     * @param totalQuota     The total quota of the combo.
+     * @param availableQuota The quota still available, as currently persisted.
+     * @param open           Whether the combo currently accepts reservations.
+     */
+    public QuotaCounter(UUID comboId, int totalQuota, int availableQuota, boolean open) {
+        this.comboId = Objects.requireNonNull(comboId, "Combo id cannot be null");
+        this.totalQuota = totalQuota;
+        this.available = new AtomicInteger(availableQuota);
+        this.pending = new AtomicInteger();
+        this.open = open;
+    }
+
+    /**
+     * Atomically takes the given number of units from the available quota.
+     * @param units The number of units to reserve. Must be positive.
+     * @return true if the units were reserved, false if the combo is closed or there is not enough quota.
+     */
+    public boolean tryReserve(int units) {
+        requirePositive(units);
+        while (open) {
+            int current = available.get();
+            if (current < units) {
+                return false;
+            }
+            if (available.compareAndSet(current, current - units)) {
+                pending.addAndGet(-units);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Atomically gives back units to the available quota, never exceeding the total quota.
+     * @param units The number of units to release. Must be positive.
+     * @return the number of units actually released.
+     */
+    public int release(int units) {
+        requirePositive(units);
+        while (true) {
+            int current = available.get();
+            int next = Math.min(totalQuota, current + units);
+            if (available.compareAndSet(current, next)) {
+                int released = next - current;
+                pending.addAndGet(released);
+                return released;
+            }
+        }
+    }
+
+    /**
+     * Atomically changes the total quota, shifting the available quota by the same amount.
+     * The new total is already durable when this is called, so if reservations made meanwhile
+     * sold more units than it allows, the available quota stops at zero instead of failing.
+     * @param newTotalQuota The new total quota.
+     * @return the available quota after the change.
+     */
+    public synchronized int resize(int newTotalQuota) {
+        int delta = newTotalQuota - totalQuota;
+        while (true) {
+            int current = available.get();
+            int next = Math.max(0, current + delta);
+            if (available.compareAndSet(current, next)) {
+                totalQuota = newTotalQuota;
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Atomically shifts the available quota by a change already written to the durable copy,
+     * keeping it between zero and the total quota. The pending delta is left untouched.
+     * @param delta The number of units added (positive) or taken (negative).
+     * @return the available quota after the change.
+     */
+    public int shift(int delta) {
+        while (true) {
+            int current = available.get();
+            int next = Math.max(0, Math.min(totalQuota, current + delta));
+            if (available.compareAndSet(current, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * Takes the accumulated, not yet persisted change in available quota and resets it to zero.
+     * @return the delta to add to the durable available quota.
+     */
+    public int drainPending() {
+        return pending.getAndSet(0);
+    }
+
+    /**
+     * Records that units reserved through {@link #tryReserve(int)} were already written
+     * to the durable copy, so the next flush does not apply them a second time.
+     * @param units The number of units already persisted.
+     */
+    public void acknowledge(int units) {
+        requirePositive(units);
+        pending.addAndGet(units);
+    }
+
+    /**
+     * Puts back a delta that could not be persisted, so it is retried on the next flush.
+     * @param delta The delta returned by {@link #drainPending()}.
+     */
+    public void restorePending(int delta) {
+        pending.addAndGet(delta);
+    }
+
+    // --- Getters ---
+
+    public UUID getComboId() {
+        return comboId;
+    }
+    public int getAvailableQuota() {
+        return available.get();
+    }
+    public int getTotalQuota() {
+        return totalQuota;
+    }
+    public boolean isOpen() {
+        return open;
+    }
+
+    // --- Setters ---
+
+    public void setOpen(boolean open) {
+        this.open = open;
+    }
+
+    private static void requirePositive(int units) {
+        if (units <= 0) {
+            throw new IllegalArgumentException("Units must be positive");
+        }
+    }
+}
@@ -1,11 +1,14 @@
 package co.edu.uis.lunchuis.comboservice.domain.repository;
 
 import co.edu.uis.lunchuis.comboservice.domain.model.Combo;
+import co.edu.uis.lunchuis.comboservice.domain.model.ComboQuotaState;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Defines a repository interface for managing Combo entities.
@@ -49,6 +52,29 @@ public interface ComboRepository {
      */
     List<Combo> findAll();
 
+    /**
+     * Retrieves one page of Combo entities using keyset pagination, newest first.
+     * Combos are ordered by validFrom and ID, both descending.
+     * @param afterValidFrom the validFrom of the last Combo of the previous page, or null for the first page.
+     * @param afterId the ID of the last Combo of the previous page, or null for the first page.
+     * @param limit the maximum number of Combos to return. Must be positive.
+     * @return a list with at most {@code limit} Combos.
+     */
+    List<Combo> findPage(LocalDate afterValidFrom, UUID afterId, int limit);
+
+    /**
+     * Streams all Combo entities, newest first, without loading them all in memory.
+     * The stream must be consumed inside a transaction and closed afterwards.
+     * @return a stream over all Combo entities.
+     */
+    Stream<Combo> streamAll();
+
+    /**
+     * Counts all Combo entities.
+     * @return the number of stored Combos.
+     */
+    long count();
+
     /**
      * Deletes the Combo entity associated with the specified unique identifier.
      * This method removes a Combo from the repository if it exists for the provided UUID.
@@ -87,4 +113,41 @@ public interface ComboRepository {
      * @return true if a Combo entity exists for the given date, false otherwise.
      */
     boolean existsByDate(LocalDate date);
+
+    /**
+     * Adds the given delta to the available quota of a Combo without loading it.
+     * The change is applied relative to the stored value, so it never overwrites
+     * changes made concurrently by other writers, and the result is kept between zero and
+     * the total quota, as the in-memory counter does.
+     * @param id the unique identifier of the Combo. Must not be null.
+     * @param delta the number of units to add (positive) or remove (negative).
+     * @return true if the Combo exists and was updated, false otherwise.
+     */
+    boolean updateAvailableQuota(UUID id, int delta);
+
+    /**
+     * Atomically takes units from the available quota of a Combo in a single guarded update.
+     * The update only succeeds if the Combo is available and has at least the requested units left.
+     * @param id the unique identifier of the Combo. Must not be null.
+     * @param units the number of units to reserve. Must be positive.
+     * @return the available quota after the reservation, or an empty OptionalInt if it could not be applied.
+     */
+    OptionalInt reserveQuota(UUID id, int units);
+
+    /**
+     * Adds the given delta to the available quota of a Combo in a single statement,
+     * never taking it below zero nor above the total quota, and records the change
+     * actually applied in its adjusted quota.
+     * @param id the unique identifier of the Combo. Must not be null.
+     * @param delta the number of units to add (positive) or remove (negative).
+     * @return the change actually applied, or an empty OptionalInt if the Combo does not exist.
+     */
+    OptionalInt adjustAvailableQuota(UUID id, int delta);
+
+    /**
+     * Reads the stored quota of a Combo straight from the database, bypassing any cache.
+     * @param id the unique identifier of the Combo. Must not be null.
+     * @return an Optional containing the quota of the Combo, or empty if it does not exist.
+     */
+    Optional<ComboQuotaState> findQuotaState(UUID id);
 }
@@ -0,0 +1,45 @@
+package co.edu.uis.lunchuis.comboservice.domain.repository;
+
+import co.edu.uis.lunchuis.comboservice.domain.model.QuotaAdjustment;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Domain Repository Port recording the quota adjustment batches already applied and their
+ * outcome, so a batch sent again is recognized, skipped and answered as the first time.
+ * Implementations (adapters) will reside in the infrastructure layer.
+ */
+public interface QuotaAdjustmentRepository {
+    /**
+     * Records a batch as applied, unless it already was.
+     * Must run in the same transaction as the adjustments of the batch.
+     * @param batchId   The ID of the batch.
+     * @param appliedAt The instant the batch is applied.
+     * @return true if the batch was recorded now, false if it had already been applied.
+     */
+    boolean markApplied(UUID batchId, Instant appliedAt);
+
+    /**
+     * Stores the outcome of the changes of a batch.
+     * Must run in the same transaction as the adjustments of the batch.
+     * @param batchId     The ID of the batch.
+     * @param adjustments The changes applied to each existing combo.
+     */
+    void saveResults(UUID batchId, List<QuotaAdjustment> adjustments);
+
+    /**
+     * Retrieves the outcome of the changes of a batch already applied.
+     * @param batchId The ID of the batch.
+     * @return the changes applied to each existing combo, empty if none existed.
+     */
+    List<QuotaAdjustment> findResults(UUID batchId);
+
+    /**
+     * Forgets the batches applied before the given instant, along with their outcome.
+     * @param before The instant before which batches are forgotten.
+     * @return the number of forgotten batches.
+     */
+    int deleteAppliedBefore(Instant before);
+}
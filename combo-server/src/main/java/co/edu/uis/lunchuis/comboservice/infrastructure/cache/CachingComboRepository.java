@@ -0,0 +1,190 @@
+package co.edu.uis.lunchuis.comboservice.infrastructure.cache;
+
+import co.edu.uis.lunchuis.comboservice.domain.model.Combo;
+import co.edu.uis.lunchuis.comboservice.domain.model.ComboQuotaState;
+import co.edu.uis.lunchuis.comboservice.domain.repository.ComboRepository;
+import co.edu.uis.lunchuis.comboservice.infrastructure.persistence.adapter.ComboRepositoryAdapter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Read-through cache in front of the {@link ComboRepository} port.
+ * Lookups by ID and by date range are served from bounded Caffeine caches whose
+ * entries expire after a fixed time. Lookups by name are not cached: they back the
+ * uniqueness check of combo names, which must see the database as it is now. Every write that goes through this
+ * repository evicts the affected entries, both immediately and again once the
+ * surrounding transaction completes, so readers do not keep data that was
+ * repopulated before the commit. Hit, miss and eviction counts are published to
+ * the actuator metrics endpoint under the {@code cache.*} meters.
+ * Cached combos are mutable domain objects, so callers always receive copies.
+ */
+@Repository
+@Primary
+public class CachingComboRepository implements ComboRepository {
+    private final ComboRepositoryAdapter delegate;
+    private final Cache<UUID, Optional<Combo>> byId;
+    private final Cache<DateRange, List<Combo>> byDateRange;
+
+    /**
+     * Constructs the caching repository and registers its caches in the meter registry.
+     * @param delegate      The persistence adapter doing the actual database work.
+     * @param meterRegistry The registry where cache statistics are published.
+     * @param maximumSize   The maximum number of entries kept by each cache.
+     * @param timeToLive    How long an entry stays cached after being loaded.
+     */
+    public CachingComboRepository(ComboRepositoryAdapter delegate, MeterRegistry meterRegistry,
+                                  @Value("${combo.cache.maximum-size:1000}") long maximumSize,
+                                  @Value("${combo.cache.time-to-live:60s}") Duration timeToLive) {
+        this.delegate = delegate;
+        this.byId = CaffeineCacheMetrics.monitor(meterRegistry, newCache(maximumSize, timeToLive), "combos.byId");
+        this.byDateRange = CaffeineCacheMetrics.monitor(meterRegistry, newCache(maximumSize, timeToLive), "combos.byDateRange");
+    }
+
+    @Override
+    public Combo save(Combo combo) {
+        Combo saved = delegate.save(combo);
+        evict(combo.getId());
+        return saved;
+    }
+
+    @Override
+    public Optional<Combo> findById(UUID id) {
+        return byId.get(id, delegate::findById).map(CachingComboRepository::copy);
+    }
+
+    @Override
+    public Optional<Combo> findByName(String name) {
+        return delegate.findByName(name);
+    }
+
+    @Override
+    public List<Combo> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public List<Combo> findPage(LocalDate afterValidFrom, UUID afterId, int limit) {
+        return delegate.findPage(afterValidFrom, afterId, limit);
+    }
+
+    @Override
+    public Stream<Combo> streamAll() {
+        return delegate.streamAll();
+    }
+
+    @Override
+    public long count() {
+        return delegate.count();
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        delegate.deleteById(id);
+        evict(id);
+    }
+
+    @Override
+    public boolean existById(UUID id) {
+        return findById(id).isPresent();
+    }
+
+    @Override
+    public List<Combo> findBetweenDates(LocalDate from, LocalDate to) {
+        return byDateRange.get(new DateRange(from, to), range -> List.copyOf(delegate.findBetweenDates(from, to)))
+                .stream()
+                .map(CachingComboRepository::copy)
+                .toList();
+    }
+
+    @Override
+    public Combo findByDate(LocalDate date) {
+        return delegate.findByDate(date);
+    }
+
+    @Override
+    public boolean existsByDate(LocalDate date) {
+        return delegate.existsByDate(date);
+    }
+
+    @Override
+    public boolean updateAvailableQuota(UUID id, int delta) {
+        // Quota moves constantly; readers overlay the live in-memory counter instead of evicting here
+        return delegate.updateAvailableQuota(id, delta);
+    }
+
+    @Override
+    public OptionalInt reserveQuota(UUID id, int units) {
+        return delegate.reserveQuota(id, units);
+    }
+
+    @Override
+    public OptionalInt adjustAvailableQuota(UUID id, int delta) {
+        return delegate.adjustAvailableQuota(id, delta);
+    }
+
+    @Override
+    public Optional<ComboQuotaState> findQuotaState(UUID id) {
+        return delegate.findQuotaState(id);
+    }
+
+    /**
+     * Evicts every entry that may reference the given combo, now and once the transaction completes.
+     */
+    private void evict(UUID id) {
+        invalidate(id);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(id);
+                }
+            });
+        }
+    }
+
+    /**
+     * Date ranges cannot be traced back to a single combo cheaply, and writes are rare,
+     * so that cache is cleared entirely.
+     */
+    private void invalidate(UUID id) {
+        byId.invalidate(id);
+        byDateRange.invalidateAll();
+    }
+
+    private static <K, V> Cache<K, V> newCache(long maximumSize, Duration timeToLive) {
+        return Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+    }
+
+    private static Combo copy(Combo combo) {
+        Combo copy = new Combo(combo.getId(), combo.getType(), combo.getName(), combo.getDescription(),
+                combo.getPrice(), combo.getStatus(), combo.getTotalQuota(), combo.getAvailableQuota(),
+                combo.getValidFrom(), combo.getValidTo());
+        copy.setStatus(combo.getStatus());
+        return copy;
+    }
+
+    /**
+     * Cache key for date-range lookups.
+     */
+    private record DateRange(LocalDate from, LocalDate to) {
+    }
+}
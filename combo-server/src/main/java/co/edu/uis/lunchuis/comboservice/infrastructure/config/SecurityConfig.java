@@ -1,37 +1,74 @@
 package co.edu.uis.lunchuis.comboservice.infrastructure.config;
 
-import io.jsonwebtoken.security.Keys;
+import co.edu.uis.lunchuis.common.security.RevocationList;
+import co.edu.uis.lunchuis.common.security.RevocationListSynchronizer;
+import co.edu.uis.lunchuis.common.security.ServiceTokenProvider;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import jakarta.servlet.DispatcherType;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.client.RestClient;
 
-import javax.crypto.SecretKey;
-import java.nio.charset.StandardCharsets;
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
 
 /**
  * Security configuration for the Combo Service.
  * Configures the service as a stateless OAuth2 Resource Server,
- * validating JWTs signed by the Identity Service.
+ * validating JWTs signed by the Identity Service against its published key set,
+ * and rejecting the tokens it has revoked. Other services authenticate with
+ * short-lived tokens the Identity Service issues them, carrying only the SERVICE role.
  */
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@Slf4j
 public class SecurityConfig {
+    private static final OAuth2Error REVOKED_TOKEN =
+            new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "The token has been revoked", null);
+
     /**
-     * Injects the Base64-encoded secret key from the config-server.
+     * The URI of the Identity Service's JWK Set, from the config-server.
      */
-    @Value("${jwt.secret-key}")
-    private String jwtSigningKey;
+    @Value("${jwt.jwk-set-uri}")
+    private String jwkSetUri;
+
+    @Value("${jwt.jwk-set.cache-ttl:5m}")
+    private Duration jwkSetCacheTtl;
+
+    @Value("${jwt.jwk-set.refresh-ahead:30s}")
+    private Duration jwkSetRefreshAhead;
+
+    @Value("${jwt.jwk-set.outage-tolerance:24h}")
+    private Duration jwkSetOutageTolerance;
 
     /**
      * Configures the main security filter chain.
@@ -46,6 +83,8 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // Configure authorization rules
                 .authorizeHttpRequests(authorize -> authorize
+                        // Async dispatches only finish responses (SSE, NDJSON) already authorized on the request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
                         // Permit access to Swagger UI and API docs
                         .requestMatchers(
                                 "/swagger-ui/**",
@@ -69,19 +108,102 @@ public class SecurityConfig {
     }
 
     /**
-     * Manually creates the JwtDecoder bean.
-     * This replicates the exact Base64 decoding logic from JwtServiceImpl
-     * in the identity-server to ensure keys match.
+     * Creates the cached source of the Identity Service's public keys.
+     * The key set is refreshed in the background before it expires, so key lookups
+     * by ID are served from memory and requests never wait on the Identity Service.
+     * If it is unreachable, the last key set keeps being used for a while.
+     * @return the JWK source.
+     * @throws MalformedURLException if the configured JWK Set URI is not a valid URL.
+     */
+    @Bean
+    public JWKSource<SecurityContext> jwkSource() throws MalformedURLException {
+        return JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL())
+                .cache(jwkSetCacheTtl.toMillis(), JWKSourceBuilder.DEFAULT_CACHE_REFRESH_TIMEOUT)
+                .refreshAheadCache(jwkSetRefreshAhead.toMillis(), true)
+                .outageTolerant(jwkSetOutageTolerance.toMillis())
+                .build();
+    }
+
+    /**
+     * Creates the list of revoked tokens, kept in sync with the Identity Service.
+     * @return the revocation list.
+     */
+    @Bean
+    public RevocationList revocationList() {
+        return new RevocationList();
+    }
+
+    /**
+     * Creates the provider of the tokens this service presents when calling other services.
+     * @param restClientBuilder The builder of the HTTP client.
+     * @param tokenUri          The URI of the Identity Service's service token endpoint.
+     * @param clientId          The name this service identifies itself with.
+     * @param clientSecret      The secret shared with the Identity Service.
+     * @return the service token provider.
      */
     @Bean
-    public JwtDecoder jwtDecoder() {
-        // 1. Decode the Base64 secret key (same as identity-server)
-        byte[] keyBytes = jwtSigningKey.getBytes(StandardCharsets.UTF_8);
-        // 2. Replicate the exact key generation from identity-server to infer the algorithm
-        SecretKey secretKey = Keys.hmacShaKeyFor(keyBytes);
-
-        // 3. Build the decoder
-        return NimbusJwtDecoder.withSecretKey(secretKey).build();
+    public ServiceTokenProvider serviceTokenProvider(RestClient.Builder restClientBuilder,
+                                                     @Value("${jwt.service.token-uri}") String tokenUri,
+                                                     @Value("${spring.application.name}") String clientId,
+                                                     @Value("${jwt.service.secret}") String clientSecret) {
+        return new ServiceTokenProvider(restClientBuilder.build(), tokenUri, clientId, clientSecret);
+    }
+
+    /**
+     * Creates the poller keeping the revocation list in sync with the Identity Service.
+     * @param revocationList       The list checked when validating tokens.
+     * @param restClientBuilder    The builder of the HTTP client.
+     * @param serviceTokenProvider The provider of the token the revocation feed requires.
+     * @param revocationsUri       The URI of the Identity Service's revocation feed.
+     * @param overlap              How far each poll looks back before the previous one.
+     * @return the synchronizer.
+     */
+    @Bean
+    public RevocationListSynchronizer revocationListSynchronizer(RevocationList revocationList,
+                                                                 RestClient.Builder restClientBuilder,
+                                                                 ServiceTokenProvider serviceTokenProvider,
+                                                                 @Value("${jwt.revocations-uri}") String revocationsUri,
+                                                                 @Value("${jwt.revocations.sync-overlap:30s}") Duration overlap) {
+        return new RevocationListSynchronizer(revocationList, restClientBuilder.build(), serviceTokenProvider,
+                revocationsUri, overlap);
+    }
+
+    /**
+     * Creates the JwtDecoder bean, verifying RS256 signatures with the cached key set
+     * and rejecting revoked tokens. Tokens signed with any other algorithm are rejected.
+     * @param jwkSource      The cached source of the Identity Service's public keys.
+     * @param revocationList The list of revoked tokens.
+     * @return the JWT decoder.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource, RevocationList revocationList) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims (expiration, not-before) are validated by the decoder itself
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(),
+                jwt -> revocationList.isRevoked(jwt.getId(), jwt.getSubject(), jwt.getIssuedAt())
+                        ? OAuth2TokenValidatorResult.failure(REVOKED_TOKEN)
+                        : OAuth2TokenValidatorResult.success()));
+        return decoder;
+    }
+
+    /**
+     * Loads the key set once the application is ready, so the first request does not fetch it.
+     * @throws MalformedURLException if the configured JWK Set URI is not a valid URL.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadJwkSet() throws MalformedURLException {
+        try {
+            // Resolves to the singleton bean, since configuration classes are proxied
+            int keys = jwkSource().get(new JWKSelector(new JWKMatcher.Builder().build()), null).size();
+            log.info("Loaded {} token verification key(s) from {}.", keys, jwkSetUri);
+        } catch (KeySourceException ex) {
+            // Loaded on the first request instead
+            log.warn("Could not preload the JWK Set from {}: {}", jwkSetUri, ex.getMessage());
+        }
     }
 
     /**
@@ -1,17 +1,24 @@
 package co.edu.uis.lunchuis.comboservice.infrastructure.persistence.adapter;
 
 import co.edu.uis.lunchuis.comboservice.domain.model.Combo;
+import co.edu.uis.lunchuis.comboservice.domain.model.ComboQuotaState;
 import co.edu.uis.lunchuis.comboservice.domain.repository.ComboRepository;
 import co.edu.uis.lunchuis.comboservice.infrastructure.persistence.entity.ComboEntity;
 import co.edu.uis.lunchuis.comboservice.infrastructure.persistence.mapper.ComboEntityMapper;
 import co.edu.uis.lunchuis.comboservice.infrastructure.persistence.repository.JpaComboRepository;
+import co.edu.uis.lunchuis.common.enums.ComboStatus;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Persistence Adapter that implements the {@link ComboRepository} port.
@@ -22,6 +29,7 @@ import java.util.UUID;
 public class ComboRepositoryAdapter implements ComboRepository {
     private final JpaComboRepository repository;
     private final ComboEntityMapper mapper;
+    private final EntityManager entityManager;
 
     @Override
     public Combo save(Combo combo) {
@@ -47,6 +55,30 @@ public class ComboRepositoryAdapter implements ComboRepository {
         return mapper.toDomainList(repository.findAll());
     }
 
+    @Override
+    public List<Combo> findPage(LocalDate afterValidFrom, UUID afterId, int limit) {
+        List<ComboEntity> entities = (afterValidFrom == null || afterId == null)
+                ? repository.findAllByOrderByValidFromDescIdDesc(Limit.of(limit))
+                : repository.findPageAfter(afterValidFrom, afterId, limit);
+        return mapper.toDomainList(entities);
+    }
+
+    @Override
+    public long count() {
+        return repository.count();
+    }
+
+    @Override
+    public Stream<Combo> streamAll() {
+        return repository.streamAll()
+                .map(entity -> {
+                    Combo combo = mapper.toDomain(entity);
+                    // Keep the persistence context from growing with every streamed row
+                    entityManager.detach(entity);
+                    return combo;
+                });
+    }
+
     @Override
     public void deleteById(UUID id) {
         repository.deleteById(id);
@@ -59,16 +91,44 @@ public class ComboRepositoryAdapter implements ComboRepository {
 
     @Override
     public List<Combo> findBetweenDates(LocalDate from, LocalDate to) {
-        return List.of();
+        return mapper.toDomainList(repository.findOverlapping(from, to));
     }
 
     @Override
     public Combo findByDate(LocalDate date) {
-        return null;
+        return repository.findFirstByValidToGreaterThanEqualAndValidFromLessThanEqualOrderByValidFromDesc(date, date)
+                .map( mapper::toDomain )
+                .orElse(null);
     }
 
     @Override
     public boolean existsByDate(LocalDate date) {
-        return false;
+        return repository.existsByValidToGreaterThanEqualAndValidFromLessThanEqual(date, date);
+    }
+
+    @Override
+    public boolean updateAvailableQuota(UUID id, int delta) {
+        return repository.addToAvailableQuota(id, delta) > 0;
+    }
+
+    @Override
+    public OptionalInt reserveQuota(UUID id, int units) {
+        return repository.decrementAvailableQuota(id, units, ComboStatus.AVAILABLE.ordinal())
+                .map(OptionalInt::of)
+                .orElseGet(OptionalInt::empty);
+    }
+
+    @Override
+    public OptionalInt adjustAvailableQuota(UUID id, int delta) {
+        return repository.addToAvailableQuotaClamped(id, delta)
+                .map(OptionalInt::of)
+                .orElseGet(OptionalInt::empty);
+    }
+
+    @Override
+    public Optional<ComboQuotaState> findQuotaState(UUID id) {
+        return repository.findById(id)
+                .map(entity -> new ComboQuotaState(entity.getId(), BigDecimal.valueOf(entity.getPrice()),
+                        entity.getStatus(), entity.getAvailableQuota(), entity.getAdjustedQuota()));
     }
 }
@@ -0,0 +1,75 @@
+package co.edu.uis.lunchuis.comboservice.infrastructure.persistence.adapter;
+
+import co.edu.uis.lunchuis.comboservice.domain.model.QuotaAdjustment;
+import co.edu.uis.lunchuis.comboservice.domain.repository.QuotaAdjustmentRepository;
+import co.edu.uis.lunchuis.comboservice.infrastructure.persistence.entity.QuotaAdjustmentBatchEntity;
+import co.edu.uis.lunchuis.comboservice.infrastructure.persistence.entity.QuotaAdjustmentResultEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Persistence Adapter that implements the {@link QuotaAdjustmentRepository} port.
+ * The tables are described by {@link QuotaAdjustmentBatchEntity} and {@link QuotaAdjustmentResultEntity};
+ * a batch is recorded with a single conditional insert, so a duplicate is detected without a prior lookup,
+ * and a batch is forgotten together with its outcome in a single statement.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuotaAdjustmentRepositoryAdapter implements QuotaAdjustmentRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO quota_adjustment_batches (batch_id, applied_at) VALUES (?, ?)
+            ON CONFLICT (batch_id) DO NOTHING
+            """;
+    private static final String INSERT_RESULT_SQL =
+            "INSERT INTO quota_adjustment_results (batch_id, combo_id, requested, applied) VALUES (?, ?, ?, ?)";
+    private static final String FIND_RESULTS_SQL =
+            "SELECT combo_id, requested, applied FROM quota_adjustment_results WHERE batch_id = ? ORDER BY id";
+    private static final String DELETE_SQL = """
+            WITH purged AS (DELETE FROM quota_adjustment_batches WHERE applied_at < ? RETURNING batch_id),
+                 results AS (DELETE FROM quota_adjustment_results WHERE batch_id IN (SELECT batch_id FROM purged))
+            SELECT count(*) FROM purged
+            """;
+    private static final RowMapper<QuotaAdjustment> RESULT_ROW_MAPPER = (rs, rowNum) -> new QuotaAdjustment(
+            rs.getObject("combo_id", UUID.class),
+            rs.getInt("requested"),
+            rs.getInt("applied")
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean markApplied(UUID batchId, Instant appliedAt) {
+        return jdbcTemplate.update(INSERT_SQL, batchId, Timestamp.from(appliedAt)) > 0;
+    }
+
+    @Override
+    public void saveResults(UUID batchId, List<QuotaAdjustment> adjustments) {
+        if (adjustments.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_RESULT_SQL, adjustments, adjustments.size(), (ps, adjustment) -> {
+            ps.setObject(1, batchId);
+            ps.setObject(2, adjustment.comboId());
+            ps.setInt(3, adjustment.requested());
+            ps.setInt(4, adjustment.applied());
+        });
+    }
+
+    @Override
+    public List<QuotaAdjustment> findResults(UUID batchId) {
+        return jdbcTemplate.query(FIND_RESULTS_SQL, RESULT_ROW_MAPPER, batchId);
+    }
+
+    @Override
+    public int deleteAppliedBefore(Instant before) {
+        Integer purged = jdbcTemplate.queryForObject(DELETE_SQL, Integer.class, Timestamp.from(before));
+        return purged != null ? purged : 0;
+    }
+}
@@ -6,6 +6,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Data;
@@ -15,7 +16,12 @@ import java.time.LocalDate;
 import java.util.UUID;
 
 @Entity
-@Table(name = "combos")
+// valid_to leads the index: almost every combo in the history has already expired,
+// so date-range lookups around today only scan the few rows that are still valid.
+@Table(name = "combos", indexes = {
+        @Index(name = "idx_combos_validity", columnList = "valid_to, valid_from"),
+        @Index(name = "idx_combos_listing", columnList = "valid_from, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -26,7 +32,7 @@ public class ComboEntity {
             example = "f47ac10b-58cc-4372-a567-0e02")
     private UUID id;
 
-    @Column(nullable = false)
+    @Column(nullable = false, unique = true)
     private String name;
 
     private String description;
@@ -43,9 +49,16 @@ public class ComboEntity {
     @Column(name="total_quota", nullable = false)
     private Integer totalQuota;
 
-    @Column(name="available_quota", nullable = false)
+    // Only written on insert; afterwards it is changed through relative updates so that
+    // concurrent reservations and admin edits never overwrite each other.
+    @Column(name="available_quota", nullable = false, updatable = false)
     private Integer availableQuota;
 
+    // Net change applied by quota adjustment batches; only ever changed together with available_quota
+    @Column(name="adjusted_quota", nullable = false, updatable = false,
+            columnDefinition = "integer not null default 0")
+    private Integer adjustedQuota = 0;
+
     @Column(name="valid_from", nullable = false)
     private LocalDate validFrom;
 
@@ -0,0 +1,31 @@
+package co.edu.uis.lunchuis.comboservice.infrastructure.persistence.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "quota_adjustment_batches", indexes = {
+        @Index(name = "idx_quota_adjustment_batches_applied_at", columnList = "applied_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Represents a quota adjustment batch already applied, stored in the database.")
+public class QuotaAdjustmentBatchEntity {
+    @Id
+    @Column(name = "batch_id")
+    private UUID batchId;
+
+    @Column(name = "applied_at", nullable = false)
+    private Instant appliedAt;
+}
@@ -0,0 +1,41 @@
+package co.edu.uis.lunchuis.comboservice.infrastructure.persistence.entity;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Entity
+@Table(name = "quota_adjustment_results", indexes = {
+        @Index(name = "idx_quota_adjustment_results_batch_id", columnList = "batch_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "Represents the outcome of one change of an applied quota adjustment batch, stored in the database.")
+public class QuotaAdjustmentResultEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "batch_id", nullable = false, updatable = false)
+    private UUID batchId;
+
+    @Column(name = "combo_id", nullable = false, updatable = false)
+    private UUID comboId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer requested;
+
+    @Column(nullable = false, updatable = false)
+    private Integer applied;
+}
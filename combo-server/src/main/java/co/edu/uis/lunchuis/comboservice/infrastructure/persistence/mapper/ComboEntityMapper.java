@@ -4,6 +4,7 @@ import co.edu.uis.lunchuis.comboservice.domain.model.Combo;
 import co.edu.uis.lunchuis.comboservice.infrastructure.persistence.entity.ComboEntity;
 import co.edu.uis.lunchuis.common.mapper.BaseEntityMapper;
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 
 import java.util.List;
 
@@ -27,4 +28,14 @@ public interface ComboEntityMapper extends BaseEntityMapper<Combo, ComboEntity>
      * @return a list of {@link ComboEntity} instances corresponding to the provided {@link Combo} objects.
      */
     List<ComboEntity> toEntityList(List<Combo> combos);
+
+    /**
+     * Maps a {@link Combo} domain model to a {@link ComboEntity}. The adjusted quota is only
+     * written by quota adjustments, so new combos start at zero.
+     * @param domain the {@link Combo} to map.
+     * @return the corresponding {@link ComboEntity}.
+     */
+    @Override
+    @Mapping(target = "adjustedQuota", ignore = true)
+    ComboEntity toEntity(Combo domain);
 }
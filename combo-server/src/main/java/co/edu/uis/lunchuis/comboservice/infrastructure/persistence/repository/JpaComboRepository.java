@@ -1,11 +1,22 @@
 package co.edu.uis.lunchuis.comboservice.infrastructure.persistence.repository;
 
 import co.edu.uis.lunchuis.comboservice.infrastructure.persistence.entity.ComboEntity;
+import org.hibernate.jpa.HibernateHints;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Spring Data JPA repository for the {@link ComboEntity}.
@@ -19,4 +30,113 @@ public interface JpaComboRepository extends JpaRepository<ComboEntity, UUID> {
      * @return an Optional containing the ComboEntity if found.
      */
     Optional<ComboEntity> findByName(String name);
+
+    /**
+     * Finds every combo whose validity range overlaps the given range.
+     * @param from The first date of the range (inclusive).
+     * @param to The last date of the range (inclusive).
+     * @return the matching combos ordered by their start date.
+     */
+    @Query("SELECT c FROM ComboEntity c WHERE c.validTo >= :from AND c.validFrom <= :to ORDER BY c.validFrom, c.id")
+    List<ComboEntity> findOverlapping(@Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    /**
+     * Finds the first page of combos, newest first.
+     * @param limit The maximum number of combos to return.
+     * @return the combos ordered by start date and ID, descending.
+     */
+    List<ComboEntity> findAllByOrderByValidFromDescIdDesc(Limit limit);
+
+    /**
+     * Finds the page of combos that comes right after the given keyset, newest first.
+     * The keyset is compared as a row value, so the listing index bounds the scan.
+     * @param validFrom The start date of the last combo of the previous page.
+     * @param id The ID of the last combo of the previous page.
+     * @param limit The maximum number of combos to return.
+     * @return the combos ordered by start date and ID, descending.
+     */
+    @Query(value = """
+            SELECT * FROM combos
+            WHERE (valid_from, id) < (:validFrom, :id)
+            ORDER BY valid_from DESC, id DESC
+            LIMIT :limit""", nativeQuery = true)
+    List<ComboEntity> findPageAfter(@Param("validFrom") LocalDate validFrom, @Param("id") UUID id,
+                                    @Param("limit") int limit);
+
+    /**
+     * Streams every combo, newest first, reading rows from a database cursor in small batches.
+     * The stream must be consumed inside a transaction and closed afterwards.
+     * @return a stream over all combos.
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT c FROM ComboEntity c ORDER BY c.validFrom DESC, c.id DESC")
+    Stream<ComboEntity> streamAll();
+
+    /**
+     * Finds the most recently started combo that is valid on the given date.
+     * @param date The date to check.
+     * @param sameDate The same date, bound to the other end of the validity range.
+     * @return an Optional containing the ComboEntity if found.
+     */
+    Optional<ComboEntity> findFirstByValidToGreaterThanEqualAndValidFromLessThanEqualOrderByValidFromDesc(
+            LocalDate date, LocalDate sameDate);
+
+    /**
+     * Checks whether any combo is valid on the given date.
+     * @param date The date to check.
+     * @param sameDate The same date, bound to the other end of the validity range.
+     * @return true if at least one combo is valid on that date.
+     */
+    boolean existsByValidToGreaterThanEqualAndValidFromLessThanEqual(LocalDate date, LocalDate sameDate);
+
+    /**
+     * Adds a delta to the available quota of a combo in a single relative update,
+     * keeping it between zero and the total quota. The row is locked while the bounds are
+     * checked, so reservations committed meanwhile cannot push the stored value out of range.
+     * @param id The ID of the combo.
+     * @param delta The number of units to add (positive) or remove (negative).
+     * @return the number of updated rows (0 if the combo does not exist).
+     */
+    @Transactional
+    @Modifying
+    @Query("""
+            UPDATE ComboEntity c SET c.availableQuota = least(greatest(c.availableQuota + :delta, 0), c.totalQuota)
+            WHERE c.id = :id""")
+    int addToAvailableQuota(@Param("id") UUID id, @Param("delta") int delta);
+
+    /**
+     * Takes units from the available quota of a combo with a single guarded statement,
+     * returning the remaining quota in the same round trip.
+     * The status is compared by ordinal because {@link ComboEntity#getStatus()} is stored as such.
+     * @param id The ID of the combo.
+     * @param units The number of units to reserve.
+     * @param availableStatus The ordinal of the status that accepts reservations.
+     * @return the remaining quota, or an empty Optional if the combo is missing, not available or sold out.
+     */
+    @Transactional
+    @Query(value = """
+            UPDATE combos SET available_quota = available_quota - :units
+            WHERE id = :id AND available_quota >= :units AND status = :status
+            RETURNING available_quota""", nativeQuery = true)
+    Optional<Integer> decrementAvailableQuota(@Param("id") UUID id, @Param("units") int units,
+                                              @Param("status") int availableStatus);
+
+    /**
+     * Adds a delta to the available quota of a combo, keeping it between zero and the
+     * total quota, adds the change actually applied to the adjusted quota, and returns
+     * that change in the same round trip.
+     * @param id The ID of the combo.
+     * @param delta The number of units to add (positive) or remove (negative).
+     * @return the applied change, or an empty Optional if the combo does not exist.
+     */
+    @Transactional
+    @Query(value = """
+            WITH target AS (SELECT id, available_quota FROM combos WHERE id = :id FOR UPDATE)
+            UPDATE combos c SET available_quota = LEAST(GREATEST(t.available_quota + :delta, 0), c.total_quota),
+                adjusted_quota = c.adjusted_quota
+                        + LEAST(GREATEST(t.available_quota + :delta, 0), c.total_quota) - t.available_quota
+            FROM target t
+            WHERE c.id = t.id
+            RETURNING c.available_quota - t.available_quota""", nativeQuery = true)
+    Optional<Integer> addToAvailableQuotaClamped(@Param("id") UUID id, @Param("delta") int delta);
 }
@@ -1,19 +1,39 @@
 package co.edu.uis.lunchuis.comboservice.web;
 
 import co.edu.uis.lunchuis.comboservice.application.dto.request.ComboRequestDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.request.ReservationRequestDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.response.ComboPageResponseDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.response.ComboQuotaStateDTO;
 import co.edu.uis.lunchuis.comboservice.application.dto.response.ComboResponseDTO;
+import co.edu.uis.lunchuis.comboservice.application.dto.response.MenuSnapshot;
+import co.edu.uis.lunchuis.comboservice.application.dto.response.ReservationResponseDTO;
 import co.edu.uis.lunchuis.comboservice.application.service.ComboService;
+import co.edu.uis.lunchuis.comboservice.application.service.MenuService;
 import co.edu.uis.lunchuis.common.dto.MessageResponse;
+import co.edu.uis.lunchuis.common.dto.QuotaAdjustmentBatchDTO;
+import co.edu.uis.lunchuis.common.dto.QuotaAdjustmentResultDTO;
+import co.edu.uis.lunchuis.common.exception.InvalidRequestException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
@@ -23,7 +43,12 @@ import java.util.UUID;
 @SecurityRequirement(name = "bearerAuth")
 @Tag(name = "Combos", description = "Endpoints for CRUD combos.")
 public class ComboController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ComboService comboService;
+    private final MenuService menuService;
+    private final ComboStreamBroadcaster comboStreamBroadcaster;
+    private final ObjectMapper objectMapper;
 
     @Operation(summary = "Create a new Combo", description = "Creates a new combo offering. Requires ADMIN role.")
     @PostMapping
@@ -33,18 +58,92 @@ public class ComboController {
         return new ResponseEntity<>(createdCombo, HttpStatus.CREATED);
     }
 
-    @Operation(summary = "Get Combo by ID", description = "Retrieves a specific combo by its unique ID. Requires ADMIN role.")
+    @Operation(summary = "Get Combo by ID",
+            description = "Retrieves a specific combo by its unique ID. Requires ADMIN role or a service token.")
     @GetMapping("/{id}")
-    @PreAuthorize("hasRole('ADMIN')")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SERVICE')")
     public ResponseEntity<ComboResponseDTO> getComboById(@PathVariable UUID id) {
         return ResponseEntity.ok(comboService.getComboById(id));
     }
 
-    @Operation(summary = "Get all Combos", description = "Retrieves a list of all combo offerings. Requires ADMIN role.")
+    @Operation(summary = "Get the stored quota of a Combo",
+            description = "Retrieves the available quota of a combo together with the net change applied by quota "
+                    + "adjustments, read from the same stored version. Requires ADMIN role or a service token.")
+    @GetMapping("/{id}/quota-state")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SERVICE')")
+    public ResponseEntity<ComboQuotaStateDTO> getQuotaState(@PathVariable UUID id) {
+        return ResponseEntity.ok(comboService.getQuotaState(id));
+    }
+
+    @Operation(summary = "Get all Combos",
+            description = "Retrieves combo offerings page by page, newest first. Pass the " + NEXT_CURSOR_HEADER
+                    + " response header as 'after' to get the next page. When 'from' and 'to' are given, "
+                    + "retrieves only the combos valid between those dates instead. Requires ADMIN role.")
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ComboResponseDTO>> getAllCombos() {
-        return ResponseEntity.ok(comboService.getAllCombos());
+    public ResponseEntity<List<ComboResponseDTO>> getAllCombos(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int limit) {
+        if (from == null && to == null) {
+            ComboPageResponseDTO page = comboService.getCombosPage(after, limit);
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+            if (page.nextCursor() != null) {
+                response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+            }
+            return response.body(page.items());
+        }
+        if (from == null || to == null) {
+            throw new InvalidRequestException("Both 'from' and 'to' dates are required to filter combos.");
+        }
+        return ResponseEntity.ok(comboService.getCombosBetween(from, to));
+    }
+
+    @Operation(summary = "Count Combos",
+            description = "Retrieves the number of combo offerings, the total of the pages listed above. Requires ADMIN role.")
+    @GetMapping("/count")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Long> countCombos() {
+        return ResponseEntity.ok(comboService.countCombos());
+    }
+
+    @Operation(summary = "Stream all Combos",
+            description = "Streams every combo as newline-delimited JSON, newest first, as rows are read. Requires ADMIN role.")
+    @GetMapping(produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> streamAllCombos() {
+        StreamingResponseBody body = out -> comboService.streamAllCombos(combo -> writeLine(out, combo));
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @Operation(summary = "Stream Combo changes",
+            description = "Opens a Server-Sent Events stream that pushes a 'combo' event with the combo id, "
+                    + "available quota and status whenever they change.")
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComboChanges() {
+        return comboStreamBroadcaster.subscribe();
+    }
+
+    @Operation(summary = "Get today's Combos",
+            description = "Retrieves the combos valid today (today's menu). Supports If-None-Match: "
+                    + "an unchanged menu answers 304 Not Modified without a body.")
+    @GetMapping(value = "/today", produces = MediaType.APPLICATION_JSON_VALUE)
+    public ResponseEntity<byte[]> getTodayCombos(WebRequest request) {
+        MenuSnapshot menu = menuService.getTodayMenu();
+        if (request.checkNotModified(menu.etag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(menu.etag())
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(menu.etag())
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(menu.body());
     }
 
     @Operation(summary = "Update an existing Combo", description = "Updates a combo by its ID. Requires ADMIN role.")
@@ -62,4 +161,35 @@ public class ComboController {
         return ResponseEntity.ok(new MessageResponse("Combo with ID " + id + " deleted successfully."));
     }
 
+    @Operation(summary = "Reserve units of a Combo",
+            description = "Takes units from the combo's available quota. Returns 409 when the combo is sold out. "
+                    + "Requires ADMIN role or a service token.")
+    @PostMapping("/{id}/reservations")
+    @PreAuthorize("hasAnyRole('ADMIN', 'SERVICE')")
+    public ResponseEntity<ReservationResponseDTO> reserveCombo(@PathVariable UUID id,
+                                                               @Valid @RequestBody ReservationRequestDTO requestDTO) {
+        return new ResponseEntity<>(comboService.reserveCombo(id, requestDTO), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Apply quota adjustments",
+            description = "Applies the net quota change of each combo in a batch, all or nothing. A batch already "
+                    + "applied is skipped and answers its original results. Requires a service token.")
+    @PostMapping("/quota-adjustments")
+    @PreAuthorize("hasRole('SERVICE')")
+    public ResponseEntity<List<QuotaAdjustmentResultDTO>> applyQuotaAdjustments(
+            @Valid @RequestBody QuotaAdjustmentBatchDTO batch) {
+        return ResponseEntity.ok(comboService.applyQuotaAdjustments(batch));
+    }
+
+    /**
+     * Writes a combo as a single JSON line.
+     */
+    private void writeLine(OutputStream out, ComboResponseDTO combo) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(combo));
+            out.write('\n');
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
 }
@@ -0,0 +1,180 @@
+package co.edu.uis.lunchuis.comboservice.web;
+
+import co.edu.uis.lunchuis.comboservice.application.dto.response.ComboQuotaEventDTO;
+import co.edu.uis.lunchuis.comboservice.application.event.ComboChangedEvent;
+import co.edu.uis.lunchuis.comboservice.application.service.QuotaService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Pushes combo quota and status changes to Server-Sent Events subscribers.
+ * Changes are coalesced per combo and flushed every {@code combo.stream.flush-interval-ms},
+ * so each combo produces at most one event per tick no matter how many reservations
+ * happen in between. The quota sent is read from the in-memory counter at flush time:
+ * events carry the value read before their transaction committed, so concurrent
+ * reservations committing out of order could otherwise leave an older value behind.
+ * Every subscriber gets its own virtual thread that drains a small bounded queue:
+ * idle connections cost no platform thread, and a slow client only delays itself.
+ * Subscribers whose queue overflows are disconnected and can reconnect.
+ */
+@Component
+@Slf4j
+public class ComboStreamBroadcaster {
+    private static final int SUBSCRIBER_QUEUE_CAPACITY = 32;
+    private static final List<ComboQuotaEventDTO> HEARTBEAT = List.of();
+
+    private final QuotaService quotaService;
+    private final Duration timeout;
+    private final Map<UUID, ComboQuotaEventDTO> pending = new ConcurrentHashMap<>();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructs the broadcaster.
+     * @param quotaService The service holding the current quota of each combo.
+     * @param timeout      How long a subscription stays open before the client has to reconnect.
+     */
+    public ComboStreamBroadcaster(QuotaService quotaService, @Value("${combo.stream.timeout:30m}") Duration timeout) {
+        this.quotaService = quotaService;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Opens a new subscription.
+     * @return the emitter bound to the subscriber's response.
+     */
+    public SseEmitter subscribe() {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Subscriber subscriber = new Subscriber(emitter);
+        subscribers.add(subscriber);
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(ex -> subscriber.close());
+        subscriber.start();
+        return emitter;
+    }
+
+    /**
+     * Records the latest state of a changed combo, once its change is committed.
+     * @param event The change notification.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onComboChanged(ComboChangedEvent event) {
+        ComboQuotaEventDTO delta = new ComboQuotaEventDTO(event.comboId(), event.availableQuota(), event.status());
+        pending.merge(event.comboId(), delta, ComboQuotaEventDTO::merge);
+    }
+
+    /**
+     * Sends the coalesced changes accumulated since the previous tick to every subscriber.
+     */
+    @Scheduled(fixedRateString = "${combo.stream.flush-interval-ms:500}")
+    public void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<ComboQuotaEventDTO> batch = new ArrayList<>(pending.size());
+        for (UUID comboId : pending.keySet()) {
+            ComboQuotaEventDTO delta = pending.remove(comboId);
+            if (delta != null) {
+                // Untracked combos (e.g. just deleted) keep the value of their event
+                OptionalInt current = quotaService.getAvailableQuota(comboId);
+                Integer availableQuota = current.isPresent() ? current.getAsInt() : delta.availableQuota();
+                batch.add(new ComboQuotaEventDTO(comboId, availableQuota, delta.status()));
+            }
+        }
+        if (!batch.isEmpty()) {
+            subscribers.forEach(subscriber -> subscriber.offer(batch));
+        }
+    }
+
+    /**
+     * Keeps idle connections open through proxies that drop silent streams.
+     */
+    @Scheduled(fixedRateString = "${combo.stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    /**
+     * Closes every open subscription before the application stops.
+     */
+    @PreDestroy
+    public void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * A connected client with its own queue of pending batches.
+     */
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<List<ComboQuotaEventDTO>> queue = new ArrayBlockingQueue<>(SUBSCRIBER_QUEUE_CAPACITY);
+        private volatile Thread writer;
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        private void start() {
+            writer = Thread.ofVirtual().name("combo-stream-writer").start(this::run);
+        }
+
+        private void offer(List<ComboQuotaEventDTO> batch) {
+            if (!queue.offer(batch)) {
+                log.debug("Combo stream subscriber is too slow; disconnecting it.");
+                close();
+                emitter.complete();
+            }
+        }
+
+        /**
+         * Unregisters the subscriber and stops its writer thread.
+         */
+        private void close() {
+            subscribers.remove(this);
+            if (writer != null) {
+                writer.interrupt();
+            }
+        }
+
+        private void run() {
+            try {
+                while (subscribers.contains(this)) {
+                    List<ComboQuotaEventDTO> batch = queue.take();
+                    if (batch.isEmpty()) {
+                        emitter.send(SseEmitter.event().comment("keep-alive"));
+                        continue;
+                    }
+                    for (ComboQuotaEventDTO delta : batch) {
+                        emitter.send(SseEmitter.event()
+                                .name("combo")
+                                .data(delta, MediaType.APPLICATION_JSON));
+                    }
+                }
+            } catch (IOException | IllegalStateException ex) {
+                subscribers.remove(this);
+                emitter.completeWithError(ex);
+            } catch (InterruptedException ex) {
+                // Closed while waiting for the next batch
+                subscribers.remove(this);
+            }
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package co.edu.uis.lunchuis.common.batch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Bounded queue drained in micro-batches by a few background threads.
+ * Each thread waits for a first item, then gathers more until the batch holds
+ * {@code batchSize} items or that first item has waited {@code maxDelay}, and hands
+ * the batch to the writer. Under load, batches grow instead of writes queueing up.
+ * Producers only pay for a queue insertion and are turned away when it stays full.
+ * On shutdown the threads stop taking new items and write whatever is still queued.
+ * The writer handles its own failures; one that escapes is logged and its batch dropped,
+ * so a bad batch never stops a thread.
+ * @param <T> the type of the queued items
+ */
+public class BatchingWorker<T> {
+    private static final Logger log = LoggerFactory.getLogger(BatchingWorker.class);
+
+    private final BlockingQueue<T> queue;
+    private final int batchSize;
+    private final long maxDelayNanos;
+    private final Consumer<List<T>> writer;
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running = true;
+
+    /**
+     * Constructs the worker and starts its threads.
+     * @param name      The name of the threads, followed by their number.
+     * @param capacity  The maximum number of items waiting to be written.
+     * @param batchSize The maximum number of items handed to the writer at once.
+     * @param maxDelay  The maximum time the first item of a batch waits for others.
+     * @param threads   The number of batches written concurrently.
+     * @param writer    Writes a batch. The list is only valid during the call.
+     */
+    public BatchingWorker(String name, int capacity, int batchSize, Duration maxDelay, int threads,
+                          Consumer<List<T>> writer) {
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.maxDelayNanos = maxDelay.toNanos();
+        this.writer = writer;
+        for (int i = 1; i <= threads; i++) {
+            Thread thread = new Thread(this::run, name + "-" + i);
+            thread.setDaemon(true);
+            thread.start();
+            this.threads.add(thread);
+        }
+    }
+
+    /**
+     * Queues an item without waiting.
+     * @param item The item to write.
+     * @return true if the item was queued, false if the queue is full or the worker stopped.
+     */
+    public boolean offer(T item) {
+        return running && queue.offer(item);
+    }
+
+    /**
+     * Queues an item, waiting up to the given time for room in a full queue.
+     * @param item    The item to write.
+     * @param timeout How long to wait for room.
+     * @return true if the item was queued, false if the queue stayed full or the worker stopped.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public boolean offer(T item, Duration timeout) throws InterruptedException {
+        return running && queue.offer(item, timeout.toNanos(), TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the number of items waiting to be written.
+     * @return the size of the queue.
+     */
+    public int size() {
+        return queue.size();
+    }
+
+    /**
+     * Stops the threads once every queued item has been written.
+     * @param timeout How long to wait for each thread.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    public void shutdown(Duration timeout) throws InterruptedException {
+        running = false;
+        threads.forEach(Thread::interrupt);
+        for (Thread thread : threads) {
+            thread.join(timeout.toMillis());
+        }
+    }
+
+    /**
+     * Thread loop: waits for a first item, then gathers more until the batch is full
+     * or the first item has waited for the maximum delay.
+     */
+    private void run() {
+        List<T> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                batch.add(queue.take());
+                long deadline = System.nanoTime() + maxDelayNanos;
+                while (batch.size() < batchSize) {
+                    queue.drainTo(batch, batchSize - batch.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (batch.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+                    T next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                write(batch);
+            }
+        } catch (InterruptedException ex) {
+            // Shutting down: whatever is still queued is written below
+        }
+        queue.drainTo(batch);
+        while (!batch.isEmpty()) {
+            write(batch.subList(0, Math.min(batchSize, batch.size())));
+        }
+    }
+
+    /**
+     * Hands a batch to the writer and empties it, whether it could be written or not.
+     */
+    private void write(List<T> batch) {
+        try {
+            writer.accept(batch);
+        } catch (RuntimeException ex) {
+            log.error("Could not write a batch of {} item(s): {}", batch.size(), ex.getMessage(), ex);
+        }
+        batch.clear();
+    }
+}
@@ -0,0 +1,26 @@
+package co.edu.uis.lunchuis.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A batch of quota adjustments sent by the Order Service. The batch ID makes
+ * the batch idempotent: sending it again after a lost response has no effect.
+ * @param batchId     The unique identifier of the batch, kept when it is resent.
+ * @param adjustments The net change for each combo, at most one per combo.
+ */
+@Schema(name = "QuotaAdjustmentBatch", description = "An idempotent batch of quota adjustments")
+public record QuotaAdjustmentBatchDTO(
+        @Schema(description = "ID of the batch, kept when it is resent", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Batch id is required")
+        UUID batchId,
+        @Schema(description = "Net change for each combo", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotEmpty(message = "Adjustments are required")
+        List<@Valid QuotaAdjustmentDTO> adjustments
+) {
+}
@@ -0,0 +1,24 @@
+package co.edu.uis.lunchuis.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+
+import java.util.UUID;
+
+/**
+ * A net change to the available quota of a combo, accumulated from the orders
+ * placed and cancelled since the previous batch.
+ * @param comboId The ID of the combo.
+ * @param delta   The number of units to add (positive) or take (negative).
+ */
+@Schema(name = "QuotaAdjustment", description = "A net change to the available quota of a combo")
+public record QuotaAdjustmentDTO(
+        @Schema(description = "ID of the combo", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Combo id is required")
+        UUID comboId,
+        @Schema(description = "Units to add (positive) or take (negative)", example = "-12",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Delta is required")
+        Integer delta
+) {
+}
@@ -0,0 +1,24 @@
+package co.edu.uis.lunchuis.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.UUID;
+
+/**
+ * The outcome of a quota adjustment. The available quota never drops below zero
+ * nor exceeds the total quota, so the applied change may be smaller than the
+ * requested one; a shortfall on a negative delta means those units were oversold.
+ * @param comboId   The ID of the combo.
+ * @param requested The change that was requested.
+ * @param applied   The change that was actually applied.
+ */
+@Schema(name = "QuotaAdjustmentResult", description = "The outcome of a quota adjustment")
+public record QuotaAdjustmentResultDTO(
+        @Schema(description = "ID of the combo")
+        UUID comboId,
+        @Schema(description = "Change that was requested", example = "-12")
+        Integer requested,
+        @Schema(description = "Change that was actually applied", example = "-10")
+        Integer applied
+) {
+}
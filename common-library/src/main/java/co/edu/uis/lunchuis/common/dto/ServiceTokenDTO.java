@@ -0,0 +1,20 @@
+package co.edu.uis.lunchuis.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * An access token issued by the Identity Service to another service. It carries only
+ * the {@code SERVICE} role and is verified like any other access token.
+ * @param token     The RS256-signed access token.
+ * @param expiresAt When the token expires, so the caller can renew it ahead of time.
+ */
+@Schema(name = "ServiceToken", description = "An access token issued to a service")
+public record ServiceTokenDTO(
+        @Schema(description = "The access token", example = "eyJhbGciOiJSUzI1NiIsImtpZCI6IjRmMm...")
+        String token,
+        @Schema(description = "When the token expires")
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,21 @@
+package co.edu.uis.lunchuis.common.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * The credentials a service presents to the Identity Service to obtain a service token.
+ * @param clientId     The name of the calling service.
+ * @param clientSecret The secret shared with the Identity Service through the config-server.
+ */
+@Schema(name = "ServiceTokenRequest", description = "Client credentials of a service")
+public record ServiceTokenRequestDTO(
+        @Schema(description = "Name of the calling service", example = "order-service",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "Client id is required")
+        String clientId,
+        @Schema(description = "Secret of the calling service", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "Client secret is required")
+        String clientSecret
+) {
+}
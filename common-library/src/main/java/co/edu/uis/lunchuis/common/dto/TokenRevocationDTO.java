@@ -0,0 +1,28 @@
+package co.edu.uis.lunchuis.common.dto;
+
+import co.edu.uis.lunchuis.common.enums.RevocationType;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+
+/**
+ * A token revocation published by the Identity Service, so every service can
+ * reject revoked tokens before they expire.
+ * @param type      What the revocation applies to.
+ * @param id        The revoked token ID, or the institutional code of the revoked user.
+ * @param revokedAt When the revocation happened; for a user, tokens issued up to then are rejected.
+ * @param expiresAt When every token it applies to has expired, so it can be forgotten.
+ */
+@Schema(name = "TokenRevocation", description = "A token revocation, kept until the tokens it applies to expire")
+public record TokenRevocationDTO(
+        @Schema(description = "What the revocation applies to", example = "TOKEN")
+        RevocationType type,
+        @Schema(description = "The revoked token ID, or the institutional code of the revoked user",
+                example = "0b5f3a7e-8f21-4a55-9d5a-3c3f1d6e2b10")
+        String id,
+        @Schema(description = "When the revocation happened")
+        Instant revokedAt,
+        @Schema(description = "When the revocation can be forgotten")
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,13 @@
+package co.edu.uis.lunchuis.common.enums;
+
+/**
+ * Represents the status of an order. The OrderStatus enum defines three possible states:
+ * - PENDING: Indicates that the order was accepted and is waiting for the Combo Service to confirm its units.
+ * - PLACED: Indicates that the order was accepted and its units were taken from the combo's quota.
+ * - CANCELLED: Indicates that the order was cancelled and its units were given back.
+ */
+public enum OrderStatus {
+    PENDING,
+    PLACED,
+    CANCELLED
+}
@@ -0,0 +1,13 @@
+package co.edu.uis.lunchuis.common.enums;
+
+/**
+ * Represents what a token revocation applies to. The RevocationType
+ * enum defines two possible targets:
+ * - TOKEN: A single token, or a whole refresh token family, identified by its ID.
+ * - SUBJECT: Every token issued to a user, identified by its institutional code,
+ *   up to the moment of the revocation.
+ */
+public enum RevocationType {
+    TOKEN,
+    SUBJECT
+}
@@ -8,8 +8,11 @@ package co.edu.uis.lunchuis.common.enums;
  * Enum Constants:
  * - STUDENT: Represents a user role of a student, typically with limited access permissions.
  * - ADMIN: Represents a user role of an administrator, typically with elevated access permissions.
+ * - SERVICE: Represents another service calling on its own behalf. It is only granted to the tokens
+ *   the Identity Service issues to services, and is never assigned to a user.
  */
 public enum RoleType {
     STUDENT,
-    ADMIN
+    ADMIN,
+    SERVICE
 }
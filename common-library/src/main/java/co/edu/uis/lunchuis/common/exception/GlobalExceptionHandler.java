@@ -9,6 +9,7 @@ import org.springframework.http.HttpStatusCode;
 import org.springframework.http.ResponseEntity;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -52,6 +53,31 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorResponse, ex.getStatus());
     }
 
+    /**
+     * Handles requests shed because the service is at capacity.
+     * Returns the standardized ErrorResponse with HTTP status 503 (Service Unavailable)
+     * and a Retry-After header telling the client when to try again.
+     * @param ex      The caught {@link ServiceBusyException}.
+     * @param request The current web request.
+     * @return A {@link ResponseEntity} containing the standardized {@link ErrorResponse}.
+     */
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResponse> handleServiceBusy(ServiceBusyException ex, WebRequest request) {
+        log.warn("Request shed: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                Instant.now(),
+                ex.getStatus().value(),
+                ex.getCode(),
+                ex.getMessage(),
+                getPath(request)
+        );
+        // Retry-After is expressed in whole seconds; round up so clients never retry too early
+        long seconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .body(errorResponse);
+    }
+
     /**
      * Handles Spring Security authentication failures, such as invalid credentials.
      * Returns a standardized ErrorResponse with HTTP status 401 (Unauthorized).
@@ -69,6 +95,23 @@ public class GlobalExceptionHandler extends ResponseEntityExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.UNAUTHORIZED);
     }
 
+    /**
+     * Handles logins of disabled accounts.
+     * Returns a standardized ErrorResponse with HTTP status 403 (Forbidden).
+     */
+    @ExceptionHandler(DisabledException.class)
+    public ResponseEntity<ErrorResponse> handleDisabled(DisabledException ex, WebRequest request) {
+        log.warn("Authentication failed: {}", ex.getMessage());
+        ErrorResponse errorResponse = new ErrorResponse(
+                Instant.now(),
+                HttpStatus.FORBIDDEN.value(),
+                "ACCOUNT_DISABLED",
+                "The account is disabled",
+                getPath(request)
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.FORBIDDEN);
+    }
+
     /**
      * Handles @Valid annotation failures (MethodArgumentNotValidException).
      * This method is overridden from ResponseEntityExceptionHandler to provide
@@ -0,0 +1,23 @@
+package co.edu.uis.lunchuis.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+/**
+ * Exception thrown when a reservation cannot be fulfilled because
+ * the requested resource has no quota left (e.g., a sold-out combo).
+ */
+public class QuotaExhaustedException extends DomainException {
+    /**
+     * Constructs a new QuotaExhaustedException for the given resource.
+     * This exception indicates that the request is valid but conflicts with
+     * the current availability of the resource.
+     * @param resource the name of the resource without enough quota
+     * @param field the name of the field identifying the resource
+     * @param value the value of the identifying field
+     */
+    public QuotaExhaustedException(String resource, String field, Object value) {
+        super("QUOTA_EXHAUSTED",
+                String.format("%s with %s: %s does not have enough quota left", resource, field, value),
+                HttpStatus.CONFLICT);
+    }
+}
@@ -0,0 +1,31 @@
+package co.edu.uis.lunchuis.common.exception;
+
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+
+/**
+ * Exception thrown when a request is shed because the service is at capacity
+ * (e.g., its password hashing queue is full). The client may retry the same
+ * request after the suggested delay.
+ */
+public class ServiceBusyException extends DomainException {
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new ServiceBusyException for the given operation.
+     * @param operation  the name of the operation that could not be accepted
+     * @param retryAfter the delay after which the client should retry
+     */
+    public ServiceBusyException(String operation, Duration retryAfter) {
+        super("SERVICE_BUSY",
+                String.format("The service is too busy to %s right now. Please retry in a moment", operation),
+                HttpStatus.SERVICE_UNAVAILABLE);
+        this.retryAfter = retryAfter;
+    }
+
+    // --- Getters ---
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
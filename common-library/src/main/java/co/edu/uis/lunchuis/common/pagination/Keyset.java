@@ -0,0 +1,49 @@
+package co.edu.uis.lunchuis.common.pagination;
+
+import co.edu.uis.lunchuis.common.exception.InvalidRequestException;
+
+import java.time.DateTimeException;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * The position of a row in a listing ordered by a sort key, then by ID, as used by
+ * keyset pagination: the next page starts right after the last row of the previous one.
+ * It travels to clients as a cursor of the form {@code "position,id"}.
+ * @param position the sort key of the row, or null before the first page
+ * @param id       the ID of the row, or null before the first page
+ * @param <K>      the type of the sort key
+ */
+public record Keyset<K>(K position, UUID id) {
+    /**
+     * Decodes the cursor returned with the previous page.
+     * @param cursor        The cursor, or null or blank for the first page.
+     * @param positionName  The name of the sort key, used in the error message.
+     * @param parsePosition Parses the sort key.
+     * @param <K>           The type of the sort key.
+     * @return the keyset of the cursor, with no position nor ID for the first page.
+     * @throws InvalidRequestException if the cursor is malformed.
+     */
+    public static <K> Keyset<K> decode(String cursor, String positionName, Function<String, K> parsePosition) {
+        if (cursor == null || cursor.isBlank()) {
+            return new Keyset<>(null, null);
+        }
+        String[] parts = cursor.split(",", 2);
+        try {
+            if (parts.length == 2) {
+                return new Keyset<>(parsePosition.apply(parts[0].trim()), UUID.fromString(parts[1].trim()));
+            }
+        } catch (DateTimeException | IllegalArgumentException ex) {
+            // Reported below like a cursor with a missing part
+        }
+        throw new InvalidRequestException("Invalid cursor '" + cursor + "': expected '" + positionName + ",id'.");
+    }
+
+    /**
+     * Encodes this keyset as the cursor handed to clients.
+     * @return the cursor.
+     */
+    public String encode() {
+        return position + "," + id;
+    }
+}
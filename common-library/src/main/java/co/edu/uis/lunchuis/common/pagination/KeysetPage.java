@@ -0,0 +1,46 @@
+package co.edu.uis.lunchuis.common.pagination;
+
+import co.edu.uis.lunchuis.common.exception.InvalidRequestException;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One page of a listing read with keyset pagination.
+ * Pages are read with one row more than asked for, which tells whether another page
+ * exists without counting the rows; the extra row is left out of the page.
+ * @param items      the rows of the page
+ * @param nextCursor the cursor of the next page, or null if this is the last one
+ * @param <T>        the type of the rows
+ */
+public record KeysetPage<T>(List<T> items, String nextCursor) {
+    /**
+     * Checks the requested page size and returns the number of rows to read for it.
+     * @param limit   The maximum number of rows in the page.
+     * @param maxSize The largest page allowed.
+     * @return the number of rows to read, one more than the limit.
+     * @throws InvalidRequestException if the limit is out of range.
+     */
+    public static int fetchSize(int limit, int maxSize) {
+        if (limit < 1 || limit > maxSize) {
+            throw new InvalidRequestException("limit must be between 1 and " + maxSize + ".");
+        }
+        return limit + 1;
+    }
+
+    /**
+     * Builds the page from the rows read, building the cursor from the last row of the page.
+     * @param rows     The rows read, up to one more than the limit.
+     * @param limit    The maximum number of rows in the page.
+     * @param keysetOf Returns the keyset of a row.
+     * @param <T>      The type of the rows.
+     * @return the page.
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int limit, Function<T, Keyset<?>> keysetOf) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> page = rows.subList(0, limit);
+        return new KeysetPage<>(page, keysetOf.apply(page.get(limit - 1)).encode());
+    }
+}
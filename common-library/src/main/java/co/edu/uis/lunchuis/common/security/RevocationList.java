@@ -0,0 +1,101 @@
+package co.edu.uis.lunchuis.common.security;
+
+import co.edu.uis.lunchuis.common.dto.TokenRevocationDTO;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory list of revoked tokens, checked on every authenticated request.
+ * Each service keeps its own copy, synced from the Identity Service. Entries are
+ * bounded by expiry: a revocation is dropped as soon as every token it applies to
+ * has expired on its own, so the list only ever holds the revocations of the last
+ * token lifetime and every check is a hash lookup.
+ * This class is thread-safe.
+ */
+public class RevocationList {
+    private final Map<String, Instant> tokens = new ConcurrentHashMap<>();
+    private final Map<String, SubjectRevocation> subjects = new ConcurrentHashMap<>();
+
+    /**
+     * Adds a revocation, typically received from the Identity Service.
+     * @param revocation the revocation to add
+     */
+    public void add(TokenRevocationDTO revocation) {
+        switch (revocation.type()) {
+            case TOKEN -> revokeToken(revocation.id(), revocation.expiresAt());
+            case SUBJECT -> revokeSubject(revocation.id(), revocation.revokedAt(), revocation.expiresAt());
+        }
+    }
+
+    /**
+     * Rejects a single token, or a token family, by its ID.
+     * @param tokenId   the ID of the token
+     * @param expiresAt when the token expires
+     */
+    public void revokeToken(String tokenId, Instant expiresAt) {
+        tokens.merge(tokenId, expiresAt, RevocationList::latest);
+    }
+
+    /**
+     * Rejects every token issued to a user up to the given instant.
+     * @param subject   the institutional code of the user
+     * @param revokedAt the instant of the revocation
+     * @param expiresAt when every token issued up to then has expired
+     */
+    public void revokeSubject(String subject, Instant revokedAt, Instant expiresAt) {
+        subjects.merge(subject, new SubjectRevocation(revokedAt, expiresAt), (current, added) ->
+                new SubjectRevocation(latest(current.revokedAt(), added.revokedAt()),
+                        latest(current.expiresAt(), added.expiresAt())));
+    }
+
+    /**
+     * Checks whether a token ID was revoked.
+     * @param tokenId the ID of the token
+     * @return true if the token was revoked
+     */
+    public boolean isTokenRevoked(String tokenId) {
+        return tokenId != null && tokens.containsKey(tokenId);
+    }
+
+    /**
+     * Checks whether a token was revoked, either by its own ID or through its user.
+     * @param tokenId  the ID of the token, or null if it has none
+     * @param subject  the institutional code stored in the token's subject
+     * @param issuedAt the instant the token was issued
+     * @return true if the token must be rejected
+     */
+    public boolean isRevoked(String tokenId, String subject, Instant issuedAt) {
+        if (isTokenRevoked(tokenId)) {
+            return true;
+        }
+        SubjectRevocation revocation = (subject != null) ? subjects.get(subject) : null;
+        // Token timestamps only have second precision, so a token issued in the same second is rejected too
+        return revocation != null && (issuedAt == null || !issuedAt.isAfter(revocation.revokedAt()));
+    }
+
+    /**
+     * Forgets the revocations whose tokens have all expired.
+     * @param now the current instant
+     */
+    public void purgeExpired(Instant now) {
+        tokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+        subjects.values().removeIf(revocation -> !revocation.expiresAt().isAfter(now));
+    }
+
+    /**
+     * Returns the number of revocations held.
+     * @return the number of revoked tokens and users
+     */
+    public int size() {
+        return tokens.size() + subjects.size();
+    }
+
+    private static Instant latest(Instant a, Instant b) {
+        return a.isAfter(b) ? a : b;
+    }
+
+    private record SubjectRevocation(Instant revokedAt, Instant expiresAt) {
+    }
+}
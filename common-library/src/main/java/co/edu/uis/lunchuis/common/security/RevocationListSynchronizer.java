@@ -0,0 +1,87 @@
+package co.edu.uis.lunchuis.common.security;
+
+import co.edu.uis.lunchuis.common.dto.TokenRevocationDTO;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Keeps the local {@link RevocationList} in sync with the Identity Service.
+ * Only the revocations made since the previous poll are fetched; each poll looks back
+ * a little further than the previous one, so revocations committed late are not missed.
+ * If the Identity Service is unreachable, the last known revocations keep being applied.
+ * The feed is only served to services, so each poll presents a service token.
+ * Each service declares it as a bean next to its {@link RevocationList}; polling follows
+ * the {@code jwt.revocations.sync-interval-ms} property.
+ */
+public class RevocationListSynchronizer {
+    private static final Logger log = LoggerFactory.getLogger(RevocationListSynchronizer.class);
+    private static final ParameterizedTypeReference<List<TokenRevocationDTO>> REVOCATIONS =
+            new ParameterizedTypeReference<>() { };
+
+    private final RevocationList revocationList;
+    private final RestClient restClient;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final String revocationsUri;
+    private final Duration overlap;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    /**
+     * Constructs the synchronizer.
+     * @param revocationList       The list checked when validating tokens.
+     * @param restClient           The HTTP client used to poll the feed.
+     * @param serviceTokenProvider The provider of the token presented to the Identity Service.
+     * @param revocationsUri       The URI of the Identity Service's revocation feed.
+     * @param overlap              How far each poll looks back before the previous one.
+     */
+    public RevocationListSynchronizer(RevocationList revocationList, RestClient restClient,
+                                      ServiceTokenProvider serviceTokenProvider,
+                                      String revocationsUri, Duration overlap) {
+        this.revocationList = revocationList;
+        this.restClient = restClient;
+        this.serviceTokenProvider = serviceTokenProvider;
+        this.revocationsUri = revocationsUri;
+        this.overlap = overlap;
+    }
+
+    /**
+     * Loads the revocations once the application is ready.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        sync();
+    }
+
+    /**
+     * Applies the revocations made since the previous poll and forgets the expired ones.
+     */
+    @Scheduled(initialDelayString = "${jwt.revocations.sync-interval-ms:5000}",
+            fixedDelayString = "${jwt.revocations.sync-interval-ms:5000}")
+    public void sync() {
+        Instant startedAt = Instant.now();
+        try {
+            List<TokenRevocationDTO> revocations = restClient.get()
+                    .uri(revocationsUri + "?since={since}", lastSync.minus(overlap))
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + serviceTokenProvider.getToken())
+                    .retrieve()
+                    .body(REVOCATIONS);
+            if (revocations != null) {
+                revocations.forEach(revocationList::add);
+            }
+            lastSync = startedAt;
+        } catch (RestClientException ex) {
+            log.warn("Could not sync token revocations from {}: {}", revocationsUri, ex.getMessage());
+        }
+        revocationList.purgeExpired(startedAt);
+    }
+}
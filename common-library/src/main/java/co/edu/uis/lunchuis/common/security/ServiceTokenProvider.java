@@ -0,0 +1,86 @@
+package co.edu.uis.lunchuis.common.security;
+
+import co.edu.uis.lunchuis.common.dto.ServiceTokenDTO;
+import co.edu.uis.lunchuis.common.dto.ServiceTokenRequestDTO;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Obtains the tokens this service presents when it calls other services on its own behalf.
+ * Tokens are issued by the Identity Service in exchange for the client secret shared through
+ * the config-server; they are RS256-signed like user tokens and carry only the {@code SERVICE}
+ * role. One token is reused until it is past half its lifetime, so the exchange stays off
+ * the request path. Each service declares it as a bean with its own credentials.
+ */
+public class ServiceTokenProvider {
+    private static final Duration RETRY_DELAY = Duration.ofSeconds(5);
+
+    private final RestClient restClient;
+    private final String tokenUri;
+    private final ServiceTokenRequestDTO credentials;
+    private volatile IssuedToken current;
+
+    /**
+     * Constructs the provider.
+     * @param restClient   The HTTP client used to reach the Identity Service.
+     * @param tokenUri     The URI of the Identity Service's service token endpoint.
+     * @param clientId     The name this service identifies itself with.
+     * @param clientSecret The secret shared with the Identity Service.
+     */
+    public ServiceTokenProvider(RestClient restClient, String tokenUri, String clientId, String clientSecret) {
+        this.restClient = restClient;
+        this.tokenUri = tokenUri;
+        this.credentials = new ServiceTokenRequestDTO(clientId, clientSecret);
+    }
+
+    /**
+     * Returns a valid service token, obtaining a new one when the current one is past half its lifetime.
+     * If the Identity Service cannot be reached, the current token keeps being used until it expires.
+     * @return the serialized token.
+     * @throws RestClientException if no token could be obtained and the current one has expired.
+     */
+    public String getToken() {
+        IssuedToken token = current;
+        Instant now = Instant.now();
+        if (token == null || !token.renewAt().isAfter(now)) {
+            synchronized (this) {
+                token = current;
+                if (token == null || !token.renewAt().isAfter(now)) {
+                    token = renew(token, now);
+                    current = token;
+                }
+            }
+        }
+        return token.value();
+    }
+
+    private IssuedToken renew(IssuedToken token, Instant now) {
+        try {
+            ServiceTokenDTO issued = restClient.post()
+                    .uri(tokenUri)
+                    .body(credentials)
+                    .retrieve()
+                    .body(ServiceTokenDTO.class);
+            if (issued == null || issued.token() == null) {
+                throw new RestClientException("The Identity Service returned no service token");
+            }
+            Duration lifetime = Duration.between(now, issued.expiresAt());
+            return new IssuedToken(issued.token(), issued.expiresAt(), now.plus(lifetime.dividedBy(2)));
+        } catch (RestClientException ex) {
+            if (token != null && token.expiresAt().isAfter(now)) {
+                // Keep the current token and try again shortly, rather than on every call
+                return new IssuedToken(token.value(), token.expiresAt(), now.plus(RETRY_DELAY));
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * An issued token, when it expires and when it should be replaced.
+     */
+    private record IssuedToken(String value, Instant expiresAt, Instant renewAt) {
+    }
+}
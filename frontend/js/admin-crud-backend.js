@@ -329,10 +329,10 @@ function loadEstadisticas() {
 // Cargar datos de estadísticas
 async function loadStatsData() {
     try {
-        const combos = await getCombosHybrid();
+        const totalCombos = await checkBackendConnection() ? await getComboCount() : getCombosLocal().length;
         const pedidos = await getUserOrders();
         
-        document.getElementById('totalCombos').textContent = combos.length;
+        document.getElementById('totalCombos').textContent = totalCombos;
         document.getElementById('pedidosHoy').textContent = pedidos.filter(p => 
             new Date(p.fechaCreacion).toDateString() === new Date().toDateString()
         ).length;
@@ -19,22 +19,71 @@ const API_CONFIG = {
   // ===========================
   // Manejo de Token (JWT)
   // ===========================
-  function saveToken(token) {
+  // El token de acceso dura 15 minutos; el de refresco permite renovarlo sin volver a iniciar sesión
+  function saveToken(token, refreshToken) {
     localStorage.setItem("jwtToken", token);
+    if (refreshToken) {
+      localStorage.setItem("refreshToken", refreshToken);
+    }
   }
   
   function getToken() {
     return localStorage.getItem("jwtToken");
   }
   
+  function getRefreshToken() {
+    return localStorage.getItem("refreshToken");
+  }
+  
   function clearToken() {
     localStorage.removeItem("jwtToken");
+    localStorage.removeItem("refreshToken");
+  }
+  
+  // Renueva la sesión con el token de refresco. Cada token de refresco sirve una sola vez,
+  // así que las peticiones que fallen a la vez comparten la misma renovación.
+  // staleToken es el token con el que falló la petición: si ya fue reemplazado, no se renueva de nuevo.
+  function refreshSession(staleToken) {
+    if (staleToken && getToken() && getToken() !== staleToken) {
+      return Promise.resolve(true);
+    }
+    if (!refreshSession.inFlight) {
+      refreshSession.inFlight = requestNewTokens().finally(() => {
+        refreshSession.inFlight = null;
+      });
+    }
+    return refreshSession.inFlight;
+  }
+  
+  async function requestNewTokens() {
+    const refreshToken = getRefreshToken();
+    if (!refreshToken) {
+      return false;
+    }
+    try {
+      const response = await fetch(getServiceUrl("IDENTITY_SERVICE", "/auth/refresh"), {
+        method: "POST",
+        headers: { "Content-Type": "application/json" },
+        body: JSON.stringify({ refreshToken }),
+      });
+      if (!response.ok) {
+        // Token de refresco vencido, revocado o ya usado: la sesión terminó
+        clearToken();
+        return false;
+      }
+      const data = await response.json();
+      saveToken(data.token, data.refreshToken);
+      return true;
+    } catch (error) {
+      console.error("❌ No se pudo renovar la sesión:", error);
+      return false;
+    }
   }
   
   // ===========================
   // Peticiones a la API
   // ===========================
-  async function apiRequest(url, method = "GET", data = null) {
+  async function apiRequest(url, method = "GET", data = null, retried = false) {
     const token = getToken();
   
     const options = {
@@ -54,6 +103,11 @@ const API_CONFIG = {
   
     const response = await fetch(url, options);
   
+    // Token de acceso vencido: renovar la sesión y reintentar una sola vez
+    if (response.status === 401 && token && !retried && (await refreshSession(token))) {
+      return apiRequest(url, method, data, true);
+    }
+  
     // Manejo de errores
     if (!response.ok) {
       const errorText = await response.text();
@@ -82,7 +136,7 @@ const API_CONFIG = {
       );
   
       if (response && response.token) {
-        saveToken(response.token);
+        saveToken(response.token, response.refreshToken);
         alert("✅ Inicio de sesión exitoso");
         window.location.href = "dashboard.html";
       } else {
@@ -94,8 +148,23 @@ const API_CONFIG = {
     }
   }
   
-  function logout() {
+  async function logout() {
+    const refreshToken = getRefreshToken();
+    if (refreshToken) {
+      // Revoca la sesión en el servidor; el token de acceso vigente vence por sí solo
+      try {
+        await fetch(getServiceUrl("IDENTITY_SERVICE", "/auth/logout"), {
+          method: "POST",
+          headers: { "Content-Type": "application/json" },
+          body: JSON.stringify({ refreshToken }),
+        });
+      } catch (error) {
+        console.error("⚠️ No se pudo cerrar la sesión en el servidor:", error);
+      }
+    }
     clearToken();
+    localStorage.removeItem("currentUser");
+    localStorage.removeItem("isLoggedIn");
     alert("👋 Sesión cerrada correctamente");
     window.location.href = "login.html";
   }
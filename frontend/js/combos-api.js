@@ -8,7 +8,14 @@ const API_CONFIG = {
 };
 
 // Función para hacer requests a la API
+// Si el token de acceso venció (401), renueva la sesión con refreshSession (auth.js) y reintenta una vez
 async function apiRequest(url, options = {}) {
+    const { data } = await apiRequestWithHeaders(url, options);
+    return data;
+}
+
+// Igual que apiRequest, pero devuelve también los encabezados de la respuesta (p. ej. X-Next-Cursor)
+async function apiRequestWithHeaders(url, options = {}, retried = false) {
     try {
         console.log('🌐 API Request:', url, options);
         
@@ -29,12 +36,21 @@ async function apiRequest(url, options = {}) {
         
         console.log('📡 API Response:', response.status, response.statusText);
         
+        if (response.status === 401 && token && !retried
+                && typeof refreshSession === 'function' && await refreshSession(token)) {
+            return apiRequestWithHeaders(url, options, true);
+        }
+        
         if (!response.ok) {
             const errorData = await response.json().catch(() => ({}));
-            throw new Error(errorData.message || `HTTP ${response.status}: ${response.statusText}`);
+            const error = new Error(errorData.message || `HTTP ${response.status}: ${response.statusText}`);
+            // Quien llama puede necesitar el estado y los encabezados (p. ej. la fila de un combo)
+            error.status = response.status;
+            error.headers = response.headers;
+            throw error;
         }
         
-        return await response.json();
+        return { data: await response.json(), headers: response.headers };
     } catch (error) {
         console.error('❌ API Error:', error);
         throw error;
@@ -44,10 +60,18 @@ async function apiRequest(url, options = {}) {
 // ========== FUNCIONES DE COMBOS ==========
 
 // Obtener todos los combos
+// El backend los devuelve por páginas: se sigue X-Next-Cursor hasta la última
 async function getCombos() {
     try {
-        const response = await apiRequest(`${API_CONFIG.COMBO_SERVICE}/combos`);
-        return response;
+        const combos = [];
+        let cursor = null;
+        do {
+            const query = cursor ? `?after=${encodeURIComponent(cursor)}` : '';
+            const { data, headers } = await apiRequestWithHeaders(`${API_CONFIG.COMBO_SERVICE}/combos${query}`);
+            combos.push(...data);
+            cursor = headers.get('X-Next-Cursor');
+        } while (cursor);
+        return combos;
     } catch (error) {
         console.error('❌ Error obteniendo combos:', error);
         // Fallback a datos locales
@@ -55,6 +79,29 @@ async function getCombos() {
     }
 }
 
+// Contar todos los combos, sin descargar sus páginas
+async function getComboCount() {
+    try {
+        return await apiRequest(`${API_CONFIG.COMBO_SERVICE}/combos/count`);
+    } catch (error) {
+        console.error('❌ Error contando combos:', error);
+        // Fallback a datos locales
+        return getCombosLocal().length;
+    }
+}
+
+// Obtener solo los combos vigentes hoy (menú del día)
+async function getTodayCombos() {
+    try {
+        const response = await apiRequest(`${API_CONFIG.COMBO_SERVICE}/combos/today`);
+        return response;
+    } catch (error) {
+        console.error('❌ Error obteniendo menú del día:', error);
+        // Fallback a datos locales
+        return getCombosLocal();
+    }
+}
+
 // Obtener combo por ID
 async function getComboById(id) {
     try {
@@ -107,6 +154,44 @@ async function deleteCombo(id) {
     }
 }
 
+// Suscribirse a los cambios de cupo y estado de los combos (Server-Sent Events)
+// Se usa fetch en lugar de EventSource para poder enviar el token JWT
+// El AbortSignal opcional permite cerrar la suscripción al salir de la vista
+async function subscribeComboUpdates(onUpdate, signal) {
+    const token = localStorage.getItem('jwtToken');
+    const response = await fetch(`${API_CONFIG.COMBO_SERVICE}/combos/stream`, {
+        headers: token ? { 'Authorization': `Bearer ${token}` } : {},
+        signal
+    });
+    if (response.status === 401 && token && typeof refreshSession === 'function') {
+        // Renovar la sesión para que la reconexión use el token nuevo
+        await refreshSession(token);
+    }
+    if (!response.ok || !response.body) {
+        throw new Error(`HTTP ${response.status}: ${response.statusText}`);
+    }
+    
+    const reader = response.body.pipeThrough(new TextDecoderStream()).getReader();
+    let buffer = '';
+    while (true) {
+        const { value, done } = await reader.read();
+        if (done) break;
+        buffer += value;
+        const events = buffer.split('\n\n');
+        buffer = events.pop();
+        events.forEach(event => {
+            const data = event.split('\n')
+                .filter(line => line.startsWith('data:'))
+                .map(line => line.slice(5))
+                .join('');
+            if (data) {
+                // { comboId, availableQuota, status? }
+                onUpdate(JSON.parse(data));
+            }
+        });
+    }
+}
+
 // ========== FUNCIONES DE PEDIDOS ==========
 
 // Obtener pedidos del usuario
@@ -122,17 +207,56 @@ async function getUserOrders() {
 }
 
 // Crear nuevo pedido
-async function createOrder(orderData) {
-    try {
-        const response = await apiRequest(`${API_CONFIG.ORDER_SERVICE}/orders`, {
-            method: 'POST',
-            body: JSON.stringify(orderData)
-        });
-        return response;
-    } catch (error) {
-        console.error('❌ Error creando pedido:', error);
+// Mientras el combo tiene mucha demanda el servidor responde 429 con un turno en la fila:
+// se reenvía el mismo pedido con el X-Queue-Ticket tras esperar Retry-After, hasta que pase.
+// onQueued(posicion, segundos) permite mostrar al usuario su lugar en la fila.
+// El pedido queda PENDING hasta que el servicio de combos confirma sus unidades; se consulta
+// hasta conocer el resultado y, si el combo se sobrevendió y el pedido fue cancelado, se lanza un error.
+async function createOrder(orderData, onQueued) {
+    const body = JSON.stringify(orderData);
+    let ticket = null;
+    while (true) {
+        try {
+            const order = await apiRequest(`${API_CONFIG.ORDER_SERVICE}/orders`, {
+                method: 'POST',
+                body,
+                headers: ticket ? { 'X-Queue-Ticket': ticket } : {}
+            });
+            return await waitForOrderConfirmation(order);
+        } catch (error) {
+            if (error.cancelledOrder) {
+                throw error;
+            }
+            const queueTicket = error.status === 429 && error.headers ? error.headers.get('X-Queue-Ticket') : null;
+            if (!queueTicket) {
+                console.error('❌ Error creando pedido:', error);
+                throw error;
+            }
+            ticket = queueTicket;
+            const position = Number(error.headers.get('X-Queue-Position')) || null;
+            const retryAfter = Math.max(1, Number(error.headers.get('Retry-After')) || 1);
+            console.log(`⏳ En fila para el combo, posición ${position}; reintento en ${retryAfter} s`);
+            if (typeof onQueued === 'function') {
+                onQueued(position, retryAfter);
+            }
+            await new Promise(resolve => setTimeout(resolve, retryAfter * 1000));
+        }
+    }
+}
+
+// Consultar un pedido PENDING hasta que quede PLACED o CANCELLED
+async function waitForOrderConfirmation(order) {
+    while (order && order.status === 'PENDING') {
+        await new Promise(resolve => setTimeout(resolve, 1000));
+        order = await apiRequest(`${API_CONFIG.ORDER_SERVICE}/orders/${order.id}`);
+    }
+    if (order && order.status === 'CANCELLED') {
+        const error = new Error('El combo se agotó antes de confirmar tu pedido, por lo que fue cancelado.');
+        error.cancelledOrder = order;
+        console.warn('⚠️ Pedido cancelado por sobreventa:', order);
         throw error;
     }
+    return order;
 }
 
 // ========== FUNCIONES FALLBACK (LOCALES) ==========
@@ -213,4 +337,15 @@ async function getCombosHybrid() {
     }
 }
 
+// Función híbrida para obtener el menú del día (backend + fallback)
+async function getTodayCombosHybrid() {
+    const isBackendAvailable = await checkBackendConnection();
+    
+    if (isBackendAvailable) {
+        return await getTodayCombos();
+    } else {
+        return getCombosLocal();
+    }
+}
+
 console.log('✅ combos-api.js completamente cargado');
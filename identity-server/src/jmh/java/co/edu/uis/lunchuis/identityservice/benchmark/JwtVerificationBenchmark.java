@@ -0,0 +1,212 @@
+package co.edu.uis.lunchuis.identityservice.benchmark;
+
+import co.edu.uis.lunchuis.common.enums.RoleType;
+import co.edu.uis.lunchuis.identityservice.application.service.SigningKeyService;
+import co.edu.uis.lunchuis.identityservice.application.service.impl.JwtServiceImpl;
+import co.edu.uis.lunchuis.identityservice.domain.model.SigningKey;
+import co.edu.uis.lunchuis.identityservice.domain.model.TokenClaims;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Encoders;
+import io.jsonwebtoken.security.Jwks;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.PublicKey;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Measures how many access tokens per second {@link JwtServiceImpl} verifies.
+ * <ul>
+ *     <li>{@code before} replays what the authentication filter did per request before this series:
+ *     HS256 tokens, the key derived again from the secret and a new parser built for every parse,
+ *     and the token parsed three times (the username, then the username and expiration again to
+ *     validate it). The user lookup the filter also did is left out, as it hits the database.</li>
+ *     <li>{@code afterCacheMiss} goes through the service with a cache too small to hold the tokens,
+ *     so nearly every call checks the signature with the shared parser.</li>
+ *     <li>{@code afterCacheHit} goes through the service with a client reusing its token,
+ *     the common case behind the authentication filter.</li>
+ * </ul>
+ * The other variants verify RS256 tokens carrying the same claims. Run with
+ * {@code mvn -pl identity-server -Pbenchmarks test-compile exec:exec}, once the common library is installed.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@Threads(4)
+public class JwtVerificationBenchmark {
+    private static final long EXPIRATION_MILLIS = TimeUnit.MINUTES.toMillis(15);
+    private static final int DISTINCT_TOKENS = 4096;
+
+    private JwtServiceImpl cachingService;
+    private JwtServiceImpl missingService;
+    private String token;
+    private String[] tokens;
+    private LegacyJwtService legacyService;
+    private String[] legacyTokens;
+
+    /**
+     * Generates the signing key and the tokens verified by every variant.
+     */
+    @Setup(Level.Trial)
+    public void setUp() throws NoSuchAlgorithmException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+        SigningKey signingKey = new SigningKey("benchmark", keyPair.getPublic(), keyPair.getPrivate(), Instant.now());
+        SigningKeyService signingKeyService = new FixedSigningKeyService(signingKey);
+
+        byte[] refreshSecret = new byte[32];
+        new SecureRandom().nextBytes(refreshSecret);
+        String encodedRefreshSecret = Encoders.BASE64.encode(refreshSecret);
+        cachingService = new JwtServiceImpl(signingKeyService, EXPIRATION_MILLIS, Duration.ofDays(14),
+                encodedRefreshSecret, 10_000, new SimpleMeterRegistry());
+        missingService = new JwtServiceImpl(signingKeyService, EXPIRATION_MILLIS, Duration.ofDays(14),
+                encodedRefreshSecret, 1, new SimpleMeterRegistry());
+
+        token = cachingService.generateToken("2180001", List.of(RoleType.STUDENT));
+        tokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            tokens[i] = cachingService.generateToken(String.valueOf(2180000 + i), List.of(RoleType.STUDENT));
+        }
+
+        byte[] legacySecret = new byte[48];
+        new SecureRandom().nextBytes(legacySecret);
+        legacyService = new LegacyJwtService(Encoders.BASE64.encode(legacySecret), EXPIRATION_MILLIS);
+        legacyTokens = new String[DISTINCT_TOKENS];
+        for (int i = 0; i < DISTINCT_TOKENS; i++) {
+            legacyTokens[i] = legacyService.generateToken(String.valueOf(2180000 + i));
+        }
+    }
+
+    /**
+     * Keeps a separate position in the token list per thread, so threads do not contend on it.
+     */
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        int next() {
+            next = (next + 1) % DISTINCT_TOKENS;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public boolean before(Cursor cursor) {
+        String token = legacyTokens[cursor.next()];
+        // As the filter did: read the username, then validate the token against the loaded user
+        String userCode = legacyService.extractUsername(token);
+        return legacyService.isTokenValid(token, userCode);
+    }
+
+    @Benchmark
+    public TokenClaims afterCacheMiss(Cursor cursor) {
+        return missingService.parseToken(tokens[cursor.next()]);
+    }
+
+    @Benchmark
+    public TokenClaims afterCacheHit() {
+        return cachingService.parseToken(token);
+    }
+
+    /**
+     * Serves a single key, standing in for the database-backed key service.
+     */
+    private record FixedSigningKeyService(SigningKey key) implements SigningKeyService {
+        @Override
+        public SigningKey getActiveKey() {
+            return key;
+        }
+
+        @Override
+        public Optional<PublicKey> findPublicKey(String keyId) {
+            return key.keyId().equals(keyId) ? Optional.of(key.publicKey()) : Optional.empty();
+        }
+
+        @Override
+        public String getJwkSet() {
+            return "{\"keys\":[" + Jwks.json(Jwks.builder()
+                    .key(key.publicKey())
+                    .id(key.keyId())
+                    .algorithm(Jwts.SIG.RS256.getId())
+                    .publicKeyUse("sig")
+                    .build()) + "]}";
+        }
+
+        @Override
+        public void refresh() {
+            // The key never changes
+        }
+    }
+
+    /**
+     * The token handling of {@code JwtServiceImpl} before this series, kept as it was.
+     */
+    private static final class LegacyJwtService {
+        private final String secretKey;
+        private final long expiration;
+
+        private LegacyJwtService(String secretKey, long expiration) {
+            this.secretKey = secretKey;
+            this.expiration = expiration;
+        }
+
+        private String generateToken(String userCode) {
+            return Jwts.builder()
+                    .subject(userCode)
+                    .claim("roles", List.of(RoleType.STUDENT.name()))
+                    .issuedAt(new Date(System.currentTimeMillis()))
+                    .expiration(new Date(System.currentTimeMillis() + expiration))
+                    .signWith(getSigningKey())
+                    .compact();
+        }
+
+        private String extractUsername(String token) {
+            return extractClaim(token, Claims::getSubject);
+        }
+
+        private boolean isTokenValid(String token, String username) {
+            return extractUsername(token).equals(username) && !extractClaim(token, Claims::getExpiration).before(new Date());
+        }
+
+        private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
+            return claimsResolver.apply(Jwts.parser()
+                    .verifyWith(getSigningKey())
+                    .build()
+                    .parseSignedClaims(token)
+                    .getPayload());
+        }
+
+        private SecretKey getSigningKey() {
+            return Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
+        }
+    }
+}
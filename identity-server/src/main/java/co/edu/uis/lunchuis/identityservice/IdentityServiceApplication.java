@@ -5,6 +5,7 @@ import io.swagger.v3.oas.annotations.info.Info;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 /**
  * Main entry point for the Identity Service application.
@@ -16,6 +17,7 @@ import org.springframework.context.annotation.ComponentScan;
 })
 @OpenAPIDefinition(info = @Info(title = "Identity Service API", version = "1.0",
         description = "API for managing users and authentication"))
+@EnableScheduling
 public class IdentityServiceApplication
 {
     public static void main( String[] args ){
@@ -0,0 +1,79 @@
+package co.edu.uis.lunchuis.identityservice.application.cache;
+
+import co.edu.uis.lunchuis.identityservice.application.dto.response.UserProfileResponse;
+import co.edu.uis.lunchuis.identityservice.application.mapper.UserMapper;
+import co.edu.uis.lunchuis.identityservice.domain.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Read-through cache of user profiles, keyed by institutional code.
+ * Profiles are immutable snapshots taken from the {@link UserRepository}, so they can be
+ * shared between requests and never carry the password hash. Every write to a user must
+ * evict its profile; eviction happens both immediately and again once the surrounding
+ * transaction completes, so readers do not keep a profile reloaded before the commit.
+ * Writes made by other instances are only seen once the entry expires.
+ * Hit, miss and eviction counts are published under the {@code cache.*} meters.
+ */
+@Component
+public class UserProfileCache {
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final Cache<Integer, UserProfileResponse> profiles;
+
+    /**
+     * Constructs the cache and registers it in the meter registry.
+     * @param userRepository The repository profiles are loaded from.
+     * @param userMapper     The mapper building profiles from users.
+     * @param meterRegistry  The registry where cache statistics are published.
+     * @param maximumSize    The maximum number of profiles kept in memory.
+     * @param timeToLive     How long a profile stays cached after being loaded.
+     */
+    public UserProfileCache(UserRepository userRepository, UserMapper userMapper, MeterRegistry meterRegistry,
+                            @Value("${identity.profile-cache.maximum-size:10000}") long maximumSize,
+                            @Value("${identity.profile-cache.time-to-live:60s}") Duration timeToLive) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.profiles = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .<Integer, UserProfileResponse>build(), "identity.profiles");
+    }
+
+    /**
+     * Returns the profile of a user, loading it on a miss. Unknown users are not cached.
+     * @param institutionalCode the institutional code of the user
+     * @return the profile, or empty if no such user exists
+     */
+    public Optional<UserProfileResponse> find(Integer institutionalCode) {
+        return Optional.ofNullable(profiles.get(institutionalCode, code -> userRepository.findByInstitutionalCode(code)
+                .map(userMapper::toUserProfileResponse)
+                .orElse(null)));
+    }
+
+    /**
+     * Evicts the profile of a user that is being written, now and once the transaction completes.
+     * @param institutionalCode the institutional code of the user
+     */
+    public void evict(Integer institutionalCode) {
+        profiles.invalidate(institutionalCode);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    profiles.invalidate(institutionalCode);
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package co.edu.uis.lunchuis.identityservice.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+
+/**
+ * DTO (record) for refresh and logout requests.
+ * Implements Jakarta Bean Validation constraints.
+ *
+ * @param refreshToken  The refresh token received on login or on the previous refresh. Must not be blank.
+ */
+@Schema(description = "DTO for refresh and logout requests.")
+public record RefreshTokenRequest(
+        @Schema(description = "The refresh token received on login or on the previous refresh.",
+                example = "eyJhbGciOiJIUzI1NiJ9...", requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotBlank(message = "Refresh token cannot be blank.")
+        String refreshToken
+) {}
@@ -0,0 +1,34 @@
+package co.edu.uis.lunchuis.identityservice.application.dto.request;
+
+import org.springframework.http.MediaType;
+
+/**
+ * Formats accepted by the bulk user import.
+ */
+public enum UserImportFormat {
+    /**
+     * Comma-separated values with a header row naming the columns
+     * ({@code firstName,lastName,institutionalCode,email,password[,roleType]}).
+     */
+    CSV,
+    /**
+     * Newline-delimited JSON: one user object per line, with the same fields as the CSV columns.
+     */
+    NDJSON;
+
+    /**
+     * Resolves the format from the Content-Type of the uploaded body.
+     * @param contentType the media type of the request body
+     * @return the matching format
+     * @throws IllegalArgumentException if the media type is not supported
+     */
+    public static UserImportFormat fromMediaType(MediaType contentType) {
+        if (contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            return CSV;
+        }
+        if (contentType.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return NDJSON;
+        }
+        throw new IllegalArgumentException("Unsupported import format: " + contentType);
+    }
+}
@@ -0,0 +1,15 @@
+package co.edu.uis.lunchuis.identityservice.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Represents one page of the keyset-paginated audit trail.
+ * Fields:
+ * - items: The entries in this page, newest first.
+ * - nextCursor: The cursor ("occurredAt,id") to request the next page, or null if this is the last page.
+ */
+public record AuditEventPageResponseDTO(
+        List<AuditEventResponseDTO> items,
+        String nextCursor
+) {
+}
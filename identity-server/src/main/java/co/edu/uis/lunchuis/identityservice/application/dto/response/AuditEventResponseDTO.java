@@ -0,0 +1,38 @@
+package co.edu.uis.lunchuis.identityservice.application.dto.response;
+
+import co.edu.uis.lunchuis.identityservice.domain.model.AuditAction;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO for an entry of the audit trail.
+ */
+@Schema(description = "Audit trail entry DTO")
+public record AuditEventResponseDTO(
+        @Schema(description = "Unique identifier of the entry", example = "0b7e6a0c-3f7d-4f8e-9a51-2d7c1e0f4b3a")
+        UUID id,
+
+        @Schema(description = "Timestamp of the change")
+        Instant occurredAt,
+
+        @Schema(description = "Institutional code of the user who made the change, or 'system'", example = "2180001")
+        String actor,
+
+        @Schema(description = "What was done", example = "USER_ROLE_CHANGED")
+        AuditAction action,
+
+        @Schema(description = "Unique identifier of the changed user", example = "f47ac10b-58cc-4372-a567-0e02b2c3d479")
+        UUID targetId,
+
+        @Schema(description = "Institutional code of the changed user", example = "2180002")
+        Integer targetCode,
+
+        @Schema(description = "Changed fields before the change", example = "{\"role\":\"STUDENT\"}")
+        Map<String, Object> before,
+
+        @Schema(description = "Changed fields after the change", example = "{\"role\":\"ADMIN\"}")
+        Map<String, Object> after
+) {}
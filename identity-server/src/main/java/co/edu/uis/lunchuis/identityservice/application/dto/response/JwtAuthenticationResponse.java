@@ -3,14 +3,17 @@ package co.edu.uis.lunchuis.identityservice.application.dto.response;
 import io.swagger.v3.oas.annotations.media.Schema;
 
 /**
- * Represents a response DTO containing a JWT access token.
- * This record is used to encapsulate the authentication token
- * generated during the user login process. The token is returned
- * to the client upon a successful authentication as part of the authentication service.
+ * Represents a response DTO containing a JWT access token and its refresh token.
+ * This record is used to encapsulate the tokens generated during the user login
+ * process or a session refresh. The access token is short-lived; the refresh token
+ * is exchanged for a new pair before it expires, and can only be used once.
  */
 @Schema(description = "DTO for JWT authentication response.")
 public record JwtAuthenticationResponse(
         @Schema(description = "The JWT access token.",
-        example = "eyJhbGciOiJIUzI1NiIsInR5cCI6IkpXVCJ9...")
-        String token
+        example = "eyJhbGciOiJSUzI1NiIsImtpZCI6IjRmMm...")
+        String token,
+        @Schema(description = "The single-use refresh token, to obtain a new token pair.",
+        example = "eyJhbGciOiJIUzI1NiJ9...")
+        String refreshToken
 ) {}
@@ -0,0 +1,23 @@
+package co.edu.uis.lunchuis.identityservice.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+import java.util.List;
+
+/**
+ * DTO summarizing a bulk user import, with the outcome of every row.
+ */
+@Schema(description = "Report of a bulk user import")
+public record UserImportReportDTO(
+        @Schema(description = "Number of rows read", example = "10000")
+        int total,
+
+        @Schema(description = "Number of users created", example = "9985")
+        int created,
+
+        @Schema(description = "Number of rows not created", example = "15")
+        int rejected,
+
+        @Schema(description = "Outcome of each row, in file order")
+        List<UserImportResultDTO> results
+) {}
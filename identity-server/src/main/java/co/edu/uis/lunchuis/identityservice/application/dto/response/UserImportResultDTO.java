@@ -0,0 +1,38 @@
+package co.edu.uis.lunchuis.identityservice.application.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * DTO describing the outcome of a single row of a bulk user import.
+ */
+@Schema(description = "Outcome of one row of a bulk user import")
+public record UserImportResultDTO(
+        @Schema(description = "Line of the uploaded file the row comes from", example = "2")
+        int line,
+
+        @Schema(description = "Institutional code of the row, if it could be read", example = "2180001")
+        Integer institutionalCode,
+
+        @Schema(description = "Email of the row, if it could be read", example = "carlos.beltran@uis.edu.co")
+        String email,
+
+        @Schema(description = "What happened to the row", example = "CREATED")
+        Status status,
+
+        @Schema(description = "Why the row was not created", example = "Email already registered")
+        String message
+) {
+    /**
+     * Possible outcomes of an imported row.
+     */
+    public enum Status {
+        /** The user was created. */
+        CREATED,
+        /** The email or institutional code is already registered, or repeated in the file. */
+        DUPLICATE,
+        /** The row could not be parsed or failed validation. */
+        INVALID,
+        /** The row was valid but could not be processed; it can be submitted again. */
+        FAILED
+    }
+}
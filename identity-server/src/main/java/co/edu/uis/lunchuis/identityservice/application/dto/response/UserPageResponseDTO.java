@@ -0,0 +1,17 @@
+package co.edu.uis.lunchuis.identityservice.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Represents one page of a keyset-paginated user listing.
+ * Fields:
+ * - items: The users in this page, newest first.
+ * - nextCursor: The cursor ("createdAt,id") to request the next page, or null if this is the last page.
+ * - total: The number of users matching the filters across all pages, or null if it was not requested.
+ */
+public record UserPageResponseDTO(
+        List<UserResponseDTO> items,
+        String nextCursor,
+        Long total
+) {
+}
@@ -0,0 +1,18 @@
+package co.edu.uis.lunchuis.identityservice.application.mapper;
+
+import co.edu.uis.lunchuis.identityservice.application.dto.response.AuditEventResponseDTO;
+import co.edu.uis.lunchuis.identityservice.domain.model.AuditEvent;
+import org.mapstruct.Mapper;
+
+/**
+ * Maps audit trail entries to their DTOs.
+ */
+@Mapper(componentModel = "spring")
+public interface AuditEventMapper {
+    /**
+     * Maps an {@link AuditEvent} domain object to an {@link AuditEventResponseDTO}.
+     * @param event the {@link AuditEvent} to be mapped
+     * @return an {@link AuditEventResponseDTO} with the entry's data
+     */
+    AuditEventResponseDTO toResponseDTO(AuditEvent event);
+}
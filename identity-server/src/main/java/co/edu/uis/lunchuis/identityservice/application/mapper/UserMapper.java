@@ -7,6 +7,7 @@ import co.edu.uis.lunchuis.identityservice.application.dto.request.UpdateUserReq
 import co.edu.uis.lunchuis.identityservice.application.dto.response.UserProfileResponse;
 import co.edu.uis.lunchuis.identityservice.application.dto.response.UserResponseDTO;
 import co.edu.uis.lunchuis.identityservice.domain.model.User;
+import co.edu.uis.lunchuis.identityservice.domain.model.UserSummary;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 
@@ -68,6 +69,13 @@ public interface UserMapper {
     @Mapping(source = "role.name", target = "role")
     UserResponseDTO toUserResponseDTO(User user);
 
+    /**
+     * Maps a {@link UserSummary} listing row to a {@link UserResponseDTO}.
+     * @param summary the {@link UserSummary} read for a listing
+     * @return a {@link UserResponseDTO} populated with user information
+     */
+    UserResponseDTO toUserResponseDTO(UserSummary summary);
+
     /**
      * Maps a {@link User} domain object to a {@link UserProfileResponse}.
      * @param user the {@link User} domain object
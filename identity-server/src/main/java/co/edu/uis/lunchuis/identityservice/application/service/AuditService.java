@@ -0,0 +1,35 @@
+package co.edu.uis.lunchuis.identityservice.application.service;
+
+import co.edu.uis.lunchuis.identityservice.application.dto.response.AuditEventPageResponseDTO;
+import co.edu.uis.lunchuis.identityservice.domain.model.AuditAction;
+import co.edu.uis.lunchuis.identityservice.domain.model.User;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * Service interface for the audit trail of changes to users.
+ * Recording an entry never waits for the database: entries are buffered in memory
+ * and written in batches in the background.
+ */
+public interface AuditService {
+    /**
+     * Records a change made by the current user. Inside a transaction, the entry is only
+     * recorded once the transaction commits.
+     * @param action the change made
+     * @param target the changed user
+     * @param before the changed fields before the change, or {@code null} if not applicable
+     * @param after  the changed fields after the change, or {@code null} if not applicable
+     */
+    void record(AuditAction action, User target, Map<String, Object> before, Map<String, Object> after);
+
+    /**
+     * Retrieves one page of the audit trail, newest first.
+     * @param from  the earliest instant included, or {@code null} for no lower bound
+     * @param to    the instant the range ends before, or {@code null} for no upper bound
+     * @param after the cursor returned with the previous page, or {@code null} for the first page
+     * @param limit the maximum number of entries to return
+     * @return the page of entries and the cursor of the next page
+     */
+    AuditEventPageResponseDTO findEvents(Instant from, Instant to, String after, int limit);
+}
@@ -1,8 +1,11 @@
 package co.edu.uis.lunchuis.identityservice.application.service;
 
 import co.edu.uis.lunchuis.common.dto.MessageResponse;
+import co.edu.uis.lunchuis.common.dto.ServiceTokenDTO;
+import co.edu.uis.lunchuis.common.dto.ServiceTokenRequestDTO;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.SignUpAdminRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.LoginRequest;
+import co.edu.uis.lunchuis.identityservice.application.dto.request.RefreshTokenRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.SignUpRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.response.JwtAuthenticationResponse;
 
@@ -20,10 +23,32 @@ public interface AuthenticationService {
     /**
      * Authenticates a user and returns a JWT.
      * @param request The login request DTO containing user credentials.
-     * @return A DTO containing the JWT access token.
+     * @return A DTO containing the JWT access token and a refresh token.
      */
     JwtAuthenticationResponse login(LoginRequest request);
 
+    /**
+     * Exchanges a refresh token for a new access token and refresh token, without
+     * checking the password again. The presented refresh token is consumed.
+     * @param request The DTO containing the refresh token.
+     * @return A DTO containing the new JWT access token and refresh token.
+     */
+    JwtAuthenticationResponse refresh(RefreshTokenRequest request);
+
+    /**
+     * Ends the session a refresh token belongs to, so none of its refresh tokens can be used again.
+     * @param request The DTO containing the refresh token.
+     * @return A message response indicating the result of the logout.
+     */
+    MessageResponse logout(RefreshTokenRequest request);
+
+    /**
+     * Issues an access token to another service, carrying only the SERVICE role.
+     * @param request The client credentials of the calling service.
+     * @return The service token and when it expires.
+     */
+    ServiceTokenDTO issueServiceToken(ServiceTokenRequestDTO request);
+
     /**
      * Creates a new user with a specified role, intended for administrative use.
      * @param request The DTO containing user details and the desired role.
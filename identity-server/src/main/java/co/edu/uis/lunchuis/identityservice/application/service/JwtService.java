@@ -1,7 +1,12 @@
 package co.edu.uis.lunchuis.identityservice.application.service;
 
+import co.edu.uis.lunchuis.common.enums.RoleType;
+import co.edu.uis.lunchuis.identityservice.domain.model.RefreshTokenClaims;
+import co.edu.uis.lunchuis.identityservice.domain.model.TokenClaims;
 import co.edu.uis.lunchuis.identityservice.domain.model.User;
-import org.springframework.security.core.userdetails.UserDetails;
+import io.jsonwebtoken.JwtException;
+
+import java.util.List;
 
 /**
  * Service interface for handling JSON Web Tokens (JWT).
@@ -23,11 +28,38 @@ public interface JwtService {
     String generateToken(User user);
 
     /**
-     * Validates a JWT.
-     * Checks if the token belongs to the user and is not expired.
-     * @param token       The JWT to validate.
-     * @param userDetails The user details an object to validate against.
-     * @return true if the token is valid, false otherwise.
+     * Generates a short-lived access token for the given subject and roles.
+     * @param subject the institutional code of the user
+     * @param roles   the roles granted to the user
+     * @return a signed JWT token
+     */
+    String generateToken(String subject, List<RoleType> roles);
+
+    /**
+     * Generates a refresh token for the given subject and roles, signed with an HMAC so
+     * it can be verified without any key lookup or password hash.
+     * @param subject  the institutional code of the user
+     * @param roles    the roles granted to the user
+     * @param familyId the ID of the login session the token belongs to
+     * @return a signed refresh token
+     */
+    String generateRefreshToken(String subject, List<RoleType> roles, String familyId);
+
+    /**
+     * Verifies a JWT and returns its claims.
+     * The token is parsed and its signature and expiration are checked once,
+     * so the caller can authenticate the request from the returned claims alone.
+     * @param token the JWT to verify
+     * @return the verified claims of the token
+     * @throws JwtException if the token is malformed, tampered with or expired
+     */
+    TokenClaims parseToken(String token);
+
+    /**
+     * Verifies a refresh token and returns its claims.
+     * @param token the refresh token to verify
+     * @return the verified claims of the token
+     * @throws JwtException if the token is malformed, tampered with or expired
      */
-    boolean isTokenValid(String token, UserDetails userDetails);
+    RefreshTokenClaims parseRefreshToken(String token);
 }
@@ -0,0 +1,38 @@
+package co.edu.uis.lunchuis.identityservice.application.service;
+
+import co.edu.uis.lunchuis.identityservice.domain.model.SigningKey;
+
+import java.security.PublicKey;
+import java.util.Optional;
+
+/**
+ * Service interface for managing the rotating keys used to sign access tokens.
+ * Defines contracts for choosing the signing key, locating verification keys
+ * and publishing the public key set (JWKS) to resource servers.
+ */
+public interface SigningKeyService {
+    /**
+     * Returns the key that new tokens must be signed with.
+     * @return the active signing key
+     */
+    SigningKey getActiveKey();
+
+    /**
+     * Finds the public key of a published signing key.
+     * @param keyId the identifier from the token's {@code kid} header
+     * @return the public key, or empty if the key is unknown or already retired
+     */
+    Optional<PublicKey> findPublicKey(String keyId);
+
+    /**
+     * Returns the published key set as a serialized JWK Set document.
+     * @return the JSON representation of every public key still in use
+     */
+    String getJwkSet();
+
+    /**
+     * Reloads the shared keys, generating a new one when the newest is due for
+     * rotation and deleting the ones no token can still depend on.
+     */
+    void refresh();
+}
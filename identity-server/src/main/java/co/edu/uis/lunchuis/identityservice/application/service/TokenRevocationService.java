@@ -0,0 +1,49 @@
+package co.edu.uis.lunchuis.identityservice.application.service;
+
+import co.edu.uis.lunchuis.common.dto.TokenRevocationDTO;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Service interface for revoking tokens before they expire.
+ * Tokens are validated from their own claims, so the server only keeps state for
+ * tokens that must stop being accepted early: single tokens or refresh token
+ * families (consumed refresh tokens, logouts), and users whose every token was
+ * revoked (disabled or deleted accounts, role changes). Revocations are kept
+ * until the tokens they apply to would have expired anyway, and are published
+ * so every service rejects the same tokens.
+ */
+public interface TokenRevocationService {
+    /**
+     * Rejects every token issued to the user up to now, access and refresh tokens alike.
+     * @param institutionalCode the institutional code of the user
+     */
+    void revoke(Integer institutionalCode);
+
+    /**
+     * Rejects a single token, or a refresh token family, by its ID.
+     * Exactly one caller succeeds for a given ID, even across instances, so this
+     * also consumes single-use tokens.
+     * @param tokenId   the ID of the token or family
+     * @param expiresAt the instant the token, or the last token of the family, expires
+     * @return true if the token was revoked by this call, false if it already was
+     */
+    boolean revokeToken(String tokenId, Instant expiresAt);
+
+    /**
+     * Checks whether a token was revoked, either by its own ID or through its user.
+     * @param tokenId  the ID of the token, or of its family
+     * @param subject  the institutional code stored in the token's subject
+     * @param issuedAt the instant the token was issued
+     * @return true if the token must be rejected, false otherwise
+     */
+    boolean isRevoked(String tokenId, String subject, Instant issuedAt);
+
+    /**
+     * Retrieves the revocations made since the given instant, for other services to sync.
+     * @param since the instant to look from
+     * @return the revocations that still apply to unexpired tokens
+     */
+    List<TokenRevocationDTO> findRevocations(Instant since);
+}
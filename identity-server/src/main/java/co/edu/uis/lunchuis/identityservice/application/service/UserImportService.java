@@ -0,0 +1,21 @@
+package co.edu.uis.lunchuis.identityservice.application.service;
+
+import co.edu.uis.lunchuis.identityservice.application.dto.request.UserImportFormat;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.UserImportReportDTO;
+
+import java.io.InputStream;
+
+/**
+ * Service interface for registering users in bulk (e.g., a semester's enrollment).
+ */
+public interface UserImportService {
+    /**
+     * Imports the users contained in an uploaded file.
+     * Rows are processed independently: invalid or duplicate rows are reported and
+     * skipped, and every other row is created.
+     * @param input  the uploaded file, read as a stream
+     * @param format the format of the file
+     * @return a report with the outcome of every row
+     */
+    UserImportReportDTO importUsers(InputStream input, UserImportFormat format);
+}
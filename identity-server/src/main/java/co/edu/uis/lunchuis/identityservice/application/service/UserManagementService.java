@@ -1,13 +1,14 @@
 package co.edu.uis.lunchuis.identityservice.application.service;
 
 import co.edu.uis.lunchuis.common.dto.MessageResponse;
-import co.edu.uis.lunchuis.common.enums.RoleType;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.ChangePasswordRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.UpdateProfileRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.UpdateUserRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.UpdateUserRoleRequest;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.UserPageResponseDTO;
 import co.edu.uis.lunchuis.identityservice.application.dto.response.UserProfileResponse;
 import co.edu.uis.lunchuis.identityservice.application.dto.response.UserResponseDTO;
+import co.edu.uis.lunchuis.identityservice.domain.model.UserSearchCriteria;
 
 import java.util.List;
 import java.util.UUID;
@@ -21,10 +22,25 @@ public interface UserManagementService {
     // ========== READ OPERATIONS ==========
     
     /**
-     * Retrieves all users in the system.
-     * @return List of all users
+     * Retrieves one page of users matching the given filters, newest first.
+     * Every filter is optional and the given ones are combined.
+     * @param criteria The filters to apply
+     * @param after    The cursor returned with the previous page, or null for the first page
+     * @param limit    The maximum number of users in the page
+     * @param count    Whether to also count every matching user, which costs an extra query
+     * @return The page of users and the cursor of the next one
      */
-    List<UserResponseDTO> findAllUsers();
+    UserPageResponseDTO searchUsers(UserSearchCriteria criteria, String after, int limit, boolean count);
+    
+    /**
+     * Finds the users best matching a type-ahead query, for quick lookups.
+     * Numeric queries match institutional code prefixes; any other query matches
+     * names and emails containing it or resembling it.
+     * @param query The text typed so far, at least three characters long
+     * @param limit The maximum number of users to return
+     * @return The best matching users, best first
+     */
+    List<UserResponseDTO> lookupUsers(String query, int limit);
     
     /**
      * Retrieves a user by their unique identifier.
@@ -47,20 +63,6 @@ public interface UserManagementService {
      */
     UserResponseDTO findUserByEmail(String email);
     
-    /**
-     * Retrieves users by their role.
-     * @param roleType The role type to search for
-     * @return List of users with the specified role
-     */
-    List<UserResponseDTO> findUsersByRole(RoleType roleType);
-    
-    /**
-     * Retrieves users by their enabled status.
-     * @param enabled The enabled status to search for
-     * @return List of users with the specified enabled status
-     */
-    List<UserResponseDTO> findUsersByEnabled(Boolean enabled);
-    
     /**
      * Retrieves the current user's profile information.
      * @return Current user's profile
@@ -0,0 +1,156 @@
+package co.edu.uis.lunchuis.identityservice.application.service.impl;
+
+import co.edu.uis.lunchuis.common.batch.BatchingWorker;
+import co.edu.uis.lunchuis.common.exception.InvalidRequestException;
+import co.edu.uis.lunchuis.common.pagination.Keyset;
+import co.edu.uis.lunchuis.common.pagination.KeysetPage;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.AuditEventPageResponseDTO;
+import co.edu.uis.lunchuis.identityservice.application.mapper.AuditEventMapper;
+import co.edu.uis.lunchuis.identityservice.application.service.AuditService;
+import co.edu.uis.lunchuis.identityservice.domain.model.AuditAction;
+import co.edu.uis.lunchuis.identityservice.domain.model.AuditEvent;
+import co.edu.uis.lunchuis.identityservice.domain.model.User;
+import co.edu.uis.lunchuis.identityservice.domain.repository.AuditEventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@link AuditService} interface.
+ * Entries are appended to the bounded buffer of a {@link BatchingWorker} whose single
+ * thread drains it into the database, one batch insert at a time. A batch is written
+ * as soon as it is full or once the oldest entry in it has waited for the flush
+ * interval, so recording costs a queue insertion on the request thread, and the
+ * database sees one statement per batch instead of one per change.
+ * If the buffer is full, the entry is logged and counted as dropped instead of
+ * blocking the request. Entries still buffered when the application stops are
+ * written before it exits. Entries become visible to queries once they are flushed.
+ */
+@Service
+@Slf4j
+public class AuditServiceImpl implements AuditService {
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final String SYSTEM_ACTOR = "system";
+
+    private final AuditEventRepository auditEventRepository;
+    private final AuditEventMapper auditEventMapper;
+    private final Counter dropped;
+    private final Counter failed;
+    private final Timer flushTime;
+    private final BatchingWorker<AuditEvent> writer;
+
+    /**
+     * Constructs the service and starts its writer thread.
+     * @param auditEventRepository The repository where entries are written.
+     * @param auditEventMapper     The mapper building the DTOs of read entries.
+     * @param capacity             The maximum number of entries waiting to be written.
+     * @param batchSize            The maximum number of entries written in one batch.
+     * @param flushInterval        The maximum time an entry waits before its batch is written.
+     * @param meterRegistry        The registry where the metrics are published.
+     */
+    public AuditServiceImpl(AuditEventRepository auditEventRepository, AuditEventMapper auditEventMapper,
+                            @Value("${identity.audit.buffer-capacity:10000}") int capacity,
+                            @Value("${identity.audit.batch-size:200}") int batchSize,
+                            @Value("${identity.audit.flush-interval:1s}") Duration flushInterval,
+                            MeterRegistry meterRegistry) {
+        this.auditEventRepository = auditEventRepository;
+        this.auditEventMapper = auditEventMapper;
+        this.dropped = Counter.builder("identity.audit.dropped")
+                .description("Audit entries discarded because the buffer was full")
+                .register(meterRegistry);
+        this.failed = Counter.builder("identity.audit.failed")
+                .description("Audit entries lost because their batch could not be written")
+                .register(meterRegistry);
+        this.flushTime = Timer.builder("identity.audit.flush")
+                .description("Time spent writing a batch of audit entries")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.writer = new BatchingWorker<>("audit-writer", capacity, batchSize, flushInterval, 1, this::write);
+        Gauge.builder("identity.audit.buffered", writer, BatchingWorker::size)
+                .description("Audit entries waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void record(AuditAction action, User target, Map<String, Object> before, Map<String, Object> after) {
+        AuditEvent event = new AuditEvent(UUID.randomUUID(), Instant.now(), currentActor(), action,
+                target.getId(), target.getInstitutionalCode(), before, after);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    enqueue(event);
+                }
+            });
+        } else {
+            enqueue(event);
+        }
+    }
+
+    @Override
+    public AuditEventPageResponseDTO findEvents(Instant from, Instant to, String after, int limit) {
+        int fetchSize = KeysetPage.fetchSize(limit, MAX_PAGE_SIZE);
+        if (from != null && to != null && !from.isBefore(to)) {
+            throw new InvalidRequestException("from must be before to.");
+        }
+        Keyset<Instant> keyset = Keyset.decode(after, "occurredAt", Instant::parse);
+        List<AuditEvent> events = auditEventRepository.findPage(from, to, keyset.position(), keyset.id(), fetchSize);
+        KeysetPage<AuditEvent> page = KeysetPage.of(events, limit, event -> new Keyset<>(event.occurredAt(), event.id()));
+        return new AuditEventPageResponseDTO(page.items().stream().map(auditEventMapper::toResponseDTO).toList(),
+                page.nextCursor());
+    }
+
+    /**
+     * Stops the writer once every buffered entry has been written.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        writer.shutdown(Duration.ofSeconds(10));
+    }
+
+    private void enqueue(AuditEvent event) {
+        if (!writer.offer(event)) {
+            dropped.increment();
+            log.warn("Audit buffer full; entry not persisted: {}", event);
+        }
+    }
+
+    /**
+     * Writes a batch, counting its entries as lost if it could not be written.
+     */
+    private void write(List<AuditEvent> batch) {
+        try {
+            flushTime.record(() -> auditEventRepository.insertAll(batch));
+        } catch (RuntimeException ex) {
+            failed.increment(batch.size());
+            log.error("Could not write {} audit entries: {}", batch.size(), batch, ex);
+        }
+    }
+
+    /**
+     * Returns the institutional code of the authenticated user making the change.
+     */
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || authentication instanceof AnonymousAuthenticationToken) {
+            return SYSTEM_ACTOR;
+        }
+        return authentication.getName();
+    }
+}
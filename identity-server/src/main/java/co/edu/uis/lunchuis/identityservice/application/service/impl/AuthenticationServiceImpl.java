@@ -1,40 +1,58 @@
 package co.edu.uis.lunchuis.identityservice.application.service.impl;
 
 import co.edu.uis.lunchuis.common.dto.MessageResponse;
+import co.edu.uis.lunchuis.common.dto.ServiceTokenDTO;
+import co.edu.uis.lunchuis.common.dto.ServiceTokenRequestDTO;
 import co.edu.uis.lunchuis.common.enums.RoleType;
 import co.edu.uis.lunchuis.common.exception.DuplicateResourceException;
 import co.edu.uis.lunchuis.common.exception.ResourceNotFoundException;
+import co.edu.uis.lunchuis.identityservice.application.cache.UserProfileCache;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.SignUpAdminRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.LoginRequest;
+import co.edu.uis.lunchuis.identityservice.application.dto.request.RefreshTokenRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.SignUpRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.response.JwtAuthenticationResponse;
 import co.edu.uis.lunchuis.identityservice.application.mapper.UserMapper;
 import co.edu.uis.lunchuis.identityservice.application.service.AuthenticationService;
 import co.edu.uis.lunchuis.identityservice.application.service.JwtService;
+import co.edu.uis.lunchuis.identityservice.application.service.TokenRevocationService;
+import co.edu.uis.lunchuis.identityservice.domain.model.RefreshTokenClaims;
 import co.edu.uis.lunchuis.identityservice.domain.model.Role;
 import co.edu.uis.lunchuis.identityservice.domain.model.User;
 import co.edu.uis.lunchuis.identityservice.domain.repository.RoleRepository;
 import co.edu.uis.lunchuis.identityservice.domain.repository.UserRepository;
+import io.jsonwebtoken.JwtException;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.BadCredentialsException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
 /**
  * This class provides the implementation of the {@link AuthenticationService} interface.
  * It handles operations related to user authentication such as user registration,
  * authentication, and administrative user creation.
  * The service interacts with the database repositories for users and roles, encodes
- * passwords securely, and generates JWT tokens for authenticated users. It uses
- * transactional operations to ensure data consistency and includes validation to
+ * passwords securely, and generates JWT tokens for authenticated users. New users are
+ * written with a single insert that relies on the database's unique constraints to
  * prevent duplicate user entries.
  */
 @Service
 @RequiredArgsConstructor
+@Slf4j
 @Tag(name = "Authentication Service",
         description = "Service for handling user authentication operations")
 public class AuthenticationServiceImpl implements AuthenticationService {
@@ -43,8 +61,28 @@ public class AuthenticationServiceImpl implements AuthenticationService {
 
     private final PasswordEncoder passwordEncoder;
     private final JwtService jwtService;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserProfileCache userProfileCache;
     private final AuthenticationManager authenticationManager;
 
+    @Value("${jwt.refresh.expiration:14d}")
+    private Duration refreshExpiration;
+
+    @Value("${jwt.expiration}")
+    private long expiration;
+
+    /**
+     * The services allowed to obtain service tokens, by their application name.
+     */
+    @Value("${identity.service-clients:combo-service,order-service}")
+    private Set<String> serviceClients;
+
+    /**
+     * The secret services authenticate with, shared through the config-server.
+     */
+    @Value("${jwt.service.secret}")
+    private String serviceSecret;
+
     private final UserMapper userMapper;
 
     /**
@@ -58,18 +96,17 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      * @throws ResourceNotFoundException if the STUDENT role is not found in the database.
      */
     @Override
-    @Transactional
     @Operation(summary = "Register a new user",
             description = "Registers a new user with the STUDENT role and stores it in the database")
     public MessageResponse signup(SignUpRequest request) {
-        // 1. Verify whether the unique variables and role already exist
-        Role userRole = this.verifyUser(request.institutionalCode(), request.email(), RoleType.STUDENT);
+        // 1. Resolve the role
+        Role userRole = this.resolveRole(RoleType.STUDENT);
         // 2. Create a new user entity from the request DTO
         User user = userMapper.toDomain(request);
         user.setRole(userRole);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        // 3. Save the new user to the database
-        userRepository.save(user);
+        // 3. Insert the new user; the unique constraints reject taken emails and codes
+        this.insertUser(user);
 
         return new MessageResponse("User registered successfully!");
     }
@@ -81,8 +118,8 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      * details and generate a token.
      * @param request an instance of {@link LoginRequest} containing the institutional code
      *                and password of the user attempting to authenticate.
-     * @return a {@link JwtAuthenticationResponse} containing the generated JWT token for the
-     *         authenticated user.
+     * @return a {@link JwtAuthenticationResponse} containing the generated JWT token and
+     *         refresh token for the authenticated user.
      * @throws ResourceNotFoundException if the user with the specified institutional code
      *                                    does not exist in the database.
      */
@@ -99,10 +136,72 @@ public class AuthenticationServiceImpl implements AuthenticationService {
         // 2. If authentication is successful, find the user from our database
         var user = userRepository.findByInstitutionalCode(request.institutionalCode())
                 .orElseThrow(() -> new ResourceNotFoundException("User", "code", request.institutionalCode()));
-        // 3. Generate a JWT for the authenticated user
-        var jwt = jwtService.generateToken(user);
-        // 4. Return the token in the response DTO
-        return new JwtAuthenticationResponse(jwt);
+        // 3. Start a new session: a short-lived access token plus the first refresh token of its family
+        return issueTokens(String.valueOf(user.getInstitutionalCode()), List.of(user.getRole().name()),
+                UUID.randomUUID().toString());
+    }
+
+    /**
+     * Exchanges a refresh token for a new token pair. Verifying the refresh token costs an
+     * HMAC and in-memory revocation checks; no password is hashed and no user is loaded.
+     * Refresh tokens are single use: the presented token is consumed atomically, and if it
+     * had already been consumed it was stolen or replayed, so its whole session is revoked.
+     * @param request the {@link RefreshTokenRequest} containing the refresh token
+     * @return a {@link JwtAuthenticationResponse} containing the new access and refresh tokens
+     * @throws BadCredentialsException if the refresh token is invalid, expired, revoked or reused
+     */
+    @Override
+    @Operation(summary = "Refresh a session",
+            description = "Exchanges a refresh token for a new access token and refresh token")
+    public JwtAuthenticationResponse refresh(RefreshTokenRequest request) {
+        // 1. Verify the refresh token and that neither its session nor its user was revoked
+        RefreshTokenClaims claims = verifyRefreshToken(request.refreshToken());
+        // 2. Consume it; only one request can win, on any instance
+        if (!tokenRevocationService.revokeToken(claims.tokenId(), claims.expiresAt())) {
+            tokenRevocationService.revokeToken(claims.familyId(), Instant.now().plus(refreshExpiration));
+            log.warn("Refresh token reused for user {}; its session was revoked.", claims.subject());
+            throw new BadCredentialsException("Refresh token was already used");
+        }
+        // 3. Continue the same session with a new token pair
+        return issueTokens(claims.subject(), claims.roles(), claims.familyId());
+    }
+
+    /**
+     * Ends the session a refresh token belongs to by revoking its family. Access tokens
+     * already issued remain valid until they expire, which is kept short.
+     * @param request the {@link RefreshTokenRequest} containing the refresh token
+     * @return a {@link MessageResponse} indicating the session was closed
+     * @throws BadCredentialsException if the refresh token is invalid, expired or revoked
+     */
+    @Override
+    @Operation(summary = "Log out", description = "Revokes every refresh token of the session")
+    public MessageResponse logout(RefreshTokenRequest request) {
+        RefreshTokenClaims claims = verifyRefreshToken(request.refreshToken());
+        tokenRevocationService.revokeToken(claims.familyId(), Instant.now().plus(refreshExpiration));
+        return new MessageResponse("Logged out successfully!");
+    }
+
+    /**
+     * Issues an RS256 access token to a known service. The token carries only the SERVICE role,
+     * whatever the caller asks for, so the shared secret cannot be used to act as a user.
+     * @param request the {@link ServiceTokenRequestDTO} with the client credentials
+     * @return a {@link ServiceTokenDTO} with the token and when it expires
+     * @throws BadCredentialsException if the client is unknown or the secret does not match
+     */
+    @Override
+    @Operation(summary = "Issue a service token",
+            description = "Issues an access token with the SERVICE role to a known service")
+    public ServiceTokenDTO issueServiceToken(ServiceTokenRequestDTO request) {
+        boolean secretMatches = MessageDigest.isEqual(
+                serviceSecret.getBytes(StandardCharsets.UTF_8),
+                request.clientSecret().getBytes(StandardCharsets.UTF_8));
+        if (!serviceClients.contains(request.clientId()) || !secretMatches) {
+            log.warn("Rejected service token request from client {}.", request.clientId());
+            throw new BadCredentialsException("Invalid client credentials");
+        }
+        // Taken before signing, so the reported expiry is never later than the token's own
+        Instant expiresAt = Instant.now().plusMillis(expiration);
+        return new ServiceTokenDTO(jwtService.generateToken(request.clientId(), List.of(RoleType.SERVICE)), expiresAt);
     }
 
     /**
@@ -118,45 +217,73 @@ public class AuthenticationServiceImpl implements AuthenticationService {
      * @throws ResourceNotFoundException if the specified role does not exist in the database.
      */
     @Override
-    @Transactional
     @Operation(summary = "Create a new user by admin",
             description = "Creates a new user with a specified role, intended for administrative use.")
     public MessageResponse signupadmin(SignUpAdminRequest request) {
-        // 1. Verify whether the unique variables and role already exist
-        Role userRole = this.verifyUser(request.institutionalCode(), request.email(), request.roleType());
+        // 1. Resolve the role
+        Role userRole = this.resolveRole(request.roleType());
         // 2. Create a new user entity from the request DTO
         User user = userMapper.toDomain(request);
         user.setRole(userRole);
         user.setPassword(passwordEncoder.encode(user.getPassword()));
-        // 3. Save the new user to the database
-        userRepository.save(user);
+        // 3. Insert the new user; the unique constraints reject taken emails and codes
+        this.insertUser(user);
 
         return new MessageResponse("User created successfully by admin!");
     }
 
     /**
-     * Verifies the uniqueness of a user by checking for existing entries with the provided
-     * email and institutional code and retrieves the role associated with the user.
-     * If the `roleType` is null, assigns a default role.
-     * @param institutionalCode the institutional code of the user to be verified
-     * @param email the email address of the user to be verified
+     * Issues an access token and a refresh token of the given session.
+     */
+    private JwtAuthenticationResponse issueTokens(String subject, List<RoleType> roles, String familyId) {
+        return new JwtAuthenticationResponse(
+                jwtService.generateToken(subject, roles),
+                jwtService.generateRefreshToken(subject, roles, familyId));
+    }
+
+    /**
+     * Verifies a refresh token and checks that neither its session nor its user was revoked.
+     */
+    private RefreshTokenClaims verifyRefreshToken(String refreshToken) {
+        RefreshTokenClaims claims;
+        try {
+            claims = jwtService.parseRefreshToken(refreshToken);
+        } catch (JwtException ex) {
+            throw new BadCredentialsException("Invalid refresh token", ex);
+        }
+        if (tokenRevocationService.isRevoked(claims.familyId(), claims.subject(), claims.issuedAt())) {
+            throw new BadCredentialsException("Refresh token was revoked");
+        }
+        return claims;
+    }
+
+    /**
+     * Retrieves the role to assign to a new user. If the `roleType` is null, assigns a default role.
      * @param roleType the type of role to be assigned to the user; if null, a default role is assigned
      * @return the associated {@link Role} object for the user
-     * @throws DuplicateResourceException if a user with the given email or institutional code already exists
      * @throws ResourceNotFoundException if the specified role type does not exist
      */
-    private Role verifyUser(Integer institutionalCode, String email, RoleType roleType){
-        // 1. Check if a user already exists with the given email or institutional code
-        if (userRepository.existsByEmail(email)) {
-            throw new DuplicateResourceException("User", "email", email);
-        }
-        if (userRepository.existsByInstitutionalCode(institutionalCode)) {
-            throw new DuplicateResourceException("User", "institutionalCode", institutionalCode);
-        }
-        // 2. Assign default role if null
-        RoleType typeRole = (roleType == null) ? RoleType.STUDENT :roleType;
-        // 3. Search for the role
+    private Role resolveRole(RoleType roleType) {
+        RoleType typeRole = (roleType == null) ? RoleType.STUDENT : roleType;
         return roleRepository.findByName(typeRole)
                 .orElseThrow(() -> new ResourceNotFoundException("Role", "name", typeRole.name()));
     }
+
+    /**
+     * Inserts a new user with a single statement. Uniqueness is enforced by the database,
+     * so no lookups run beforehand; only when the insert is rejected is the clashing
+     * field looked up, to report it.
+     * @param user the user to insert, with its password already hashed
+     * @throws DuplicateResourceException if a user with the given email or institutional code already exists
+     */
+    private void insertUser(User user) {
+        userProfileCache.evict(user.getInstitutionalCode());
+        if (userRepository.insert(user)) {
+            return;
+        }
+        if (userRepository.existsByEmail(user.getEmail())) {
+            throw new DuplicateResourceException("User", "email", user.getEmail());
+        }
+        throw new DuplicateResourceException("User", "institutionalCode", user.getInstitutionalCode());
+    }
 }
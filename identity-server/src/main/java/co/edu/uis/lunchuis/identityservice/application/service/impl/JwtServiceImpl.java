@@ -1,34 +1,104 @@
 package co.edu.uis.lunchuis.identityservice.application.service.impl;
 
 import co.edu.uis.lunchuis.identityservice.application.service.JwtService;
+import co.edu.uis.lunchuis.identityservice.application.service.SigningKeyService;
+import co.edu.uis.lunchuis.common.enums.RoleType;
+import co.edu.uis.lunchuis.identityservice.domain.model.RefreshTokenClaims;
+import co.edu.uis.lunchuis.identityservice.domain.model.SigningKey;
+import co.edu.uis.lunchuis.identityservice.domain.model.TokenClaims;
 import co.edu.uis.lunchuis.identityservice.domain.model.User;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.LocatorAdapter;
+import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Service;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Date;
+import java.util.HexFormat;
 import java.util.List;
-import java.util.function.Function;
+import java.util.UUID;
 
 /**
  * Service implementation for handling JSON Web Tokens (JWT).
  * Provides methods for generating, validating, and extracting information from JWT tokens.
+ * Tokens are signed with the active key of the {@link SigningKeyService} and carry its ID
+ * in the {@code kid} header, so they can be verified with the published key set.
+ * The parser is built once, since it is immutable and thread-safe.
+ * Verified tokens are cached by their SHA-256 hash until they expire, so a client reusing
+ * its token skips the signature check and JSON parsing on every following request.
+ * Refresh tokens are signed with a separate HMAC key shared by every instance; neither
+ * kind of token is accepted in place of the other, since each parser only knows its own keys.
  */
 @Service
 @Tag(name = "JWT Service", description = "Service for handling JWT token operations")
 public class JwtServiceImpl implements JwtService {
-    @Value("${jwt.secret-key}")
-    private String secretKey;
+    private static final String FAMILY_CLAIM = "fam";
+    private static final String ROLES_CLAIM = "roles";
 
-    @Value("${jwt.expiration}")
-    private long expiration;
+    private final long expiration;
+    private final Duration refreshExpiration;
+    private final SigningKeyService signingKeyService;
+    private final SecretKey refreshKey;
+    private final JwtParser parser;
+    private final JwtParser refreshParser;
+    private final Cache<String, TokenClaims> verifiedTokens;
+
+    /**
+     * Constructs the service, building the parsers once.
+     * @param signingKeyService The service holding the signing and verification keys.
+     * @param expiration        The lifetime of an access token, in milliseconds.
+     * @param refreshExpiration The lifetime of a refresh token.
+     * @param refreshSecret     The Base64-encoded HMAC key of refresh tokens, of at least 256 bits.
+     * @param maximumSize       The maximum number of verified tokens kept in memory.
+     * @param meterRegistry     The registry where cache statistics are published.
+     */
+    public JwtServiceImpl(SigningKeyService signingKeyService,
+                          @Value("${jwt.expiration}") long expiration,
+                          @Value("${jwt.refresh.expiration:14d}") Duration refreshExpiration,
+                          @Value("${jwt.refresh.secret}") String refreshSecret,
+                          @Value("${jwt.cache.maximum-size:10000}") long maximumSize,
+                          MeterRegistry meterRegistry) {
+        this.expiration = expiration;
+        this.refreshExpiration = refreshExpiration;
+        this.signingKeyService = signingKeyService;
+        this.refreshKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(refreshSecret));
+        this.refreshParser = Jwts.parser().verifyWith(refreshKey).build();
+        this.parser = Jwts.parser()
+                .keyLocator(new LocatorAdapter<Key>() {
+                    @Override
+                    protected Key locate(JwsHeader header) {
+                        return signingKeyService.findPublicKey(header.getKeyId())
+                                .orElseThrow(() -> new SignatureException("Unknown signing key: " + header.getKeyId()));
+                    }
+                })
+                .build();
+        this.verifiedTokens = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(Expiry.creating((String hash, TokenClaims claims) -> timeToExpiry(claims)))
+                .recordStats()
+                .<String, TokenClaims>build(), "identity.verifiedTokens");
+    }
 
     /**
      * Extracts the username embedded in the provided JWT token.
@@ -39,79 +109,138 @@ public class JwtServiceImpl implements JwtService {
     @Operation(summary = "Extract username from JWT",
             description = "Extracts the institutional code from the given JWT token")
     public String extractUsername(String token) {
-        return extractClaim(token, Claims::getSubject);
+        return parseToken(token).subject();
     }
 
     @Override
     @Operation(summary = "Generate JWT token",
             description = "Generates a JWT token for the specified user")
     public String generateToken(User user) {
+        return generateToken(String.valueOf(user.getInstitutionalCode()), List.of(user.getRole().name()));
+    }
+
+    @Override
+    @Operation(summary = "Generate JWT token",
+            description = "Generates a JWT token for the specified subject and roles")
+    public String generateToken(String subject, List<RoleType> roles) {
+        SigningKey signingKey = signingKeyService.getActiveKey();
+        long now = System.currentTimeMillis();
         return Jwts.builder()
-                .subject(String.valueOf(user.getInstitutionalCode()))
-                .claim("roles", List.of(user.getRole().name()))
-                .issuedAt(new Date(System.currentTimeMillis()))
-                .expiration(new Date(System.currentTimeMillis() + expiration))
-                .signWith(getSigningKey())
+                .header().keyId(signingKey.keyId()).and()
+                .id(UUID.randomUUID().toString())
+                .subject(subject)
+                .claim(ROLES_CLAIM, roles.stream().map(RoleType::name).toList())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + expiration))
+                .signWith(signingKey.privateKey(), Jwts.SIG.RS256)
                 .compact();
     }
 
     @Override
-    @Operation(summary = "Validate JWT token",
-            description = "Checks if the JWT token is valid and belongs to the given user")
-    public boolean isTokenValid(String token, UserDetails userDetails) {
-        final String username = extractUsername(token);
-        return (username.equals(userDetails.getUsername())) && !isTokenExpired(token);
+    @Operation(summary = "Generate refresh token",
+            description = "Generates an HMAC-signed refresh token for the specified subject and roles")
+    public String generateRefreshToken(String subject, List<RoleType> roles, String familyId) {
+        long now = System.currentTimeMillis();
+        return Jwts.builder()
+                .id(UUID.randomUUID().toString())
+                .subject(subject)
+                .claim(FAMILY_CLAIM, familyId)
+                .claim(ROLES_CLAIM, roles.stream().map(RoleType::name).toList())
+                .issuedAt(new Date(now))
+                .expiration(new Date(now + refreshExpiration.toMillis()))
+                .signWith(refreshKey, Jwts.SIG.HS256)
+                .compact();
     }
 
-    /**
-     * Checks if the JWT token has expired.
-     * @param token the JWT token
-     * @return true if the token is expired, false otherwise
-     */
-    private boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+    @Override
+    @Operation(summary = "Verify JWT token",
+            description = "Verifies the signature and expiration of a JWT token and returns its claims")
+    public TokenClaims parseToken(String token) {
+        String hash = hash(token);
+        TokenClaims cached = verifiedTokens.getIfPresent(hash);
+        if (cached != null) {
+            // Entries are evicted at expiry, but eviction is lazy; never hand out an expired token
+            if (cached.expiresAt() != null && !cached.expiresAt().isAfter(Instant.now())) {
+                verifiedTokens.invalidate(hash);
+                throw new ExpiredJwtException(null, null, "JWT expired at " + cached.expiresAt());
+            }
+            return cached;
+        }
+        // The parser rejects expired tokens, so no separate expiration check is needed
+        final Claims claims = parser.parseSignedClaims(token).getPayload();
+        TokenClaims verified = new TokenClaims(
+                claims.getId(),
+                claims.getSubject(),
+                extractRoles(claims),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration() != null ? claims.getExpiration().toInstant() : null
+        );
+        verifiedTokens.put(hash, verified);
+        return verified;
     }
 
-    /**
-     * Extracts the expiration date from the JWT token.
-     * @param token the JWT token
-     * @return the expiration date of the token
-     */
-    private Date extractExpiration(String token) {
-        return extractClaim(token, Claims::getExpiration);
+    @Override
+    @Operation(summary = "Verify refresh token",
+            description = "Verifies the signature and expiration of a refresh token and returns its claims")
+    public RefreshTokenClaims parseRefreshToken(String token) {
+        final Claims claims = refreshParser.parseSignedClaims(token).getPayload();
+        String familyId = claims.get(FAMILY_CLAIM, String.class);
+        if (claims.getId() == null || familyId == null || claims.getExpiration() == null) {
+            throw new MalformedJwtException("Refresh token without ID, family or expiration");
+        }
+        return new RefreshTokenClaims(
+                claims.getId(),
+                familyId,
+                claims.getSubject(),
+                extractRoles(claims),
+                claims.getIssuedAt() != null ? claims.getIssuedAt().toInstant() : null,
+                claims.getExpiration().toInstant()
+        );
     }
 
     /**
-     * Extracts a specific claim from the JWT token.
-     * @param <T>            the type of the claim
-     * @param token          the JWT token
-     * @param claimsResolver function to extract the specific claim from Claims
-     * @return the extracted claim
+     * Reads the roles claim of a verified token.
+     * @param claims the verified claims
+     * @return the roles granted by the token
+     * @throws MalformedJwtException if the claim holds an unknown role
      */
-    private <T> T extractClaim(String token, Function<Claims, T> claimsResolver) {
-        final Claims claims = extractAllClaims(token);
-        return claimsResolver.apply(claims);
+    private List<RoleType> extractRoles(Claims claims) {
+        Object roles = claims.get(ROLES_CLAIM);
+        if (!(roles instanceof List<?> names)) {
+            return List.of();
+        }
+        try {
+            return names.stream()
+                    .map(name -> RoleType.valueOf(String.valueOf(name)))
+                    .toList();
+        } catch (IllegalArgumentException ex) {
+            throw new MalformedJwtException("Unknown role in token: " + roles, ex);
+        }
     }
 
     /**
-     * Extracts all claims (payload) from the JWT token.
-     * @param token the JWT token
-     * @return all claims contained in the token
+     * Returns how long a verified token may stay cached: until it expires, or not at all
+     * if it has no expiration.
      */
-    private Claims extractAllClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
+    private static Duration timeToExpiry(TokenClaims claims) {
+        if (claims.expiresAt() == null) {
+            return Duration.ZERO;
+        }
+        Duration remaining = Duration.between(Instant.now(), claims.expiresAt());
+        return remaining.isNegative() ? Duration.ZERO : remaining;
     }
 
     /**
-     * Returns the secret key used to sign the JWT.
-     * @return the secret key
+     * Hashes a token so the cache neither keeps the bearer credential itself nor relies
+     * on a collision-prone key.
      */
-    private SecretKey getSigningKey() {
-        byte[] keyBytes = secretKey.getBytes(StandardCharsets.UTF_8);
-        return Keys.hmacShaKeyFor(keyBytes);
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException ex) {
+            // Every JVM is required to support SHA-256
+            throw new IllegalStateException(ex);
+        }
     }
 }
@@ -0,0 +1,155 @@
+package co.edu.uis.lunchuis.identityservice.application.service.impl;
+
+import co.edu.uis.lunchuis.identityservice.application.service.SigningKeyService;
+import co.edu.uis.lunchuis.identityservice.domain.model.SigningKey;
+import co.edu.uis.lunchuis.identityservice.domain.repository.SigningKeyRepository;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Jwks;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.security.KeyPair;
+import java.security.PublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the {@link SigningKeyService} interface.
+ * Signs with RS256 key pairs shared by every instance through the database.
+ * A new key is generated once the newest one is older than the rotation interval,
+ * but it is only published for a while before it signs anything, so resource
+ * servers already have it in their cached key set when the first token signed
+ * with it arrives. Older keys stay published until every token they signed has
+ * expired. Everything requests need is kept in an immutable in-memory snapshot,
+ * replaced as a whole on each refresh.
+ */
+@Service
+@Slf4j
+public class SigningKeyServiceImpl implements SigningKeyService {
+    private final SigningKeyRepository signingKeyRepository;
+    private final Duration rotationInterval;
+    private final Duration publishAhead;
+    private final Duration retention;
+    private volatile KeyRing keyRing;
+
+    /**
+     * Constructs the service.
+     * @param signingKeyRepository The repository where the shared keys are stored.
+     * @param rotationInterval     How long a key is used for signing before a new one is generated.
+     * @param publishAhead         How long a new key is published before it is used for signing.
+     *                             Must exceed the time resource servers cache the key set.
+     * @param refreshInterval      How often the keys are reloaded, in milliseconds.
+     * @param expiration           The lifetime of an access token, in milliseconds.
+     */
+    public SigningKeyServiceImpl(SigningKeyRepository signingKeyRepository,
+                                 @Value("${jwt.keys.rotation-interval:7d}") Duration rotationInterval,
+                                 @Value("${jwt.keys.publish-ahead:10m}") Duration publishAhead,
+                                 @Value("${jwt.keys.refresh-interval-ms:60000}") long refreshInterval,
+                                 @Value("${jwt.expiration}") long expiration) {
+        this.signingKeyRepository = signingKeyRepository;
+        this.rotationInterval = rotationInterval;
+        this.publishAhead = publishAhead;
+        // Other instances may keep signing with a replaced key until their next refresh
+        this.retention = Duration.ofMillis(expiration).plusMillis(refreshInterval);
+    }
+
+    @Override
+    public SigningKey getActiveKey() {
+        return keyRing.active();
+    }
+
+    @Override
+    public Optional<PublicKey> findPublicKey(String keyId) {
+        return Optional.ofNullable(keyId).map(keyRing.publicKeys()::get);
+    }
+
+    @Override
+    public String getJwkSet() {
+        return keyRing.jwkSet();
+    }
+
+    /**
+     * Loads the keys before the service takes its first request.
+     */
+    @PostConstruct
+    public void initialize() {
+        refresh();
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${jwt.keys.refresh-interval-ms:60000}",
+            fixedDelayString = "${jwt.keys.refresh-interval-ms:60000}")
+    public synchronized void refresh() {
+        Instant now = Instant.now();
+        List<SigningKey> keys = signingKeyRepository.findAll();
+        if (keys.isEmpty() || !keys.getFirst().createdAt().plus(rotationInterval).isAfter(now)) {
+            signingKeyRepository.save(generate(now));
+            // Reloaded so that keys generated concurrently by other instances are published too
+            keys = signingKeyRepository.findAll();
+        }
+        List<SigningKey> retained = new ArrayList<>();
+        for (int i = 0; i < keys.size(); i++) {
+            // A key signs until its successor is activated, and its tokens are valid for a while after that
+            if (i == 0 || activationOf(keys.get(i - 1)).plus(retention).isAfter(now)) {
+                retained.add(keys.get(i));
+            } else {
+                signingKeyRepository.deleteById(keys.get(i).keyId());
+                log.info("Retired signing key {}.", keys.get(i).keyId());
+            }
+        }
+        keyRing = KeyRing.of(retained, selectActive(retained, now));
+    }
+
+    /**
+     * Picks the newest key that has already been published long enough. On a fresh
+     * installation no key qualifies yet, so the oldest one is used right away.
+     */
+    private SigningKey selectActive(List<SigningKey> keys, Instant now) {
+        return keys.stream()
+                .filter(key -> !activationOf(key).isAfter(now))
+                .findFirst()
+                .orElse(keys.getLast());
+    }
+
+    private Instant activationOf(SigningKey key) {
+        return key.createdAt().plus(publishAhead);
+    }
+
+    private static SigningKey generate(Instant now) {
+        KeyPair keyPair = Jwts.SIG.RS256.keyPair().build();
+        SigningKey key = new SigningKey(UUID.randomUUID().toString(), keyPair.getPublic(), keyPair.getPrivate(), now);
+        log.info("Generated signing key {}.", key.keyId());
+        return key;
+    }
+
+    /**
+     * Immutable view of the keys in use.
+     * @param active     the key new tokens are signed with
+     * @param publicKeys the public keys of every published key, by key ID
+     * @param jwkSet     the serialized JWK Set of the published keys
+     */
+    private record KeyRing(SigningKey active, Map<String, PublicKey> publicKeys, String jwkSet) {
+        private static KeyRing of(List<SigningKey> keys, SigningKey active) {
+            Map<String, PublicKey> publicKeys = keys.stream()
+                    .collect(Collectors.toUnmodifiableMap(SigningKey::keyId, SigningKey::publicKey));
+            String jwkSet = keys.stream()
+                    .map(key -> Jwks.json(Jwks.builder()
+                            .key(key.publicKey())
+                            .id(key.keyId())
+                            .algorithm(Jwts.SIG.RS256.getId())
+                            .publicKeyUse("sig")
+                            .build()))
+                    .collect(Collectors.joining(",", "{\"keys\":[", "]}"));
+            return new KeyRing(active, publicKeys, jwkSet);
+        }
+    }
+}
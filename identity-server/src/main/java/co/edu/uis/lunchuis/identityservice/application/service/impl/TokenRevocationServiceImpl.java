@@ -0,0 +1,133 @@
+package co.edu.uis.lunchuis.identityservice.application.service.impl;
+
+import co.edu.uis.lunchuis.common.dto.TokenRevocationDTO;
+import co.edu.uis.lunchuis.common.enums.RevocationType;
+import co.edu.uis.lunchuis.common.security.RevocationList;
+import co.edu.uis.lunchuis.identityservice.application.service.TokenRevocationService;
+import co.edu.uis.lunchuis.identityservice.domain.model.TokenRevocation;
+import co.edu.uis.lunchuis.identityservice.domain.repository.TokenRevocationRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Implementation of the {@link TokenRevocationService} interface.
+ * Revocations are written to the database, shared by every instance, and checked
+ * against an in-memory {@link RevocationList}. Each instance applies its own
+ * revocations immediately and picks up the others' on a short sync interval; the
+ * sync window overlaps the previous one, so revocations committed late are not missed.
+ * Expired revocations are dropped from memory on every sync and from the database
+ * periodically.
+ */
+@Service
+@Slf4j
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+    private final TokenRevocationRepository tokenRevocationRepository;
+    private final RevocationList revocationList = new RevocationList();
+    private final Duration subjectRetention;
+    private final Duration syncOverlap;
+    private volatile Instant lastSync = Instant.EPOCH;
+
+    /**
+     * Constructs the service and registers the size of the revocation list as a gauge.
+     * @param tokenRevocationRepository The repository where revocations are shared.
+     * @param meterRegistry             The registry where the gauge is published.
+     * @param expiration                The lifetime of an access token, in milliseconds.
+     * @param refreshExpiration         The lifetime of a refresh token.
+     * @param syncOverlap               How far each sync looks back before the previous one.
+     */
+    public TokenRevocationServiceImpl(TokenRevocationRepository tokenRevocationRepository,
+                                      MeterRegistry meterRegistry,
+                                      @Value("${jwt.expiration}") long expiration,
+                                      @Value("${jwt.refresh.expiration:14d}") Duration refreshExpiration,
+                                      @Value("${identity.revocation.sync-overlap:30s}") Duration syncOverlap) {
+        this.tokenRevocationRepository = tokenRevocationRepository;
+        // A user's revocation must outlive every token issued to them before it
+        Duration accessExpiration = Duration.ofMillis(expiration);
+        this.subjectRetention = refreshExpiration.compareTo(accessExpiration) > 0 ? refreshExpiration : accessExpiration;
+        this.syncOverlap = syncOverlap;
+        Gauge.builder("identity.revocations", revocationList, RevocationList::size)
+                .description("Revoked tokens and users held in memory")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void revoke(Integer institutionalCode) {
+        Instant now = Instant.now();
+        TokenRevocation revocation = new TokenRevocation(RevocationType.SUBJECT,
+                String.valueOf(institutionalCode), now, now.plus(subjectRetention));
+        tokenRevocationRepository.save(revocation);
+        revocationList.add(toDTO(revocation));
+        log.info("Revoked tokens of user: {}", institutionalCode);
+    }
+
+    @Override
+    public boolean revokeToken(String tokenId, Instant expiresAt) {
+        if (revocationList.isTokenRevoked(tokenId)) {
+            return false;
+        }
+        TokenRevocation revocation = new TokenRevocation(RevocationType.TOKEN, tokenId, Instant.now(), expiresAt);
+        boolean revoked = tokenRevocationRepository.insert(revocation);
+        // Known as revoked from now on either way: by this call, or by another instance
+        revocationList.add(toDTO(revocation));
+        return revoked;
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId, String subject, Instant issuedAt) {
+        return revocationList.isRevoked(tokenId, subject, issuedAt);
+    }
+
+    @Override
+    public List<TokenRevocationDTO> findRevocations(Instant since) {
+        return tokenRevocationRepository.findRevokedSince(since).stream()
+                .map(TokenRevocationServiceImpl::toDTO)
+                .toList();
+    }
+
+    /**
+     * Loads the revocations before the service takes its first request.
+     */
+    @PostConstruct
+    public void initialize() {
+        sync();
+        log.info("Token revocation list initialized with {} revocation(s).", revocationList.size());
+    }
+
+    /**
+     * Applies the revocations made by other instances since the previous sync.
+     */
+    @Scheduled(initialDelayString = "${identity.revocation.sync-interval-ms:5000}",
+            fixedDelayString = "${identity.revocation.sync-interval-ms:5000}")
+    public void sync() {
+        Instant startedAt = Instant.now();
+        tokenRevocationRepository.findRevokedSince(lastSync.minus(syncOverlap)).stream()
+                .map(TokenRevocationServiceImpl::toDTO)
+                .forEach(revocationList::add);
+        lastSync = startedAt;
+        revocationList.purgeExpired(startedAt);
+    }
+
+    /**
+     * Deletes the revocations that no longer apply to any unexpired token.
+     */
+    @Scheduled(fixedDelayString = "${identity.revocation.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        int deleted = tokenRevocationRepository.deleteExpired(Instant.now());
+        if (deleted > 0) {
+            log.info("Deleted {} expired token revocation(s).", deleted);
+        }
+    }
+
+    private static TokenRevocationDTO toDTO(TokenRevocation revocation) {
+        return new TokenRevocationDTO(revocation.type(), revocation.id(), revocation.revokedAt(), revocation.expiresAt());
+    }
+}
@@ -0,0 +1,366 @@
+package co.edu.uis.lunchuis.identityservice.application.service.impl;
+
+import co.edu.uis.lunchuis.common.enums.RoleType;
+import co.edu.uis.lunchuis.common.exception.InvalidRequestException;
+import co.edu.uis.lunchuis.common.exception.ServiceBusyException;
+import co.edu.uis.lunchuis.identityservice.application.dto.request.SignUpAdminRequest;
+import co.edu.uis.lunchuis.identityservice.application.dto.request.UserImportFormat;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.UserImportReportDTO;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.UserImportResultDTO;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.UserImportResultDTO.Status;
+import co.edu.uis.lunchuis.identityservice.application.mapper.UserMapper;
+import co.edu.uis.lunchuis.identityservice.application.service.UserImportService;
+import co.edu.uis.lunchuis.identityservice.domain.model.Role;
+import co.edu.uis.lunchuis.identityservice.domain.model.User;
+import co.edu.uis.lunchuis.identityservice.domain.repository.RoleRepository;
+import co.edu.uis.lunchuis.identityservice.domain.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the {@link UserImportService} interface.
+ * The upload is read line by line and processed in batches, so memory stays bounded
+ * by the batch size rather than the file size. For each batch, duplicates are found
+ * with one query per unique column, passwords are hashed in parallel, and the new
+ * users are written with a single JDBC batch insert.
+ */
+@Service
+@Slf4j
+@Tag(name = "User Import Service", description = "Service for registering users in bulk")
+public class UserImportServiceImpl implements UserImportService {
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("firstname", "lastname", "institutionalcode", "email", "password");
+
+    private final UserRepository userRepository;
+    private final RoleRepository roleRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final UserMapper userMapper;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final int batchSize;
+    private final int hashConcurrency;
+
+    /**
+     * Constructs the import service.
+     * @param userRepository  The repository where users are checked and inserted.
+     * @param roleRepository  The repository used to resolve the roles of the imported users.
+     * @param passwordEncoder The encoder used to hash the passwords.
+     * @param userMapper      The mapper from requests to users.
+     * @param validator       The validator applying the same constraints as single registration.
+     * @param objectMapper    The mapper used to read NDJSON rows.
+     * @param batchSize       The number of rows checked and inserted together.
+     * @param hashConcurrency The number of passwords hashed at once; defaults to half the hashing pool.
+     * @param hashPoolSize    The size of the hashing pool shared with logins; defaults to the number of cores.
+     * @throws IllegalArgumentException if the import would take every hashing thread.
+     */
+    public UserImportServiceImpl(UserRepository userRepository, RoleRepository roleRepository,
+                                 PasswordEncoder passwordEncoder, UserMapper userMapper,
+                                 Validator validator, ObjectMapper objectMapper,
+                                 @Value("${identity.import.batch-size:500}") int batchSize,
+                                 @Value("${identity.import.hash-concurrency:0}") int hashConcurrency,
+                                 @Value("${identity.password.pool-size:0}") int hashPoolSize) {
+        this.userRepository = userRepository;
+        this.roleRepository = roleRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.userMapper = userMapper;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.batchSize = batchSize;
+        int poolSize = (hashPoolSize > 0) ? hashPoolSize : Runtime.getRuntime().availableProcessors();
+        // Logins share the hashing pool, so an import must always leave them at least one thread
+        if (poolSize > 1 && hashConcurrency >= poolSize) {
+            throw new IllegalArgumentException("identity.import.hash-concurrency must be below the hashing pool size ("
+                    + poolSize + "), but was " + hashConcurrency);
+        }
+        this.hashConcurrency = (hashConcurrency > 0) ? hashConcurrency : Math.max(1, poolSize / 2);
+    }
+
+    @Override
+    @Operation(summary = "Import users", description = "Registers the users of a CSV or NDJSON file in bulk")
+    public UserImportReportDTO importUsers(InputStream input, UserImportFormat format) {
+        long startedAt = System.nanoTime();
+        Batch batch = new Batch();
+        List<UserImportResultDTO> results = new ArrayList<>();
+        // The hashing pool is shared with logins, so at most hashConcurrency passwords are queued at once
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+             ExecutorService hashers = Executors.newFixedThreadPool(hashConcurrency, Thread.ofVirtual().factory())) {
+            int lineNumber = 0;
+            Map<String, Integer> columns = null;
+            if (format == UserImportFormat.CSV) {
+                columns = readHeader(reader.readLine());
+                lineNumber++;
+            }
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                Row row = (format == UserImportFormat.CSV) ? parseCsv(lineNumber, line, columns) : parseJson(lineNumber, line);
+                UserImportResultDTO rejection = batch.admit(row);
+                if (rejection != null) {
+                    results.add(rejection);
+                } else if (batch.rows.size() >= batchSize) {
+                    results.addAll(process(batch, hashers));
+                }
+            }
+            results.addAll(process(batch, hashers));
+        } catch (IOException ex) {
+            throw new InvalidRequestException("The uploaded file could not be read: " + ex.getMessage());
+        }
+        results.sort(Comparator.comparingInt(UserImportResultDTO::line));
+        int created = (int) results.stream().filter(result -> result.status() == Status.CREATED).count();
+        log.info("Imported {} of {} user(s) in {} ms.", created, results.size(),
+                (System.nanoTime() - startedAt) / 1_000_000);
+        return new UserImportReportDTO(results.size(), created, results.size() - created, results);
+    }
+
+    /**
+     * Checks, hashes and inserts the pending rows of a batch, then empties it.
+     */
+    private List<UserImportResultDTO> process(Batch batch, ExecutorService hashers) {
+        List<Row> rows = List.copyOf(batch.rows);
+        batch.rows.clear();
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+        List<UserImportResultDTO> results = new ArrayList<>(rows.size());
+        // 1. Set-based duplicate check against the database
+        Set<String> takenEmails = userRepository.findExistingEmails(
+                rows.stream().map(row -> row.request().email()).toList());
+        Set<Integer> takenCodes = userRepository.findExistingInstitutionalCodes(
+                rows.stream().map(row -> row.request().institutionalCode()).toList());
+        List<Row> candidates = new ArrayList<>(rows.size());
+        for (Row row : rows) {
+            if (takenCodes.contains(row.request().institutionalCode())) {
+                results.add(row.result(Status.DUPLICATE, "Institutional code already registered"));
+            } else if (takenEmails.contains(row.request().email())) {
+                results.add(row.result(Status.DUPLICATE, "Email already registered"));
+            } else {
+                candidates.add(row);
+            }
+        }
+        // 2. Parallel password hashing
+        List<Future<String>> hashes = candidates.stream()
+                .map(row -> hashers.submit(() -> passwordEncoder.encode(row.request().password())))
+                .toList();
+        List<Row> accepted = new ArrayList<>(candidates.size());
+        List<User> users = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            Row row = candidates.get(i);
+            try {
+                User user = userMapper.toDomain(row.request());
+                user.setRole(batch.role(row.request().roleType()));
+                user.setPassword(hashes.get(i).get());
+                accepted.add(row);
+                users.add(user);
+            } catch (ExecutionException ex) {
+                String message = (ex.getCause() instanceof ServiceBusyException)
+                        ? "The service was busy; submit this row again"
+                        : "Password could not be hashed";
+                results.add(row.result(Status.FAILED, message));
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while importing users", ex);
+            }
+        }
+        // 3. Batched insert; rows registered concurrently by someone else are skipped by the database
+        try {
+            boolean[] inserted = userRepository.insertAll(users);
+            for (int i = 0; i < accepted.size(); i++) {
+                results.add(inserted[i]
+                        ? accepted.get(i).result(Status.CREATED, null)
+                        : accepted.get(i).result(Status.DUPLICATE, "Email or institutional code already registered"));
+            }
+        } catch (RuntimeException ex) {
+            log.warn("Could not insert a batch of {} imported user(s): {}", users.size(), ex.getMessage());
+            accepted.forEach(row -> results.add(row.result(Status.FAILED, "The row could not be saved; submit it again")));
+        }
+        return results;
+    }
+
+    /**
+     * Maps the CSV header to column positions, ignoring case and surrounding spaces.
+     */
+    private Map<String, Integer> readHeader(String header) {
+        if (header == null) {
+            throw new InvalidRequestException("The uploaded file is empty");
+        }
+        List<String> names = splitCsv(header);
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            columns.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(name -> !columns.containsKey(name)).toList();
+        if (!missing.isEmpty()) {
+            throw new InvalidRequestException("The CSV header is missing the column(s): " + String.join(", ", missing));
+        }
+        return columns;
+    }
+
+    private Row parseCsv(int line, String text, Map<String, Integer> columns) {
+        List<String> values = splitCsv(text);
+        try {
+            String code = column(values, columns, "institutionalcode");
+            String role = column(values, columns, "roletype");
+            return validate(line, new SignUpAdminRequest(
+                    column(values, columns, "firstname"),
+                    column(values, columns, "lastname"),
+                    code != null ? Integer.valueOf(code) : null,
+                    column(values, columns, "email"),
+                    column(values, columns, "password"),
+                    role != null ? RoleType.valueOf(role.toUpperCase(Locale.ROOT)) : null));
+        } catch (IllegalArgumentException ex) {
+            // NumberFormatException included
+            return Row.invalid(line, "Invalid institutional code or role type");
+        }
+    }
+
+    private Row parseJson(int line, String text) {
+        try {
+            return validate(line, objectMapper.readValue(text, SignUpAdminRequest.class));
+        } catch (JsonProcessingException ex) {
+            return Row.invalid(line, "Malformed JSON: " + ex.getOriginalMessage());
+        }
+    }
+
+    /**
+     * Applies the same bean validation constraints as a single registration.
+     */
+    private Row validate(int line, SignUpAdminRequest request) {
+        Set<ConstraintViolation<SignUpAdminRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return new Row(line, request, null);
+        }
+        String message = violations.stream()
+                .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+        return new Row(line, request, message);
+    }
+
+    private static String column(List<String> values, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= values.size()) {
+            return null;
+        }
+        String value = values.get(index).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits a CSV line, honouring double-quoted fields and escaped quotes.
+     * Fields spanning several lines are not supported.
+     */
+    private static List<String> splitCsv(String line) {
+        List<String> values = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                values.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        values.add(current.toString());
+        return values;
+    }
+
+    /**
+     * A parsed line of the upload.
+     * @param line    the line number in the file
+     * @param request the user it describes, if it could be parsed
+     * @param error   why it is invalid, or null if it is valid
+     */
+    private record Row(int line, SignUpAdminRequest request, String error) {
+        static Row invalid(int line, String error) {
+            return new Row(line, null, error);
+        }
+
+        UserImportResultDTO result(Status status, String message) {
+            return new UserImportResultDTO(line,
+                    request != null ? request.institutionalCode() : null,
+                    request != null ? request.email() : null,
+                    status, message);
+        }
+    }
+
+    /**
+     * Rows waiting to be inserted, plus what the import has seen so far.
+     */
+    private final class Batch {
+        private final List<Row> rows = new ArrayList<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final Set<Integer> seenCodes = new HashSet<>();
+
+        /**
+         * Adds a row to the batch, unless it is invalid or repeats an earlier row of the file.
+         * @return the rejection of the row, or null if it was added
+         */
+        private UserImportResultDTO admit(Row row) {
+            if (row.error() != null) {
+                return row.result(Status.INVALID, row.error());
+            }
+            if (role(row.request().roleType()) == null) {
+                return row.result(Status.INVALID, "Unknown role type");
+            }
+            if (!seenCodes.add(row.request().institutionalCode())) {
+                return row.result(Status.DUPLICATE, "Institutional code repeated in the file");
+            }
+            if (!seenEmails.add(row.request().email())) {
+                return row.result(Status.DUPLICATE, "Email repeated in the file");
+            }
+            rows.add(row);
+            return null;
+        }
+
+        /**
+         * Resolves a role from the role catalog; STUDENT is assigned when none is given.
+         */
+        private Role role(RoleType roleType) {
+            RoleType type = (roleType != null) ? roleType : RoleType.STUDENT;
+            return roleRepository.findByName(type).orElse(null);
+        }
+    }
+}
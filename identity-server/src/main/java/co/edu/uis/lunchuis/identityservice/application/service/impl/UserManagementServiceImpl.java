@@ -1,21 +1,29 @@
 package co.edu.uis.lunchuis.identityservice.application.service.impl;
 
 import co.edu.uis.lunchuis.common.dto.MessageResponse;
-import co.edu.uis.lunchuis.common.enums.RoleType;
 import co.edu.uis.lunchuis.common.exception.DuplicateResourceException;
 import co.edu.uis.lunchuis.common.exception.InvalidRequestException;
 import co.edu.uis.lunchuis.common.exception.ResourceNotFoundException;
 import co.edu.uis.lunchuis.common.exception.UnauthorizedActionException;
+import co.edu.uis.lunchuis.common.pagination.Keyset;
+import co.edu.uis.lunchuis.common.pagination.KeysetPage;
+import co.edu.uis.lunchuis.identityservice.application.cache.UserProfileCache;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.ChangePasswordRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.UpdateProfileRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.UpdateUserRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.UpdateUserRoleRequest;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.UserPageResponseDTO;
 import co.edu.uis.lunchuis.identityservice.application.dto.response.UserProfileResponse;
 import co.edu.uis.lunchuis.identityservice.application.dto.response.UserResponseDTO;
 import co.edu.uis.lunchuis.identityservice.application.mapper.UserMapper;
+import co.edu.uis.lunchuis.identityservice.application.service.AuditService;
+import co.edu.uis.lunchuis.identityservice.application.service.TokenRevocationService;
 import co.edu.uis.lunchuis.identityservice.application.service.UserManagementService;
+import co.edu.uis.lunchuis.identityservice.domain.model.AuditAction;
 import co.edu.uis.lunchuis.identityservice.domain.model.Role;
 import co.edu.uis.lunchuis.identityservice.domain.model.User;
+import co.edu.uis.lunchuis.identityservice.domain.model.UserSearchCriteria;
+import co.edu.uis.lunchuis.identityservice.domain.model.UserSummary;
 import co.edu.uis.lunchuis.identityservice.domain.repository.RoleRepository;
 import co.edu.uis.lunchuis.identityservice.domain.repository.UserRepository;
 import io.swagger.v3.oas.annotations.Operation;
@@ -29,32 +37,68 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
 import java.time.Instant;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Implementation of UserManagementService for handling user CRUD operations.
  * Provides methods for user management, profile updates, and password changes.
+ * The current user's profile is served from the {@link UserProfileCache}; every write
+ * loads the user from the repository and evicts its cached profile.
+ * Every change is recorded in the audit trail through the {@link AuditService}.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 @Tag(name = "User Management Service", description = "Service for handling user management operations")
 public class UserManagementServiceImpl implements UserManagementService {
+    private static final int MAX_PAGE_SIZE = 500;
+    private static final int MAX_LOOKUP_SIZE = 50;
+    // Shorter texts yield no trigram, so the search index could not narrow them down
+    private static final int MIN_LOOKUP_LENGTH = 3;
     
     private final UserRepository userRepository;
     private final RoleRepository roleRepository;
     private final PasswordEncoder passwordEncoder;
     private final UserMapper userMapper;
+    private final TokenRevocationService tokenRevocationService;
+    private final UserProfileCache userProfileCache;
+    private final AuditService auditService;
     
     // ========== READ OPERATIONS ==========
     
     @Override
-    @Operation(summary = "Get all users", description = "Retrieves all users in the system")
-    public List<UserResponseDTO> findAllUsers() {
-        log.info("Retrieving all users");
-        return userRepository.findAll().stream()
-                .map(this::mapToUserResponseDTO)
+    @Operation(summary = "Search users", description = "Retrieves a page of users matching the given filters")
+    public UserPageResponseDTO searchUsers(UserSearchCriteria criteria, String after, int limit, boolean count) {
+        int fetchSize = KeysetPage.fetchSize(limit, MAX_PAGE_SIZE);
+        if (criteria.createdFrom() != null && criteria.createdTo() != null
+                && !criteria.createdFrom().isBefore(criteria.createdTo())) {
+            throw new InvalidRequestException("createdFrom must be before createdTo.");
+        }
+        log.info("Searching users with {} after cursor {}", criteria, after);
+        Keyset<Instant> keyset = Keyset.decode(after, "createdAt", Instant::parse);
+        List<UserSummary> users = userRepository.findPage(criteria, keyset.position(), keyset.id(), fetchSize);
+        KeysetPage<UserSummary> page = KeysetPage.of(users, limit, user -> new Keyset<>(user.createdAt(), user.id()));
+        Long total = count ? userRepository.count(criteria) : null;
+        return new UserPageResponseDTO(page.items().stream().map(userMapper::toUserResponseDTO).toList(), page.nextCursor(),
+                total);
+    }
+    
+    @Override
+    @Operation(summary = "Look up users", description = "Finds the users best matching a type-ahead query")
+    public List<UserResponseDTO> lookupUsers(String query, int limit) {
+        String normalized = (query != null) ? query.strip().toLowerCase(Locale.ROOT) : "";
+        if (normalized.length() < MIN_LOOKUP_LENGTH) {
+            throw new InvalidRequestException("The search text must have at least " + MIN_LOOKUP_LENGTH + " characters.");
+        }
+        if (limit < 1 || limit > MAX_LOOKUP_SIZE) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LOOKUP_SIZE + ".");
+        }
+        return userRepository.search(normalized, limit).stream()
+                .map(userMapper::toUserResponseDTO)
                 .toList();
     }
     
@@ -85,34 +129,13 @@ public class UserManagementServiceImpl implements UserManagementService {
         return mapToUserResponseDTO(user);
     }
     
-    @Override
-    @Operation(summary = "Get users by role", description = "Retrieves users by their role type")
-    public List<UserResponseDTO> findUsersByRole(RoleType roleType) {
-        log.info("Retrieving users with role: {}", roleType);
-        Role role = roleRepository.findByName(roleType)
-                .orElseThrow(() -> new ResourceNotFoundException("Role", "name", roleType.name()));
-        return userRepository.findByRole(role).stream()
-                .map(this::mapToUserResponseDTO)
-                .toList();
-    }
-    
-    @Override
-    @Operation(summary = "Get users by enabled status", description = "Retrieves users by their enabled status")
-    public List<UserResponseDTO> findUsersByEnabled(Boolean enabled) {
-        log.info("Retrieving users with enabled status: {}", enabled);
-        return userRepository.findByEnabled(enabled).stream()
-                .map(this::mapToUserResponseDTO)
-                .toList();
-    }
-    
     @Override
     @Operation(summary = "Get current user profile", description = "Retrieves the current user's profile information")
     public UserProfileResponse getCurrentUserProfile() {
         String currentUserCode = getCurrentUserInstitutionalCode();
         log.info("Retrieving profile for current user: {}", currentUserCode);
-        User user = userRepository.findByInstitutionalCode(Integer.parseInt(currentUserCode))
+        return userProfileCache.find(Integer.parseInt(currentUserCode))
                 .orElseThrow(() -> new ResourceNotFoundException("User", "institutionalCode", currentUserCode));
-        return mapToUserProfileResponse(user);
     }
     
     // ========== UPDATE OPERATIONS ==========
@@ -131,13 +154,19 @@ public class UserManagementServiceImpl implements UserManagementService {
         }
         
         // Update user information
+        Map<String, Object> before = details(user);
         user.setFirstName(request.firstName());
         user.setLastName(request.lastName());
         user.setEmail(request.email());
         user.setEnabled(request.enabled());
         user.setUpdatedAt(Instant.now());
         
+        userProfileCache.evict(user.getInstitutionalCode());
         userRepository.save(user);
+        if (!user.isEnabled()) {
+            tokenRevocationService.revoke(user.getInstitutionalCode());
+        }
+        auditService.record(AuditAction.USER_UPDATED, user, before, details(user));
         log.info("Successfully updated user with ID: {}", id);
         return mapToUserResponseDTO(user);
     }
@@ -153,10 +182,18 @@ public class UserManagementServiceImpl implements UserManagementService {
         Role newRole = roleRepository.findByName(request.roleType())
                 .orElseThrow(() -> new ResourceNotFoundException("Role", "name", request.roleType().name()));
         
+        boolean roleChanged = user.getRole() == null || user.getRole().name() != newRole.name();
+        Map<String, Object> before = values("role", (user.getRole() != null) ? user.getRole().name() : null);
         user.setRole(newRole);
         user.setUpdatedAt(Instant.now());
         
+        userProfileCache.evict(user.getInstitutionalCode());
         userRepository.save(user);
+        if (roleChanged) {
+            // Issued tokens still carry the previous role
+            tokenRevocationService.revoke(user.getInstitutionalCode());
+        }
+        auditService.record(AuditAction.USER_ROLE_CHANGED, user, before, values("role", newRole.name()));
         log.info("Successfully updated role for user with ID: {}", id);
         return mapToUserResponseDTO(user);
     }
@@ -169,10 +206,16 @@ public class UserManagementServiceImpl implements UserManagementService {
         User user = userRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         
+        Map<String, Object> before = values("enabled", user.isEnabled());
         user.setEnabled(enabled);
         user.setUpdatedAt(Instant.now());
         
+        userProfileCache.evict(user.getInstitutionalCode());
         userRepository.save(user);
+        if (!user.isEnabled()) {
+            tokenRevocationService.revoke(user.getInstitutionalCode());
+        }
+        auditService.record(AuditAction.USER_STATUS_CHANGED, user, before, values("enabled", user.isEnabled()));
         log.info("Successfully updated enabled status for user with ID: {}", id);
         return mapToUserResponseDTO(user);
     }
@@ -193,12 +236,15 @@ public class UserManagementServiceImpl implements UserManagementService {
         }
         
         // Update profile information
+        Map<String, Object> before = details(user);
         user.setFirstName(request.firstName());
         user.setLastName(request.lastName());
         user.setEmail(request.email());
         user.setUpdatedAt(Instant.now());
         
+        userProfileCache.evict(user.getInstitutionalCode());
         userRepository.save(user);
+        auditService.record(AuditAction.PROFILE_UPDATED, user, before, details(user));
         log.info("Successfully updated profile for current user: {}", currentUserCode);
         return mapToUserProfileResponse(user);
     }
@@ -227,7 +273,10 @@ public class UserManagementServiceImpl implements UserManagementService {
         user.setPassword(passwordEncoder.encode(request.newPassword()));
         user.setUpdatedAt(Instant.now());
         
+        userProfileCache.evict(user.getInstitutionalCode());
         userRepository.save(user);
+        // The password itself, even hashed, is never written to the audit trail
+        auditService.record(AuditAction.PASSWORD_CHANGED, user, null, null);
         log.info("Successfully changed password for current user: {}", currentUserCode);
         return new MessageResponse("Password changed successfully");
     }
@@ -240,11 +289,13 @@ public class UserManagementServiceImpl implements UserManagementService {
     public MessageResponse deleteUser(UUID id) {
         log.info("Deleting user with ID: {}", id);
         
-        if (!userRepository.existsById(id)) {
-            throw new ResourceNotFoundException("User", "id", id);
-        }
+        User user = userRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("User", "id", id));
         
-        userRepository.deleteById(id);
+        userProfileCache.evict(user.getInstitutionalCode());
+        userRepository.delete(user);
+        tokenRevocationService.revoke(user.getInstitutionalCode());
+        auditService.record(AuditAction.USER_DELETED, user, details(user), null);
         log.info("Successfully deleted user with ID: {}", id);
         return new MessageResponse("User deleted successfully");
     }
@@ -259,13 +310,38 @@ public class UserManagementServiceImpl implements UserManagementService {
         User user = userRepository.findByInstitutionalCode(Integer.parseInt(currentUserCode))
                 .orElseThrow(() -> new ResourceNotFoundException("User", "institutionalCode", currentUserCode));
         
+        userProfileCache.evict(user.getInstitutionalCode());
         userRepository.delete(user);
+        tokenRevocationService.revoke(user.getInstitutionalCode());
+        auditService.record(AuditAction.ACCOUNT_DELETED, user, details(user), null);
         log.info("Successfully deleted current user: {}", currentUserCode);
         return new MessageResponse("Account deleted successfully");
     }
     
     // ========== HELPER METHODS ==========
     
+    /**
+     * Captures the editable fields of a user for the audit trail.
+     */
+    private static Map<String, Object> details(User user) {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("firstName", user.getFirstName());
+        details.put("lastName", user.getLastName());
+        details.put("email", user.getEmail());
+        details.put("enabled", user.isEnabled());
+        details.put("role", (user.getRole() != null) ? user.getRole().name() : null);
+        return details;
+    }
+    
+    /**
+     * Captures a single field for the audit trail; unlike {@link Map#of}, the value may be null.
+     */
+    private static Map<String, Object> values(String field, Object value) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        values.put(field, value);
+        return values;
+    }
+    
     /**
      * Maps a User domain object to UserResponseDTO.
      */
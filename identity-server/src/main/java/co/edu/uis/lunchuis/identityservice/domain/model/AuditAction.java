@@ -0,0 +1,14 @@
+package co.edu.uis.lunchuis.identityservice.domain.model;
+
+/**
+ * The kinds of changes to users recorded in the audit trail.
+ */
+public enum AuditAction {
+    USER_UPDATED,
+    USER_ROLE_CHANGED,
+    USER_STATUS_CHANGED,
+    USER_DELETED,
+    PROFILE_UPDATED,
+    PASSWORD_CHANGED,
+    ACCOUNT_DELETED
+}
@@ -0,0 +1,22 @@
+package co.edu.uis.lunchuis.identityservice.domain.model;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Represents one entry of the audit trail: who changed which user, how, and the
+ * values of the changed fields before and after the change.
+ * @param id          the unique identifier of the entry
+ * @param occurredAt  the instant of the change
+ * @param actor       the institutional code of the user who made the change, or "system"
+ * @param action      what was done
+ * @param targetId    the ID of the changed user
+ * @param targetCode  the institutional code of the changed user
+ * @param before      the changed fields before the change, or {@code null} if not applicable
+ * @param after       the changed fields after the change, or {@code null} if not applicable
+ */
+public record AuditEvent(UUID id, Instant occurredAt, String actor, AuditAction action,
+                         UUID targetId, Integer targetCode,
+                         Map<String, Object> before, Map<String, Object> after) {
+}
@@ -0,0 +1,29 @@
+package co.edu.uis.lunchuis.identityservice.domain.model;
+
+import co.edu.uis.lunchuis.common.enums.RoleType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Represents the verified contents of a refresh token.
+ * Refresh tokens are single use: each refresh consumes the presented token and
+ * issues a new one in the same family. The family ties every refresh token of a
+ * login session together, so the whole session can be revoked at once on logout
+ * or when a consumed token is presented again.
+ * @param tokenId   the unique ID of the token
+ * @param familyId  the ID shared by every refresh token of the same login session
+ * @param subject   the institutional code of the user
+ * @param roles     the roles granted to the user when the session started
+ * @param issuedAt  the instant the token was issued
+ * @param expiresAt the instant the token expires
+ */
+public record RefreshTokenClaims(String tokenId, String familyId, String subject, List<RoleType> roles,
+                                 Instant issuedAt, Instant expiresAt) {
+    /**
+     * Constructs the claims, defensively copying the roles.
+     */
+    public RefreshTokenClaims {
+        roles = (roles != null) ? List.copyOf(roles) : List.of();
+    }
+}
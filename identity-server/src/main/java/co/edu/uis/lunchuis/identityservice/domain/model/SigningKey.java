@@ -0,0 +1,27 @@
+package co.edu.uis.lunchuis.identityservice.domain.model;
+
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Represents a key pair used to sign access tokens.
+ * Keys are rotated regularly: each one is published first, then used for signing,
+ * and finally kept only for verification until the last token it signed expires.
+ * @param keyId      the identifier written in the {@code kid} header of the tokens it signs
+ * @param publicKey  the key published to resource servers to verify tokens
+ * @param privateKey the key used to sign tokens
+ * @param createdAt  the instant the key was generated
+ */
+public record SigningKey(String keyId, PublicKey publicKey, PrivateKey privateKey, Instant createdAt) {
+    /**
+     * Constructs a new {@code SigningKey}, ensuring every component is present.
+     */
+    public SigningKey {
+        Objects.requireNonNull(keyId, "Key ID cannot be null");
+        Objects.requireNonNull(publicKey, "Public key cannot be null");
+        Objects.requireNonNull(privateKey, "Private key cannot be null");
+        Objects.requireNonNull(createdAt, "Creation time cannot be null");
+    }
+}
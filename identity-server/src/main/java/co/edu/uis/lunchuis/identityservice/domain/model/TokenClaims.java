@@ -0,0 +1,26 @@
+package co.edu.uis.lunchuis.identityservice.domain.model;
+
+import co.edu.uis.lunchuis.common.enums.RoleType;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Represents the verified contents of an access token.
+ * Everything needed to authenticate a request is carried here, so a valid
+ * token can be turned into an authenticated principal without loading the
+ * user from the database.
+ * @param tokenId   the unique ID of the token, as stored in the {@code jti} claim
+ * @param subject   the institutional code of the user, as stored in the {@code sub} claim
+ * @param roles     the roles granted to the user when the token was issued
+ * @param issuedAt  the instant the token was issued
+ * @param expiresAt the instant the token expires
+ */
+public record TokenClaims(String tokenId, String subject, List<RoleType> roles, Instant issuedAt, Instant expiresAt) {
+    /**
+     * Constructs the claims, defensively copying the roles.
+     */
+    public TokenClaims {
+        roles = (roles != null) ? List.copyOf(roles) : List.of();
+    }
+}
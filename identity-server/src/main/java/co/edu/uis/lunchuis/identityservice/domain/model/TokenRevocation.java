@@ -0,0 +1,17 @@
+package co.edu.uis.lunchuis.identityservice.domain.model;
+
+import co.edu.uis.lunchuis.common.enums.RevocationType;
+
+import java.time.Instant;
+
+/**
+ * Represents the revocation of a token, a refresh token family or every token of a user.
+ * A revocation only matters while the tokens it applies to could still be valid,
+ * so it carries the instant after which it can be forgotten.
+ * @param type      what the revocation applies to
+ * @param id        the revoked token or family ID, or the institutional code of the revoked user
+ * @param revokedAt the instant of the revocation
+ * @param expiresAt the instant every token it applies to has expired
+ */
+public record TokenRevocation(RevocationType type, String id, Instant revokedAt, Instant expiresAt) {
+}
@@ -0,0 +1,16 @@
+package co.edu.uis.lunchuis.identityservice.domain.model;
+
+import co.edu.uis.lunchuis.common.enums.RoleType;
+
+import java.time.Instant;
+
+/**
+ * Filters of a user listing. Every filter is optional; a {@code null} value
+ * leaves that attribute unrestricted, and the given filters are combined.
+ * @param role        only users with this role
+ * @param enabled     only users with this enabled status
+ * @param createdFrom only users created at or after this instant
+ * @param createdTo   only users created before this instant
+ */
+public record UserSearchCriteria(RoleType role, Boolean enabled, Instant createdFrom, Instant createdTo) {
+}
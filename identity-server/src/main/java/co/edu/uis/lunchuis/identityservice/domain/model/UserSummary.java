@@ -0,0 +1,33 @@
+package co.edu.uis.lunchuis.identityservice.domain.model;
+
+import co.edu.uis.lunchuis.common.enums.RoleType;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Read-only view of a user for listings.
+ * Carries everything shown about a user except credentials, so listings never
+ * read the password hash from the database.
+ * @param id                the unique identifier of the user
+ * @param firstName         the user's first name
+ * @param lastName          the user's last name
+ * @param institutionalCode the user's institutional code
+ * @param email             the user's institutional email
+ * @param role              the role assigned to the user
+ * @param enabled           whether the user can sign in
+ * @param createdAt         the instant the user was created
+ * @param updatedAt         the instant the user was last updated
+ */
+public record UserSummary(
+        UUID id,
+        String firstName,
+        String lastName,
+        Integer institutionalCode,
+        String email,
+        RoleType role,
+        boolean enabled,
+        Instant createdAt,
+        Instant updatedAt
+) {
+}
@@ -0,0 +1,31 @@
+package co.edu.uis.lunchuis.identityservice.domain.repository;
+
+import co.edu.uis.lunchuis.identityservice.domain.model.AuditEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Repository interface for the audit trail.
+ * Entries are only ever appended and read back; they are never updated.
+ */
+public interface AuditEventRepository {
+    /**
+     * Appends the given entries in a single batch.
+     * @param events the entries to append (must not be {@code null})
+     */
+    void insertAll(List<AuditEvent> events);
+
+    /**
+     * Retrieves one page of entries within a time range, newest first
+     * (ordered by time of the change, then by ID).
+     * @param from            the earliest instant included, or {@code null} for no lower bound
+     * @param to              the instant the range ends before, or {@code null} for no upper bound
+     * @param afterOccurredAt the time of the last entry of the previous page, or {@code null} for the first page
+     * @param afterId         the ID of the last entry of the previous page, or {@code null} for the first page
+     * @param limit           the maximum number of entries to return
+     * @return the matching entries
+     */
+    List<AuditEvent> findPage(Instant from, Instant to, Instant afterOccurredAt, UUID afterId, int limit);
+}
@@ -0,0 +1,30 @@
+package co.edu.uis.lunchuis.identityservice.domain.repository;
+
+import co.edu.uis.lunchuis.identityservice.domain.model.SigningKey;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link SigningKey} instances within the domain layer.
+ * Keys are shared through the database so every instance of the identity service
+ * signs with, and publishes, the same key set, and issued tokens survive restarts.
+ */
+public interface SigningKeyRepository {
+    /**
+     * Persists a new signing key.
+     * @param signingKey the key to save (must not be {@code null})
+     */
+    void save(SigningKey signingKey);
+
+    /**
+     * Retrieves every stored signing key.
+     * @return the stored keys, newest first
+     */
+    List<SigningKey> findAll();
+
+    /**
+     * Deletes a signing key that is no longer needed to verify any token.
+     * @param keyId the identifier of the key to delete
+     */
+    void deleteById(String keyId);
+}
@@ -0,0 +1,42 @@
+package co.edu.uis.lunchuis.identityservice.domain.repository;
+
+import co.edu.uis.lunchuis.identityservice.domain.model.TokenRevocation;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link TokenRevocation} records within the domain layer.
+ * Revocations are shared through the database, so every instance of the identity service
+ * (and, through it, every other service) rejects the same tokens, and they survive restarts.
+ */
+public interface TokenRevocationRepository {
+    /**
+     * Stores a revocation unless one with the same ID already exists. Being atomic, this
+     * also tells exactly one caller that it consumed a single-use token.
+     * @param revocation the revocation to store (must not be {@code null})
+     * @return {@code true} if it was stored, or {@code false} if the ID was already revoked
+     */
+    boolean insert(TokenRevocation revocation);
+
+    /**
+     * Stores a revocation, moving an existing one with the same ID forward to the later
+     * revocation and expiration instants.
+     * @param revocation the revocation to store (must not be {@code null})
+     */
+    void save(TokenRevocation revocation);
+
+    /**
+     * Retrieves the revocations made or renewed since the given instant.
+     * @param since the instant to look from (must not be {@code null})
+     * @return the matching revocations
+     */
+    List<TokenRevocation> findRevokedSince(Instant since);
+
+    /**
+     * Deletes the revocations whose tokens have all expired.
+     * @param now the current instant (must not be {@code null})
+     * @return the number of deleted revocations
+     */
+    int deleteExpired(Instant now);
+}
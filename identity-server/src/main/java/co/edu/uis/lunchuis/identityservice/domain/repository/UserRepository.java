@@ -1,10 +1,14 @@
 package co.edu.uis.lunchuis.identityservice.domain.repository;
 
-import co.edu.uis.lunchuis.identityservice.domain.model.Role;
 import co.edu.uis.lunchuis.identityservice.domain.model.User;
+import co.edu.uis.lunchuis.identityservice.domain.model.UserSearchCriteria;
+import co.edu.uis.lunchuis.identityservice.domain.model.UserSummary;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -24,6 +28,15 @@ public interface UserRepository {
      */
     void save(User user);
 
+    /**
+     * Inserts a new user in a single statement, relying on the unique constraints
+     * instead of checking for existing users first.
+     * @param user the user to insert, with its password already hashed (must not be {@code null})
+     * @return {@code true} if it was inserted, or {@code false} if its email or
+     *         institutional code is already taken
+     */
+    boolean insert(User user);
+
     /**
      * Retrieves a {@link User} by its unique identifier.
      * @param id the unique identifier to search for (must not be {@code null})
@@ -52,11 +65,32 @@ public interface UserRepository {
     List<User> findAll();
 
     /**
-     * Retrieves users by their role.
-     * @param role the role to search for (must not be {@code null})
-     * @return a list of users with the specified role
+     * Retrieves one page of users matching the given filters, newest first
+     * (ordered by creation time, then by ID).
+     * @param criteria        the filters to apply (must not be {@code null})
+     * @param afterCreatedAt  the creation time of the last user of the previous page, or {@code null} for the first page
+     * @param afterId         the ID of the last user of the previous page, or {@code null} for the first page
+     * @param limit           the maximum number of users to return
+     * @return the matching users, without their credentials
+     */
+    List<UserSummary> findPage(UserSearchCriteria criteria, Instant afterCreatedAt, UUID afterId, int limit);
+
+    /**
+     * Finds the users best matching a type-ahead query: institutional codes starting
+     * with it when it is numeric, or names and emails containing it or resembling it
+     * otherwise, best matches first.
+     * @param query the lower-case, trimmed text typed so far (must not be {@code null})
+     * @param limit the maximum number of users to return
+     * @return the matching users, without their credentials
+     */
+    List<UserSummary> search(String query, int limit);
+
+    /**
+     * Counts the users matching the given filters.
+     * @param criteria the filters to apply (must not be {@code null})
+     * @return the number of matching users
      */
-    List<User> findByRole(Role role);
+    long count(UserSearchCriteria criteria);
 
     /**
      * Retrieves users by their enabled status.
@@ -79,6 +113,28 @@ public interface UserRepository {
      */
     boolean existsByInstitutionalCode(Integer code);
 
+    /**
+     * Returns which of the given emails are already taken, in a single query.
+     * @param emails the email addresses to check (must not be {@code null})
+     * @return the subset of {@code emails} that belong to existing users
+     */
+    Set<String> findExistingEmails(Collection<String> emails);
+
+    /**
+     * Returns which of the given institutional codes are already taken, in a single query.
+     * @param codes the institutional codes to check (must not be {@code null})
+     * @return the subset of {@code codes} that belong to existing users
+     */
+    Set<Integer> findExistingInstitutionalCodes(Collection<Integer> codes);
+
+    /**
+     * Inserts new users in a single batch, skipping any that conflict with an existing
+     * email or institutional code (e.g., one registered concurrently).
+     * @param users the users to insert, with their passwords already hashed (must not be {@code null})
+     * @return for each user, in order, {@code true} if it was inserted or {@code false} if it was skipped
+     */
+    boolean[] insertAll(List<User> users);
+
     /**
      * Checks whether a {@link User} with the given ID already exists.
      * @param id the unique identifier to check (must not be {@code null})
@@ -46,7 +46,9 @@ public class CorsConfig {
         // Exponer headers
         configuration.setExposedHeaders(Arrays.asList(
             "Access-Control-Allow-Origin",
-            "Access-Control-Allow-Credentials"
+            "Access-Control-Allow-Credentials",
+            "X-Next-Cursor",
+            "X-Total-Count"
         ));
         
         // Configurar para todas las rutas
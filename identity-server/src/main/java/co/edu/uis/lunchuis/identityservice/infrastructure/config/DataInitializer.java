@@ -3,6 +3,7 @@ package co.edu.uis.lunchuis.identityservice.infrastructure.config;
 import co.edu.uis.lunchuis.common.enums.RoleType;
 import co.edu.uis.lunchuis.identityservice.domain.model.Role;
 import co.edu.uis.lunchuis.identityservice.domain.model.User;
+import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.adapter.RoleCatalog;
 import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.RoleEntity;
 import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.UserEntity;
 import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.mapper.RoleEntityMapper;
@@ -12,6 +13,7 @@ import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.repository
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
@@ -35,6 +37,8 @@ import java.util.stream.Collectors;
  *    in the database by checking for missing roles and creating them as needed.
  * 2. Creates a default admin user with predefined credentials and assigns the admin
  *    role to it if the user does not already exist.
+ * 3. Creates the indexes behind the type-ahead user search, which Hibernate cannot
+ *    declare on the entity.
  */
 @Component
 @RequiredArgsConstructor
@@ -45,11 +49,14 @@ public class DataInitializer implements CommandLineRunner {
     private final UserEntityMapper userEntityMapper;
     private final JpaUserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final RoleCatalog roleCatalog;
 
     @Override
     public void run(String... args) {
         initializeRoles();
         initializeAdminUser();
+        initializeSearchIndexes();
     }
 
     /**
@@ -64,8 +71,10 @@ public class DataInitializer implements CommandLineRunner {
      */
     private void initializeRoles() {
         log.info("Checking for roles initialization...");
-        // 1. Get all roles that *should* exist from the enum
+        // 1. Get all roles that *should* exist from the enum; SERVICE is only granted to service tokens,
+        // and leaving it out of the table keeps it from ever being assigned to a user
         Set<RoleType> expectedRoles = Arrays.stream(RoleType.values())
+                .filter(roleType -> roleType != RoleType.SERVICE)
                 .collect(Collectors.toSet());
         // 2. Get all roles that *currently* exist in the database in ONE query
         Set<RoleType> existingRoles = roleRepository.findAll().stream()
@@ -86,6 +95,7 @@ public class DataInitializer implements CommandLineRunner {
                     .map(roleEntityMapper::toEntity)
                     .toList();
             roleRepository.saveAll(newEntities);
+            roleCatalog.reload();
             log.info("Successfully created {} new role(s).", newRoles.size());
         } else {
             log.info("All roles are already synchronized with the database.");
@@ -141,4 +151,27 @@ public class DataInitializer implements CommandLineRunner {
         }
         log.info("Admin user initialization complete.");
     }
+
+    /**
+     * Creates the indexes used by the type-ahead user search, if they do not exist yet.
+     * - A trigram GIN index over the lower-cased names and email, which serves substring
+     *   ({@code LIKE '%...%'}) and fuzzy ({@code <%}) matches.
+     * - A pattern index over the institutional code as text, which serves code prefixes.
+     * PostgreSQL keeps both up to date on every insert, update and delete, so the search
+     * never needs a rebuild. The expressions must match the queries in
+     * {@code UserRepositoryAdapter} exactly for the planner to use them.
+     */
+    private void initializeSearchIndexes() {
+        log.info("Checking for user search indexes...");
+        jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+        jdbcTemplate.execute("""
+                CREATE INDEX IF NOT EXISTS idx_users_search ON users
+                USING gin (lower(first_name || ' ' || last_name || ' ' || email) gin_trgm_ops)
+                """);
+        jdbcTemplate.execute("""
+                CREATE INDEX IF NOT EXISTS idx_users_code_prefix ON users
+                ((CAST(institutional_code AS text)) text_pattern_ops)
+                """);
+        log.info("User search indexes initialization complete.");
+    }
 }
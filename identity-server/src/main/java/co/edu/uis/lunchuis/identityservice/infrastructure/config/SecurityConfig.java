@@ -1,7 +1,11 @@
 package co.edu.uis.lunchuis.identityservice.infrastructure.config;
 
+import co.edu.uis.lunchuis.identityservice.infrastructure.security.BoundedPasswordEncoder;
 import co.edu.uis.lunchuis.identityservice.infrastructure.security.JwtAuthenticationFilter;
+import co.edu.uis.lunchuis.identityservice.infrastructure.security.LoginRateLimitFilter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,6 +24,8 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.cors.CorsConfigurationSource;
 
+import java.time.Duration;
+
 /**
  * Spring Security configuration class for the LunchUIS Identity Service.
  * Configures authentication and authorization rules for all HTTP requests.
@@ -33,6 +39,7 @@ import org.springframework.web.cors.CorsConfigurationSource;
 public class SecurityConfig {
     private final UserDetailsService userDetailsService;
     private final JwtAuthenticationFilter jwtAuthenticationFilter;
+    private final LoginRateLimitFilter loginRateLimitFilter;
     private final CorsConfigurationSource corsConfigurationSource;
 
     /**
@@ -42,12 +49,14 @@ public class SecurityConfig {
      * 2. Defining authorization rules (which endpoints are public, which are protected).
      * 3. Setting session management to STATELESS (no sessions are created).
      * 4. Registering the custom {@link AuthenticationProvider}.
+     * 5. Rate limiting login attempts ({@link LoginRateLimitFilter}).
      * @param http The {@link HttpSecurity} builder to configure.
      * @return The configured {@link SecurityFilterChain}.
      * @throws Exception if an error occurs during configuration.
      */
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   AuthenticationProvider authenticationProvider) throws Exception {
         http
                 // 1. Disable CSRF, as we are using JWT (stateless)
                 .csrf(AbstractHttpConfigurer::disable)
@@ -55,9 +64,12 @@ public class SecurityConfig {
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
                 // 3. Define authorization rules
                 .authorizeHttpRequests(auth -> auth
+                        // The revocation feed lists the codes of disabled and deleted users: services and admins only
+                        .requestMatchers("/auth/revocations").hasAnyRole("SERVICE", "ADMIN")
                         // Public endpoints
                         .requestMatchers(
                                 "/auth/**", // login/registration endpoints
+                                "/.well-known/jwks.json", // public keys used by resource servers to verify tokens
                                 "/swagger-ui/**", // Swagger UI assets (JS, CSS, etc.)
                                 "/auth/api-docs/**", // The API JSON (based on springdoc.api-docs.path=auth/api-docs)
                                 "/swagger-ui.html", // Swagger UI HTML page
@@ -70,9 +82,11 @@ public class SecurityConfig {
                 .sessionManagement(session ->
                         session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 // 5. Set authentication provider
-                .authenticationProvider(authenticationProvider())
+                .authenticationProvider(authenticationProvider)
                 // 6. Add JWT filter before UsernamePasswordAuthenticationFilter
-                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+                // 7. Throttle login attempts before any password is hashed
+                .addFilterBefore(loginRateLimitFilter, JwtAuthenticationFilter.class);
 
         return http.build();
     }
@@ -81,12 +95,13 @@ public class SecurityConfig {
      * Configures the {@link AuthenticationProvider} for Spring Security.
      * Uses {@link DaoAuthenticationProvider} with a custom {@link UserDetailsService} and {@link PasswordEncoder}.
      * This allows Spring Security to authenticate users based on institutional code and hashed passwords.
+     * @param passwordEncoder The encoder used to verify passwords.
      * @return The configured {@link AuthenticationProvider}.
      */
     @Bean
-    public AuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordEncoder passwordEncoder) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider(userDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
+        authProvider.setPasswordEncoder(passwordEncoder);
         return authProvider;
     }
 
@@ -109,11 +124,23 @@ public class SecurityConfig {
      * This bean is used for hashing passwords before saving them to the
      * database and for verifying passwords during authentication.
      * We use {@link BCryptPasswordEncoder} as it is the industry standard
-     * for secure password hashing.
-     * @return An instance of {@link BCryptPasswordEncoder}.
+     * for secure password hashing. Hashing runs on a dedicated bounded pool
+     * ({@link BoundedPasswordEncoder}) so login storms cannot starve request threads.
+     * @param meterRegistry The registry where hashing metrics are published.
+     * @param strength      The BCrypt cost factor.
+     * @param poolSize      The number of hashes computed in parallel; defaults to the number of cores.
+     * @param queueCapacity The number of hashes allowed to wait for a free thread.
+     * @param retryAfter    The delay suggested to clients turned away when the queue is full.
+     * @return An instance of {@link BoundedPasswordEncoder} backed by {@link BCryptPasswordEncoder}.
      */
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder(MeterRegistry meterRegistry,
+                                           @Value("${identity.password.bcrypt-strength:10}") int strength,
+                                           @Value("${identity.password.pool-size:0}") int poolSize,
+                                           @Value("${identity.password.queue-capacity:200}") int queueCapacity,
+                                           @Value("${identity.password.retry-after:2s}") Duration retryAfter) {
+        int threads = (poolSize > 0) ? poolSize : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), threads, queueCapacity,
+                retryAfter, meterRegistry);
     }
 }
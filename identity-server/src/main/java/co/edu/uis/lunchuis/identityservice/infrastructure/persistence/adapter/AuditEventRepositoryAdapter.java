@@ -0,0 +1,117 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.adapter;
+
+import co.edu.uis.lunchuis.identityservice.domain.model.AuditAction;
+import co.edu.uis.lunchuis.identityservice.domain.model.AuditEvent;
+import co.edu.uis.lunchuis.identityservice.domain.repository.AuditEventRepository;
+import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.AuditEventEntity;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Adapter implementation of the {@link AuditEventRepository} interface.
+ * The table is described by {@link AuditEventEntity}; entries are appended with a
+ * single JDBC batch per flush instead of one persisted entity each, and the before
+ * and after values are stored as JSON documents.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditEventRepositoryAdapter implements AuditEventRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO audit_events (id, occurred_at, actor, action, target_id, target_code,
+                                      before_values, after_values)
+            VALUES (?, ?, ?, ?, ?, ?, CAST(? AS jsonb), CAST(? AS jsonb))
+            """;
+    private static final String SELECT_SQL = """
+            SELECT id, occurred_at, actor, action, target_id, target_code, before_values, after_values
+            FROM audit_events
+            """;
+    private static final TypeReference<Map<String, Object>> VALUES = new TypeReference<>() { };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public void insertAll(List<AuditEvent> events) {
+        jdbcTemplate.batchUpdate(INSERT_SQL, events, events.size(), (ps, event) -> {
+            ps.setObject(1, event.id());
+            ps.setTimestamp(2, Timestamp.from(event.occurredAt()));
+            ps.setString(3, event.actor());
+            ps.setString(4, event.action().name());
+            ps.setObject(5, event.targetId());
+            ps.setObject(6, event.targetCode());
+            ps.setString(7, toJson(event.before()));
+            ps.setString(8, toJson(event.after()));
+        });
+    }
+
+    @Override
+    public List<AuditEvent> findPage(Instant from, Instant to, Instant afterOccurredAt, UUID afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL).append("WHERE TRUE");
+        List<Object> args = new ArrayList<>();
+        if (from != null) {
+            sql.append(" AND occurred_at >= ?");
+            args.add(Timestamp.from(from));
+        }
+        if (to != null) {
+            sql.append(" AND occurred_at < ?");
+            args.add(Timestamp.from(to));
+        }
+        if (afterOccurredAt != null && afterId != null) {
+            // Row comparison, so the (occurred_at, id) index serves the keyset directly
+            sql.append(" AND (occurred_at, id) < (?, ?)");
+            args.add(Timestamp.from(afterOccurredAt));
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY occurred_at DESC, id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), (rs, rowNum) -> toDomain(rs), args.toArray());
+    }
+
+    private AuditEvent toDomain(ResultSet rs) throws SQLException {
+        return new AuditEvent(
+                rs.getObject("id", UUID.class),
+                rs.getTimestamp("occurred_at").toInstant(),
+                rs.getString("actor"),
+                AuditAction.valueOf(rs.getString("action")),
+                rs.getObject("target_id", UUID.class),
+                rs.getObject("target_code", Integer.class),
+                fromJson(rs.getString("before_values")),
+                fromJson(rs.getString("after_values"))
+        );
+    }
+
+    private String toJson(Map<String, Object> values) {
+        if (values == null) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(values);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalArgumentException("Audit values cannot be serialized", ex);
+        }
+    }
+
+    private Map<String, Object> fromJson(String json) {
+        if (json == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(json, VALUES);
+        } catch (JsonProcessingException ex) {
+            throw new IllegalStateException("Stored audit values are not valid JSON", ex);
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.adapter;
+
+import co.edu.uis.lunchuis.common.enums.RoleType;
+import co.edu.uis.lunchuis.identityservice.domain.model.Role;
+import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.RoleEntity;
+import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.mapper.RoleEntityMapper;
+import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.repository.JpaRoleRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory catalog of the roles stored in the database.
+ * The {@code roles} table only ever holds the {@link RoleType} values seeded at startup,
+ * so the whole table is loaded once and kept as an immutable snapshot, replaced as a
+ * whole when a role is added. Resolving a role, by name or by the ID referenced from a
+ * user row, then costs a map lookup instead of a query or a join.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RoleCatalog {
+    private final JpaRoleRepository jpaRoleRepository;
+    private final RoleEntityMapper roleEntityMapper;
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    /**
+     * Loads the roles before the first request.
+     */
+    @PostConstruct
+    public void initialize() {
+        reload();
+    }
+
+    /**
+     * Finds a role by its name.
+     * @param name the role type to search for
+     * @return the role, or empty if it is not stored
+     */
+    public Optional<Role> findByName(RoleType name) {
+        Role role = snapshot.byName().get(name);
+        if (role == null) {
+            // The role may have been added since the catalog was loaded
+            role = reload().byName().get(name);
+        }
+        return Optional.ofNullable(role);
+    }
+
+    /**
+     * Resolves the role referenced by a user row. Only the ID of the entity is read,
+     * so a lazy role reference is resolved without loading it.
+     * @param entity the role referenced by a user row
+     * @return the matching role of the catalog
+     */
+    public Role toDomain(RoleEntity entity) {
+        if (entity == null) {
+            return null;
+        }
+        Role role = snapshot.byId().get(entity.getId());
+        if (role == null) {
+            role = reload().byId().get(entity.getId());
+        }
+        if (role == null) {
+            throw new IllegalStateException("Role " + entity.getId() + " is referenced but not stored.");
+        }
+        return role;
+    }
+
+    /**
+     * Reloads every role from the database. Called after roles are added.
+     * @return the new snapshot
+     */
+    public synchronized Snapshot reload() {
+        Snapshot loaded = Snapshot.of(jpaRoleRepository.findAll().stream()
+                .map(roleEntityMapper::toDomain)
+                .toList());
+        snapshot = loaded;
+        log.debug("Loaded {} role(s) into the role catalog.", loaded.byName().size());
+        return loaded;
+    }
+
+    /**
+     * Immutable view of the stored roles.
+     * @param byName the roles by role type
+     * @param byId   the roles by ID
+     */
+    public record Snapshot(Map<RoleType, Role> byName, Map<UUID, Role> byId) {
+        private static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+        private static Snapshot of(Iterable<Role> roles) {
+            Map<RoleType, Role> byName = new EnumMap<>(RoleType.class);
+            roles.forEach(role -> byName.put(role.name(), role));
+            return new Snapshot(Collections.unmodifiableMap(byName),
+                    byName.values().stream().collect(Collectors.toUnmodifiableMap(Role::id, role -> role)));
+        }
+    }
+}
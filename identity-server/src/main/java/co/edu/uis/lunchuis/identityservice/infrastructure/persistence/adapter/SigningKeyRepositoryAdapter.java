@@ -0,0 +1,67 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.adapter;
+
+import co.edu.uis.lunchuis.identityservice.domain.model.SigningKey;
+import co.edu.uis.lunchuis.identityservice.domain.repository.SigningKeyRepository;
+import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.SigningKeyEntity;
+import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.repository.JpaSigningKeyRepository;
+import co.edu.uis.lunchuis.identityservice.infrastructure.security.SigningKeyCipher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.List;
+
+/**
+ * SigningKeyRepositoryAdapter serves as an adapter implementation of the {@link SigningKeyRepository}
+ * interface, bridging it to the infrastructure-specific {@link JpaSigningKeyRepository}.
+ * Keys are converted by hand rather than through a MapStruct mapper, since they have
+ * to be encoded and decoded with a {@link KeyFactory}. Private keys are encrypted by the
+ * {@link SigningKeyCipher} before they reach the database.
+ */
+@Repository
+@RequiredArgsConstructor
+public class SigningKeyRepositoryAdapter implements SigningKeyRepository {
+    private final JpaSigningKeyRepository jpaSigningKeyRepository;
+    private final SigningKeyCipher signingKeyCipher;
+
+    @Override
+    public void save(SigningKey signingKey) {
+        jpaSigningKeyRepository.save(new SigningKeyEntity(
+                signingKey.keyId(),
+                signingKey.publicKey().getAlgorithm(),
+                signingKey.publicKey().getEncoded(),
+                signingKeyCipher.encrypt(signingKey.keyId(), signingKey.privateKey().getEncoded()),
+                signingKey.createdAt()
+        ));
+    }
+
+    @Override
+    public List<SigningKey> findAll() {
+        return jpaSigningKeyRepository.findAllByOrderByCreatedAtDesc().stream()
+                .map(this::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void deleteById(String keyId) {
+        jpaSigningKeyRepository.deleteById(keyId);
+    }
+
+    private SigningKey toDomain(SigningKeyEntity entity) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance(entity.getAlgorithm());
+            return new SigningKey(
+                    entity.getKeyId(),
+                    keyFactory.generatePublic(new X509EncodedKeySpec(entity.getPublicKey())),
+                    keyFactory.generatePrivate(new PKCS8EncodedKeySpec(
+                            signingKeyCipher.decrypt(entity.getKeyId(), entity.getPrivateKey()))),
+                    entity.getCreatedAt()
+            );
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Stored signing key " + entity.getKeyId() + " cannot be decoded", ex);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.adapter;
+
+import co.edu.uis.lunchuis.common.enums.RevocationType;
+import co.edu.uis.lunchuis.identityservice.domain.model.TokenRevocation;
+import co.edu.uis.lunchuis.identityservice.domain.repository.TokenRevocationRepository;
+import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.TokenRevocationEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Adapter implementation of the {@link TokenRevocationRepository} interface.
+ * The table is described by {@link TokenRevocationEntity}; statements are plain SQL
+ * because they rely on PostgreSQL's {@code ON CONFLICT} to stay atomic across instances.
+ * It depends on the entity manager factory so the table exists before the first statement.
+ */
+@Repository
+@DependsOn("entityManagerFactory")
+@RequiredArgsConstructor
+public class TokenRevocationRepositoryAdapter implements TokenRevocationRepository {
+    private static final String INSERT_SQL = """
+            INSERT INTO token_revocations (id, type, revoked_at, expires_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (id) DO NOTHING
+            """;
+    private static final String UPSERT_SQL = """
+            INSERT INTO token_revocations (id, type, revoked_at, expires_at)
+            VALUES (?, ?, ?, ?)
+            ON CONFLICT (id) DO UPDATE
+            SET revoked_at = GREATEST(token_revocations.revoked_at, EXCLUDED.revoked_at),
+                expires_at = GREATEST(token_revocations.expires_at, EXCLUDED.expires_at)
+            """;
+    private static final String FIND_SINCE_SQL = """
+            SELECT id, type, revoked_at, expires_at
+            FROM token_revocations
+            WHERE revoked_at >= ? AND expires_at > ?
+            """;
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM token_revocations WHERE expires_at <= ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insert(TokenRevocation revocation) {
+        return jdbcTemplate.update(INSERT_SQL, revocation.id(), revocation.type().name(),
+                Timestamp.from(revocation.revokedAt()), Timestamp.from(revocation.expiresAt())) != 0;
+    }
+
+    @Override
+    public void save(TokenRevocation revocation) {
+        jdbcTemplate.update(UPSERT_SQL, revocation.id(), revocation.type().name(),
+                Timestamp.from(revocation.revokedAt()), Timestamp.from(revocation.expiresAt()));
+    }
+
+    @Override
+    public List<TokenRevocation> findRevokedSince(Instant since) {
+        return jdbcTemplate.query(FIND_SINCE_SQL, (rs, rowNum) -> new TokenRevocation(
+                RevocationType.valueOf(rs.getString("type")),
+                rs.getString("id"),
+                rs.getTimestamp("revoked_at").toInstant(),
+                rs.getTimestamp("expires_at").toInstant()
+        ), Timestamp.from(since), Timestamp.from(Instant.now()));
+    }
+
+    @Override
+    public int deleteExpired(Instant now) {
+        return jdbcTemplate.update(DELETE_EXPIRED_SQL, Timestamp.from(now));
+    }
+}
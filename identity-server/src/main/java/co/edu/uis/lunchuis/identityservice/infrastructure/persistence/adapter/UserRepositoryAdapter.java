@@ -1,18 +1,36 @@
 package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.adapter;
 
-import co.edu.uis.lunchuis.identityservice.domain.model.Role;
+import co.edu.uis.lunchuis.common.enums.RoleType;
 import co.edu.uis.lunchuis.identityservice.domain.model.User;
+import co.edu.uis.lunchuis.identityservice.domain.model.UserSearchCriteria;
+import co.edu.uis.lunchuis.identityservice.domain.model.UserSummary;
 import co.edu.uis.lunchuis.identityservice.domain.repository.UserRepository;
 import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.RoleEntity;
 import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.UserEntity;
-import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.mapper.RoleEntityMapper;
 import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.mapper.UserEntityMapper;
 import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.repository.JpaUserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.From;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -26,14 +44,59 @@ import java.util.UUID;
 @Repository
 @RequiredArgsConstructor
 public class UserRepositoryAdapter implements UserRepository {
+    /**
+     * Plain SQL insert used for new users: it bypasses the persistence context (which would
+     * first look the ID up), and rows that clash with a unique constraint are skipped
+     * instead of failing the statement or the transaction.
+     */
+    private static final String INSERT_USER_SQL = """
+            INSERT INTO users (id, first_name, last_name, institutional_code, email, password,
+                               role_id, enabled, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT DO NOTHING
+            """;
+
+    /**
+     * Columns of a {@link UserSummary}, read without the password hash.
+     */
+    private static final String SUMMARY_COLUMNS = """
+            SELECT u.id, u.first_name, u.last_name, u.institutional_code, u.email, r.name AS role,
+                   u.enabled, u.created_at, u.updated_at
+            FROM users u JOIN roles r ON r.id = u.role_id
+            """;
+    /**
+     * Code prefix search, served by the {@code idx_users_code_prefix} index.
+     */
+    private static final String SEARCH_BY_CODE_SQL = SUMMARY_COLUMNS + """
+            WHERE CAST(u.institutional_code AS text) LIKE ? ESCAPE '\\'
+            ORDER BY u.institutional_code
+            LIMIT ?
+            """;
+    /**
+     * Substring or fuzzy search over names and email, served by the {@code idx_users_search}
+     * trigram index. The expression must stay identical to the indexed one.
+     */
+    private static final String SEARCH_BY_TEXT_SQL = SUMMARY_COLUMNS + """
+            WHERE lower(u.first_name || ' ' || u.last_name || ' ' || u.email) LIKE ? ESCAPE '\\'
+               OR ? <% lower(u.first_name || ' ' || u.last_name || ' ' || u.email)
+            ORDER BY word_similarity(?, lower(u.first_name || ' ' || u.last_name || ' ' || u.email)) DESC,
+                     u.last_name, u.first_name
+            LIMIT ?
+            """;
+
     private final JpaUserRepository jpaUserRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
     private final UserEntityMapper userEntityMapper;
-    private final RoleEntityMapper roleEntityMapper;
 
     @Override
     public void save(User user) {
-        UserEntity userEntity = userEntityMapper.toEntity(user);
-        userEntityMapper.toDomain(jpaUserRepository.save(userEntity));
+        jpaUserRepository.save(userEntityMapper.toEntity(user));
+    }
+
+    @Override
+    public boolean insert(User user) {
+        return jdbcTemplate.update(INSERT_USER_SQL, ps -> bind(ps, user)) != 0;
     }
 
     @Override
@@ -61,12 +124,62 @@ public class UserRepositoryAdapter implements UserRepository {
                 .toList();
     }
 
+    /**
+     * Only the listed columns are selected, so neither the password hash nor a full
+     * entity is loaded, and only the filters actually given end up in the SQL.
+     * The keyset is a row-value comparison, which PostgreSQL matches against the
+     * {@code idx_users_listing} index as a single range scan.
+     */
     @Override
-    public List<User> findByRole(Role role) {
-        RoleEntity roleEntity = roleEntityMapper.toEntity(role);
-        return jpaUserRepository.findByRole(roleEntity).stream()
-                .map(userEntityMapper::toDomain)
-                .toList();
+    public List<UserSummary> findPage(UserSearchCriteria criteria, Instant afterCreatedAt, UUID afterId, int limit) {
+        StringBuilder sql = new StringBuilder(SUMMARY_COLUMNS).append("WHERE TRUE");
+        List<Object> args = new ArrayList<>();
+        if (criteria.role() != null) {
+            sql.append(" AND r.name = ?");
+            args.add(criteria.role().name());
+        }
+        if (criteria.enabled() != null) {
+            sql.append(" AND u.enabled = ?");
+            args.add(criteria.enabled());
+        }
+        if (criteria.createdFrom() != null) {
+            sql.append(" AND u.created_at >= ?");
+            args.add(Timestamp.from(criteria.createdFrom()));
+        }
+        if (criteria.createdTo() != null) {
+            sql.append(" AND u.created_at < ?");
+            args.add(Timestamp.from(criteria.createdTo()));
+        }
+        if (afterCreatedAt != null && afterId != null) {
+            // Keyset: rows strictly after the last one of the previous page in (created_at desc, id desc)
+            sql.append(" AND (u.created_at, u.id) < (?, ?)");
+            args.add(Timestamp.from(afterCreatedAt));
+            args.add(afterId);
+        }
+        sql.append(" ORDER BY u.created_at DESC, u.id DESC LIMIT ?");
+        args.add(limit);
+        return jdbcTemplate.query(sql.toString(), UserRepositoryAdapter::toSummary, args.toArray());
+    }
+
+    @Override
+    public List<UserSummary> search(String query, int limit) {
+        String escaped = query.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        if (query.chars().allMatch(Character::isDigit)) {
+            return jdbcTemplate.query(SEARCH_BY_CODE_SQL, UserRepositoryAdapter::toSummary, escaped + "%", limit);
+        }
+        return jdbcTemplate.query(SEARCH_BY_TEXT_SQL, UserRepositoryAdapter::toSummary,
+                "%" + escaped + "%", query, query, limit);
+    }
+
+    @Override
+    public long count(UserSearchCriteria criteria) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<UserEntity> user = query.from(UserEntity.class);
+        Join<UserEntity, RoleEntity> role = user.join("role");
+        query.select(cb.count(user))
+                .where(filters(cb, user, role, criteria).toArray(Predicate[]::new));
+        return entityManager.createQuery(query).getSingleResult();
     }
 
     @Override
@@ -86,6 +199,33 @@ public class UserRepositoryAdapter implements UserRepository {
         return jpaUserRepository.existsByInstitutionalCode(code);
     }
 
+    @Override
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        return emails.isEmpty() ? Set.of() : jpaUserRepository.findEmailsIn(emails);
+    }
+
+    @Override
+    public Set<Integer> findExistingInstitutionalCodes(Collection<Integer> codes) {
+        return codes.isEmpty() ? Set.of() : jpaUserRepository.findInstitutionalCodesIn(codes);
+    }
+
+    @Override
+    @Transactional
+    public boolean[] insertAll(List<User> users) {
+        boolean[] inserted = new boolean[users.size()];
+        if (users.isEmpty()) {
+            return inserted;
+        }
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_USER_SQL, users, users.size(), UserRepositoryAdapter::bind);
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                inserted[index++] = count != 0;
+            }
+        }
+        return inserted;
+    }
+
     @Override
     public boolean existsById(UUID id) {
         return jpaUserRepository.existsById(id);
@@ -101,4 +241,54 @@ public class UserRepositoryAdapter implements UserRepository {
         UserEntity userEntity = userEntityMapper.toEntity(user);
         jpaUserRepository.delete(userEntity);
     }
+
+    private static void bind(PreparedStatement ps, User user) throws SQLException {
+        ps.setObject(1, user.getId());
+        ps.setString(2, user.getFirstName());
+        ps.setString(3, user.getLastName());
+        ps.setInt(4, user.getInstitutionalCode());
+        ps.setString(5, user.getEmail());
+        ps.setString(6, user.getPassword());
+        ps.setObject(7, user.getRole().id());
+        ps.setBoolean(8, user.isEnabled());
+        ps.setTimestamp(9, Timestamp.from(user.getCreatedAt()));
+        ps.setTimestamp(10, user.getUpdatedAt() != null ? Timestamp.from(user.getUpdatedAt()) : null);
+    }
+
+    private static UserSummary toSummary(ResultSet rs, int rowNum) throws SQLException {
+        Timestamp updatedAt = rs.getTimestamp("updated_at");
+        return new UserSummary(
+                rs.getObject("id", UUID.class),
+                rs.getString("first_name"),
+                rs.getString("last_name"),
+                rs.getInt("institutional_code"),
+                rs.getString("email"),
+                RoleType.valueOf(rs.getString("role")),
+                rs.getBoolean("enabled"),
+                rs.getTimestamp("created_at").toInstant(),
+                updatedAt != null ? updatedAt.toInstant() : null
+        );
+    }
+
+    /**
+     * Translates the given search filters into predicates, skipping the ones left empty.
+     * {@link #findPage} applies the same filters in SQL; keep both in sync.
+     */
+    private static List<Predicate> filters(CriteriaBuilder cb, From<?, UserEntity> user,
+                                           From<?, RoleEntity> role, UserSearchCriteria criteria) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (criteria.role() != null) {
+            predicates.add(cb.equal(role.get("name"), criteria.role()));
+        }
+        if (criteria.enabled() != null) {
+            predicates.add(cb.equal(user.get("enabled"), criteria.enabled()));
+        }
+        if (criteria.createdFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(user.get("createdAt"), criteria.createdFrom()));
+        }
+        if (criteria.createdTo() != null) {
+            predicates.add(cb.lessThan(user.get("createdAt"), criteria.createdTo()));
+        }
+        return predicates;
+    }
 }
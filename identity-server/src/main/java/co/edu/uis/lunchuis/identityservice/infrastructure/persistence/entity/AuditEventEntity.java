@@ -0,0 +1,55 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity;
+
+import co.edu.uis.lunchuis.identityservice.domain.model.AuditAction;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Represents the database entity for audit trail entries.
+ * This class maps directly to the "audit_events" table in PostgresSQL.
+ * The before and after values are stored as JSON documents.
+ */
+@Entity
+@Table(name = "audit_events", indexes = {
+        @Index(name = "idx_audit_events_listing", columnList = "occurred_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditEventEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "occurred_at", nullable = false)
+    private Instant occurredAt;
+
+    @Column(nullable = false, length = 20)
+    private String actor;
+
+    @Column(nullable = false, length = 30)
+    @Enumerated(EnumType.STRING)
+    private AuditAction action;
+
+    @Column(name = "target_id")
+    private UUID targetId;
+
+    @Column(name = "target_code")
+    private Integer targetCode;
+
+    @Column(name = "before_values", columnDefinition = "jsonb")
+    private String beforeValues;
+
+    @Column(name = "after_values", columnDefinition = "jsonb")
+    private String afterValues;
+}
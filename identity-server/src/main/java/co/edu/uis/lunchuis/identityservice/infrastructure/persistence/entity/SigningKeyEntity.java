@@ -0,0 +1,41 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Represents the database entity for token signing keys.
+ * This class maps directly to the "signing_keys" table in PostgresSQL.
+ * Keys are stored in their standard encodings: X.509 for the public key
+ * and PKCS#8 for the private key, which is encrypted first (see
+ * {@link co.edu.uis.lunchuis.identityservice.infrastructure.security.SigningKeyCipher}).
+ */
+@Entity
+@Table(name = "signing_keys")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SigningKeyEntity {
+    @Id
+    @Column(name = "key_id", length = 64)
+    private String keyId;
+
+    @Column(nullable = false, length = 10)
+    private String algorithm;
+
+    @Column(name = "public_key", nullable = false)
+    private byte[] publicKey;
+
+    @Column(name = "private_key", nullable = false)
+    private byte[] privateKey;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
@@ -0,0 +1,45 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity;
+
+import co.edu.uis.lunchuis.common.enums.RevocationType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+
+/**
+ * Represents the database entity for token revocations.
+ * This class maps directly to the "token_revocations" table in PostgresSQL.
+ * Token and family IDs are UUIDs and users are identified by their numeric
+ * institutional code, so both share the same key space.
+ */
+@Entity
+@Table(name = "token_revocations", indexes = {
+        @Index(name = "idx_token_revocations_revoked_at", columnList = "revoked_at"),
+        @Index(name = "idx_token_revocations_expires_at", columnList = "expires_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TokenRevocationEntity {
+    @Id
+    @Column(length = 64)
+    private String id;
+
+    @Column(nullable = false, length = 10)
+    @Enumerated(EnumType.STRING)
+    private RevocationType type;
+
+    @Column(name = "revoked_at", nullable = false)
+    private Instant revokedAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private Instant expiresAt;
+}
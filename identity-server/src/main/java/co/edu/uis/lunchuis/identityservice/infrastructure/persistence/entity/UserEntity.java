@@ -4,7 +4,9 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
 import lombok.NoArgsConstructor;
+import lombok.ToString;
 
 import java.time.Instant;
 import java.util.UUID;
@@ -15,7 +17,9 @@ import java.util.UUID;
  * It contains persistent attributes, mapping annotations, and lifecycle callbacks.
  */
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_listing", columnList = "created_at, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -50,9 +54,11 @@ public final class UserEntity {
     @Schema(description = "User's hashed password.", requiredMode = Schema.RequiredMode.REQUIRED)
     private String password;
 
-    @ManyToOne(fetch = FetchType.EAGER) // EAGER fetch is fine for a single role
+    @ManyToOne(fetch = FetchType.LAZY) // Resolved by ID from the role catalog, never loaded
     @JoinColumn(name = "role_id", referencedColumnName = "id", nullable = false)
     @Schema(description = "The role assigned to the user.", requiredMode = Schema.RequiredMode.REQUIRED)
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
     private RoleEntity role;
 
     @Column(nullable = false)
@@ -2,13 +2,16 @@ package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.mapper;
 
 import co.edu.uis.lunchuis.common.mapper.BaseEntityMapper;
 import co.edu.uis.lunchuis.identityservice.domain.model.User;
+import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.adapter.RoleCatalog;
 import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.UserEntity;
 import org.mapstruct.Mapper;
 
 /**
  * Maps between domain model {@link User} and persistence entity {@link UserEntity}.
  * Used internally by repository adapters in the infrastructure layer.
+ * Roles are resolved through the {@link RoleCatalog}, so the role of a loaded user is
+ * never fetched from the database.
  */
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = RoleCatalog.class)
 public interface UserEntityMapper extends BaseEntityMapper<User, UserEntity> {
 }
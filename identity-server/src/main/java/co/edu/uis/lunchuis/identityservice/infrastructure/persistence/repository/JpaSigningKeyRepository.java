@@ -0,0 +1,20 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.repository;
+
+import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.SigningKeyEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing {@link SigningKeyEntity} persistence.
+ * Provides CRUD operations and custom query methods using Spring Data JPA.
+ */
+@Repository
+public interface JpaSigningKeyRepository extends JpaRepository<SigningKeyEntity, String> {
+    /**
+     * Retrieves every signing key, newest first.
+     * @return the stored keys ordered by creation time, descending.
+     */
+    List<SigningKeyEntity> findAllByOrderByCreatedAtDesc();
+}
@@ -1,12 +1,15 @@
 package co.edu.uis.lunchuis.identityservice.infrastructure.persistence.repository;
 
-import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.RoleEntity;
 import co.edu.uis.lunchuis.identityservice.infrastructure.persistence.entity.UserEntity;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 /**
@@ -29,13 +32,6 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, UUID> {
      */
     Optional<UserEntity> findByInstitutionalCode(Integer institutionalCode);
 
-    /**
-     * Finds users by their role.
-     * @param role The role to search for.
-     * @return A list of users with the specified role.
-     */
-    List<UserEntity> findByRole(RoleEntity role);
-
     /**
      * Finds users by their enabled status.
      * @param enabled The enabled status to search for.
@@ -56,4 +52,20 @@ public interface JpaUserRepository extends JpaRepository<UserEntity, UUID> {
      * @return true if a user exists, false otherwise.
      */
     Boolean existsByInstitutionalCode(Integer institutionalCode);
+
+    /**
+     * Finds which of the given emails are already taken.
+     * @param emails The emails to check.
+     * @return The emails that belong to existing users.
+     */
+    @Query("SELECT u.email FROM UserEntity u WHERE u.email IN :emails")
+    Set<String> findEmailsIn(@Param("emails") Collection<String> emails);
+
+    /**
+     * Finds which of the given institutional codes are already taken.
+     * @param codes The codes to check.
+     * @return The codes that belong to existing users.
+     */
+    @Query("SELECT u.institutionalCode FROM UserEntity u WHERE u.institutionalCode IN :codes")
+    Set<Integer> findInstitutionalCodesIn(@Param("codes") Collection<Integer> codes);
 }
@@ -1,35 +1,43 @@
 package co.edu.uis.lunchuis.identityservice.infrastructure.security;
 
 import co.edu.uis.lunchuis.identityservice.application.service.JwtService;
+import co.edu.uis.lunchuis.identityservice.application.service.TokenRevocationService;
+import co.edu.uis.lunchuis.identityservice.domain.model.TokenClaims;
+import io.jsonwebtoken.JwtException;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
-import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.List;
 
 
 /**
  * JWT Authentication Filter for validating requests.
  * This filter intercepts every HTTP request and checks for the presence of a JWT in the
- * Authorization header ("Bearer <token>"). If a valid JWT is present, it loads the
- * user details using {@link UserDetailsService} and sets the authentication in the
- * Spring Security context.
+ * Authorization header ("Bearer <token>"). If a valid JWT is present, it builds the
+ * authentication from the token's own {@code sub} and {@code roles} claims and sets it
+ * in the Spring Security context. The token is parsed once and the user is not loaded
+ * from the database; tokens of disabled, deleted or re-roled users are rejected through
+ * the {@link TokenRevocationService}.
  */
 @Component
 @RequiredArgsConstructor
+@Slf4j
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtService jwtService;
-    private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -45,24 +53,37 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         }
         // 2. Extract the token from the header
         final String jwt = authHeader.substring(7); // "Bearer ".length()
-        final String userCode = jwtService.extractUsername(jwt);
-        // 3. Validate the token
-        // If we have a user email, and they are not yet authenticated
-        if (userCode != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-            UserDetails userDetails = this.userDetailsService.loadUserByUsername(userCode);
-
-            if (jwtService.isTokenValid(jwt, userDetails)) {
-                // If the token is valid, create an Authentication object and set it in the SecurityContext
-                UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
-                        userDetails,
-                        null, // We don't need credentials
-                        userDetails.getAuthorities()
-                );
-                authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                SecurityContextHolder.getContext().setAuthentication(authToken);
+        // 3. Verify the token, unless the request is already authenticated
+        if (SecurityContextHolder.getContext().getAuthentication() == null) {
+            try {
+                TokenClaims claims = jwtService.parseToken(jwt);
+                if (claims.subject() != null
+                        && !tokenRevocationService.isRevoked(claims.tokenId(), claims.subject(), claims.issuedAt())) {
+                    // If the token is valid, create an Authentication object and set it in the SecurityContext
+                    UsernamePasswordAuthenticationToken authToken = new UsernamePasswordAuthenticationToken(
+                            claims.subject(),
+                            null, // We don't need credentials
+                            toAuthorities(claims)
+                    );
+                    authToken.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                    SecurityContextHolder.getContext().setAuthentication(authToken);
+                }
+            } catch (JwtException ex) {
+                // The request continues unauthenticated and is rejected by the authorization rules
+                log.debug("Rejected JWT: {}", ex.getMessage());
             }
         }
         // 4. Pass the request to the next filter in the chain
         filterChain.doFilter(request, response);
     }
+
+    /**
+     * Maps the roles of a token to authorities.
+     * The role name must be prefixed with "ROLE_" for hasRole() expressions to work.
+     */
+    private static List<GrantedAuthority> toAuthorities(TokenClaims claims) {
+        return claims.roles().stream()
+                .<GrantedAuthority>map(role -> new SimpleGrantedAuthority("ROLE_" + role.name()))
+                .toList();
+    }
 }
@@ -0,0 +1,279 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.security;
+
+import co.edu.uis.lunchuis.common.dto.ErrorResponse;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.lang.NonNull;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.SequenceInputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles login attempts before any password is hashed.
+ * Every attempt takes a token from the bucket of the client's IP address and from the
+ * bucket of the institutional code it targets. An attempt finding either bucket empty is
+ * answered with 429 and a Retry-After header, without reaching the
+ * {@code DaoAuthenticationProvider}. The IP bucket stops credential stuffing across many
+ * accounts; the code bucket stops guessing one account's password from many addresses.
+ * Buckets are kept in bounded maps and dropped once unused for as long as they take to
+ * refill completely, since a full bucket is the same as no bucket at all.
+ * The client address is the connection's remote address; behind a reverse proxy,
+ * {@code server.forward-headers-strategy} must be set for it to be the real client's.
+ * Every client behind a NAT shares one IP bucket, so its default is sized for a campus
+ * gateway at lunch time (300 attempts, then 10 per second); the code bucket is the one
+ * that protects each account.
+ * The code is read with the same {@link ObjectMapper} that binds the login request, so
+ * every form the controller accepts ({@code 2180001}, {@code "2180001"}, {@code 2180001.0})
+ * counts against the same bucket. A body too large to be inspected is rejected with 400.
+ * Admitted and rejected attempts are published as the {@code identity.login.attempts} counter.
+ */
+@Component
+@Slf4j
+public class LoginRateLimitFilter extends OncePerRequestFilter {
+    private static final String LOGIN_PATH = "/auth/login";
+    private static final String CODE_FIELD = "institutionalCode";
+    // Login bodies are tiny; this much is inspected, and larger bodies are rejected
+    private static final int MAX_INSPECTED_BYTES = 4096;
+
+    private final ObjectMapper objectMapper;
+    private final Limit codeLimit;
+    private final Limit ipLimit;
+    private final Counter admitted;
+
+    /**
+     * Constructs the filter and registers its metrics.
+     * @param objectMapper        The mapper used to read the login body and write the error.
+     * @param codeCapacity        The attempts allowed in a burst against one institutional code.
+     * @param codeRefillInterval  The time it takes to earn back one attempt against a code.
+     * @param ipCapacity          The attempts allowed in a burst from one IP address.
+     * @param ipRefillInterval    The time it takes to earn back one attempt from an IP address.
+     * @param maximumKeys         The maximum number of codes and of addresses tracked at once.
+     * @param meterRegistry       The registry where the metrics are published.
+     */
+    public LoginRateLimitFilter(ObjectMapper objectMapper,
+                                @Value("${identity.login.rate-limit.code.capacity:5}") int codeCapacity,
+                                @Value("${identity.login.rate-limit.code.refill-interval:1m}") Duration codeRefillInterval,
+                                @Value("${identity.login.rate-limit.ip.capacity:300}") int ipCapacity,
+                                @Value("${identity.login.rate-limit.ip.refill-interval:100ms}") Duration ipRefillInterval,
+                                @Value("${identity.login.rate-limit.maximum-keys:100000}") long maximumKeys,
+                                MeterRegistry meterRegistry) {
+        this.objectMapper = objectMapper;
+        this.codeLimit = new Limit("code", codeCapacity, codeRefillInterval, maximumKeys, meterRegistry);
+        this.ipLimit = new Limit("ip", ipCapacity, ipRefillInterval, maximumKeys, meterRegistry);
+        this.admitted = Counter.builder("identity.login.attempts")
+                .description("Login attempts checked by the rate limiter")
+                .tag("outcome", "admitted")
+                .tag("limit", "none")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NonNull HttpServletRequest request) {
+        return !HttpMethod.POST.matches(request.getMethod()) || !LOGIN_PATH.equals(request.getServletPath());
+    }
+
+    @Override
+    protected void doFilterInternal(@NonNull HttpServletRequest request,
+                                    @NonNull HttpServletResponse response,
+                                    @NonNull FilterChain filterChain)
+            throws ServletException, IOException {
+        long now = System.nanoTime();
+        long waitNanos = ipLimit.tryConsume(request.getRemoteAddr(), now);
+        if (waitNanos > 0) {
+            reject(request, response, waitNanos);
+            return;
+        }
+        // The body can only be read once, so the inspected bytes are replayed to the controller
+        byte[] head = request.getInputStream().readNBytes(MAX_INSPECTED_BYTES + 1);
+        if (head.length > MAX_INSPECTED_BYTES) {
+            // The code could sit past the inspected bytes and escape its bucket
+            writeError(request, response, HttpStatus.BAD_REQUEST, "LOGIN_REQUEST_TOO_LARGE",
+                    "The login request is too large");
+            return;
+        }
+        String code = extractCode(head);
+        if (code != null) {
+            waitNanos = codeLimit.tryConsume(code, now);
+            if (waitNanos > 0) {
+                reject(request, response, waitNanos);
+                return;
+            }
+        }
+        admitted.increment();
+        filterChain.doFilter(new ReplayedBodyRequest(request, head), response);
+    }
+
+    /**
+     * Reads the targeted institutional code from the login body, converted to an {@link Integer}
+     * exactly as the request body is bound, so equivalent forms share one bucket.
+     * @return the code, or {@code null} if the body is not a login request; such bodies
+     * are then only limited by IP address, and rejected by the binding or validation further on.
+     */
+    private String extractCode(byte[] body) {
+        try {
+            JsonNode code = objectMapper.readTree(body).get(CODE_FIELD);
+            if (code == null || code.isNull()) {
+                return null;
+            }
+            Integer value = objectMapper.treeToValue(code, Integer.class);
+            return (value != null) ? value.toString() : null;
+        } catch (IOException | RuntimeException ex) {
+            return null;
+        }
+    }
+
+    /**
+     * Answers an over-limit attempt with 429 and the time until it may be retried.
+     */
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos)
+            throws IOException {
+        // Retry-After is expressed in whole seconds; round up so clients never retry too early
+        long seconds = Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1));
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(seconds));
+        writeError(request, response, HttpStatus.TOO_MANY_REQUESTS, "TOO_MANY_LOGIN_ATTEMPTS",
+                "Too many login attempts. Please retry later");
+    }
+
+    /**
+     * Answers the request with an error body, without reaching the controller.
+     */
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                            String error, String message) throws IOException {
+        ErrorResponse errorResponse = new ErrorResponse(
+                Instant.now(),
+                status.value(),
+                error,
+                message,
+                request.getRequestURI()
+        );
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), errorResponse);
+    }
+
+    /**
+     * The buckets of one kind of key, with the counter of the attempts they reject.
+     */
+    private static final class Limit {
+        private final String name;
+        private final int capacity;
+        private final long refillNanos;
+        private final Cache<String, TokenBucket> buckets;
+        private final Counter rejected;
+
+        private Limit(String name, int capacity, Duration refillInterval, long maximumKeys,
+                      MeterRegistry meterRegistry) {
+            this.name = name;
+            this.capacity = capacity;
+            this.refillNanos = refillInterval.toNanos();
+            this.buckets = CaffeineCacheMetrics.monitor(meterRegistry, Caffeine.newBuilder()
+                    .maximumSize(maximumKeys)
+                    .expireAfterAccess(refillInterval.multipliedBy(capacity))
+                    .recordStats()
+                    .<String, TokenBucket>build(), "identity.login.buckets." + name);
+            this.rejected = Counter.builder("identity.login.attempts")
+                    .description("Login attempts checked by the rate limiter")
+                    .tag("outcome", "rejected")
+                    .tag("limit", name)
+                    .register(meterRegistry);
+        }
+
+        /**
+         * Takes a token from the key's bucket.
+         * @return 0 if the attempt is admitted; otherwise, the nanoseconds until it may be retried.
+         */
+        private long tryConsume(String key, long now) {
+            long waitNanos = buckets.get(key, k -> new TokenBucket(capacity, refillNanos, now)).tryConsume(now);
+            if (waitNanos > 0) {
+                rejected.increment();
+                log.debug("Login attempt rejected by the {} limit.", name);
+            }
+            return waitNanos;
+        }
+    }
+
+    /**
+     * Request whose body starts with bytes already read from it, followed by the unread rest.
+     */
+    private static final class ReplayedBodyRequest extends HttpServletRequestWrapper {
+        private final ServletInputStream body;
+
+        private ReplayedBodyRequest(HttpServletRequest request, byte[] head) throws IOException {
+            super(request);
+            InputStream stream = new SequenceInputStream(new ByteArrayInputStream(head), request.getInputStream());
+            this.body = new ServletInputStream() {
+                private boolean finished;
+
+                @Override
+                public int read() throws IOException {
+                    int read = stream.read();
+                    finished = (read < 0);
+                    return read;
+                }
+
+                @Override
+                public int read(byte[] buffer, int offset, int length) throws IOException {
+                    int read = stream.read(buffer, offset, length);
+                    finished = (read < 0);
+                    return read;
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return finished;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException("Asynchronous reads are not supported");
+                }
+            };
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            return body;
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            Charset charset = (encoding != null) ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(body, charset));
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Cipher;
+import javax.crypto.SecretKey;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.SecureRandom;
+import java.util.Base64;
+
+/**
+ * Encrypts the private signing keys before they are stored in the shared database,
+ * so reading the table is not enough to mint tokens.
+ * Keys are sealed with AES-256-GCM under the {@code jwt.keys.encryption-key} secret,
+ * which every instance takes from its environment and never from the database. The key ID
+ * is bound as associated data, so a sealed key cannot be moved to another row.
+ * Sealed keys are stored as a version byte, the 12-byte nonce and the ciphertext with its tag.
+ * Keys written before encryption was introduced are plain PKCS#8, which always starts with
+ * a DER sequence tag; they are still read, and retire with the normal rotation.
+ */
+@Component
+public class SigningKeyCipher {
+    private static final String TRANSFORMATION = "AES/GCM/NoPadding";
+    private static final byte VERSION = 1;
+    private static final byte DER_SEQUENCE = 0x30;
+    private static final int NONCE_LENGTH = 12;
+    private static final int TAG_BITS = 128;
+
+    private final SecretKey key;
+    private final SecureRandom random = new SecureRandom();
+
+    /**
+     * Constructs the cipher.
+     * @param encryptionKey The Base64-encoded AES key, of 256 bits.
+     */
+    public SigningKeyCipher(@Value("${jwt.keys.encryption-key}") String encryptionKey) {
+        byte[] keyBytes = Base64.getDecoder().decode(encryptionKey);
+        if (keyBytes.length != 32) {
+            throw new IllegalArgumentException("jwt.keys.encryption-key must be a Base64-encoded 256-bit key");
+        }
+        this.key = new SecretKeySpec(keyBytes, "AES");
+    }
+
+    /**
+     * Seals an encoded private key.
+     * @param keyId      The ID of the signing key, bound to the result.
+     * @param privateKey The PKCS#8 encoding of the private key.
+     * @return the sealed key.
+     */
+    public byte[] encrypt(String keyId, byte[] privateKey) {
+        byte[] nonce = new byte[NONCE_LENGTH];
+        random.nextBytes(nonce);
+        try {
+            Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(Cipher.ENCRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, nonce));
+            cipher.updateAAD(keyId.getBytes(StandardCharsets.UTF_8));
+            byte[] sealed = cipher.doFinal(privateKey);
+            return ByteBuffer.allocate(1 + NONCE_LENGTH + sealed.length)
+                    .put(VERSION)
+                    .put(nonce)
+                    .put(sealed)
+                    .array();
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Signing key " + keyId + " cannot be encrypted", ex);
+        }
+    }
+
+    /**
+     * Opens a stored private key.
+     * @param keyId  The ID of the signing key it was sealed for.
+     * @param stored The stored bytes.
+     * @return the PKCS#8 encoding of the private key.
+     * @throws GeneralSecurityException if the key was sealed under another secret, for another
+     *                                  key ID, or was altered.
+     */
+    public byte[] decrypt(String keyId, byte[] stored) throws GeneralSecurityException {
+        if (stored.length > 0 && stored[0] == DER_SEQUENCE) {
+            return stored;
+        }
+        if (stored.length <= 1 + NONCE_LENGTH || stored[0] != VERSION) {
+            throw new GeneralSecurityException("Unknown format of stored signing key " + keyId);
+        }
+        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
+        cipher.init(Cipher.DECRYPT_MODE, key, new GCMParameterSpec(TAG_BITS, stored, 1, NONCE_LENGTH));
+        cipher.updateAAD(keyId.getBytes(StandardCharsets.UTF_8));
+        return cipher.doFinal(stored, 1 + NONCE_LENGTH, stored.length - 1 - NONCE_LENGTH);
+    }
+}
@@ -0,0 +1,45 @@
+package co.edu.uis.lunchuis.identityservice.infrastructure.security;
+
+/**
+ * Token bucket refilled lazily, one token per refill interval, up to its capacity.
+ * Nothing runs in the background: the tokens earned since the last call are added
+ * when the bucket is next used.
+ */
+class TokenBucket {
+    private final int capacity;
+    private final long refillNanos;
+    private long available;
+    private long refilledAt;
+
+    /**
+     * Constructs a full bucket.
+     * @param capacity    The number of tokens the bucket holds, i.e. the allowed burst.
+     * @param refillNanos The time it takes to earn one token back, in nanoseconds.
+     * @param now         The current {@link System#nanoTime()}.
+     */
+    TokenBucket(int capacity, long refillNanos, long now) {
+        this.capacity = capacity;
+        this.refillNanos = refillNanos;
+        this.available = capacity;
+        this.refilledAt = now;
+    }
+
+    /**
+     * Takes a token if one is available.
+     * @param now The current {@link System#nanoTime()}.
+     * @return 0 if a token was taken; otherwise, the nanoseconds until the next one is earned.
+     */
+    synchronized long tryConsume(long now) {
+        long earned = (now - refilledAt) / refillNanos;
+        if (earned > 0) {
+            available = Math.min(capacity, available + earned);
+            // Keep the time already spent earning the next token, unless the bucket is full
+            refilledAt = (available == capacity) ? now : refilledAt + earned * refillNanos;
+        }
+        if (available > 0) {
+            available--;
+            return 0;
+        }
+        return refillNanos - (now - refilledAt);
+    }
+}
@@ -2,8 +2,12 @@ package co.edu.uis.lunchuis.identityservice.web.controller;
 
 import co.edu.uis.lunchuis.common.dto.ErrorResponse;
 import co.edu.uis.lunchuis.common.dto.MessageResponse;
+import co.edu.uis.lunchuis.common.exception.InvalidRequestException;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.SignUpAdminRequest;
+import co.edu.uis.lunchuis.identityservice.application.dto.request.UserImportFormat;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.UserImportReportDTO;
 import co.edu.uis.lunchuis.identityservice.application.service.AuthenticationService;
+import co.edu.uis.lunchuis.identityservice.application.service.UserImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.ExampleObject;
@@ -14,14 +18,19 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.InputStream;
+
 @RestController
 @RequestMapping("auth/admin")
 @RequiredArgsConstructor
@@ -29,6 +38,7 @@ import org.springframework.web.bind.annotation.RestController;
 @SecurityRequirement(name = "bearerAuth")
 public class AdminController {
     private final AuthenticationService authenticationService;
+    private final UserImportService userImportService;
 
     @PostMapping("/register")
     @PreAuthorize("hasRole('ADMIN')")
@@ -78,4 +88,54 @@ public class AdminController {
         MessageResponse response = authenticationService.signupadmin(request);
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
+
+    @PostMapping(value = "/users/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Import users in bulk",
+            description = "Registers every user of a CSV file (with a header row: firstName,lastName,"
+                    + "institutionalCode,email,password[,roleType]) or an NDJSON file (one object per line "
+                    + "with the same fields). Rows missing a role become STUDENTs. Invalid and duplicate rows "
+                    + "are skipped and reported; every other row is created. Only accessible by administrators.",
+            security = @SecurityRequirement(name = "bearer-jwt")
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "File processed; the report gives the outcome of every row",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = UserImportReportDTO.class),
+                            examples = @ExampleObject(value = "{ \"total\": 2, \"created\": 1, \"rejected\": 1, \"results\": ["
+                                    + "{ \"line\": 2, \"institutionalCode\": 2180001, \"email\": \"ana@uis.edu.co\", \"status\": \"CREATED\" },"
+                                    + "{ \"line\": 3, \"institutionalCode\": 2180002, \"email\": \"luis@uis.edu.co\", \"status\": \"DUPLICATE\", \"message\": \"Email already registered\" } ] }")
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "The file is empty, unreadable, or its CSV header is missing required columns",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - User does not have ADMIN role",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<UserImportReportDTO> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body) {
+        UserImportFormat format;
+        try {
+            format = UserImportFormat.fromMediaType(contentType);
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidRequestException(ex.getMessage());
+        }
+        return ResponseEntity.ok(userImportService.importUsers(body, format));
+    }
 }
@@ -0,0 +1,89 @@
+package co.edu.uis.lunchuis.identityservice.web.controller;
+
+import co.edu.uis.lunchuis.common.dto.ErrorResponse;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.AuditEventPageResponseDTO;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.AuditEventResponseDTO;
+import co.edu.uis.lunchuis.identityservice.application.service.AuditService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * REST Controller for reading the audit trail of changes to users.
+ */
+@RestController
+@RequestMapping("auth/audit-events")
+@RequiredArgsConstructor
+@Tag(name = "Audit", description = "Audit trail of changes to users (Admin only)")
+@SecurityRequirement(name = "bearerAuth")
+public class AuditController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final AuditService auditService;
+
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Get the audit trail",
+            description = "Retrieves audit entries page by page, newest first, optionally within a time range. "
+                    + "Pass the " + NEXT_CURSOR_HEADER + " response header as 'after' to get the next page. "
+                    + "Entries are written in batches, so the latest changes may take a moment to appear.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the page of entries",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = AuditEventResponseDTO.class))
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid time range, cursor or limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - User does not have ADMIN role",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<List<AuditEventResponseDTO>> getAuditEvents(
+            @Parameter(description = "Only entries at or after this instant", example = "2025-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant from,
+            @Parameter(description = "Only entries before this instant", example = "2026-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant to,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of entries in the page", example = "100")
+            @RequestParam(defaultValue = "100") int limit) {
+        AuditEventPageResponseDTO page = auditService.findEvents(from, to, after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+}
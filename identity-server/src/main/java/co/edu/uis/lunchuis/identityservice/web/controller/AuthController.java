@@ -2,7 +2,10 @@ package co.edu.uis.lunchuis.identityservice.web.controller;
 
 import co.edu.uis.lunchuis.common.dto.ErrorResponse;
 import co.edu.uis.lunchuis.common.dto.MessageResponse;
+import co.edu.uis.lunchuis.common.dto.ServiceTokenDTO;
+import co.edu.uis.lunchuis.common.dto.ServiceTokenRequestDTO;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.LoginRequest;
+import co.edu.uis.lunchuis.identityservice.application.dto.request.RefreshTokenRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.SignUpRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.response.JwtAuthenticationResponse;
 import co.edu.uis.lunchuis.identityservice.application.service.AuthenticationService;
@@ -102,10 +105,110 @@ public class AuthController {
                             schema = @Schema(implementation = ErrorResponse.class),
                             examples = @ExampleObject(value = "{ \"error\": \"Invalid institutional code or password\" }")
                     )
+            ),
+            @ApiResponse(
+                    responseCode = "429",
+                    description = "Too many login attempts for this institutional code or from this address",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
             )
     })
     @PostMapping("/login")
     public ResponseEntity<JwtAuthenticationResponse> login(@Valid @RequestBody LoginRequest loginRequest) {
         return ResponseEntity.ok(service.login(loginRequest));
     }
+
+    /**
+     * Exchanges a refresh token for a new access token and refresh token.
+     * @param request The request body containing the refresh token
+     * @return A JWT authentication response containing the new tokens
+     */
+    @Operation(summary = "Refresh a session",
+            description = "Exchanges a refresh token for a new access token and refresh token. "
+                    + "Each refresh token can only be used once; reusing one ends its session.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Session refreshed, new tokens returned",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = JwtAuthenticationResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Invalid, expired, revoked or reused refresh token",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<JwtAuthenticationResponse> refresh(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(service.refresh(request));
+    }
+
+    /**
+     * Ends the session a refresh token belongs to.
+     * @param request The request body containing the refresh token
+     * @return A message confirming the logout
+     */
+    @Operation(summary = "Log out",
+            description = "Revokes every refresh token of the session. The current access token expires on its own.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Session closed",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = MessageResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Invalid, expired or revoked refresh token",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/logout")
+    public ResponseEntity<MessageResponse> logout(@Valid @RequestBody RefreshTokenRequest request) {
+        return ResponseEntity.ok(service.logout(request));
+    }
+
+    /**
+     * Issues an access token to another service calling on its own behalf.
+     * @param request The request body containing the client credentials
+     * @return The service token and when it expires
+     */
+    @Operation(summary = "Issue a service token",
+            description = "Exchanges the client credentials of a service for a short-lived access token "
+                    + "carrying only the SERVICE role.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Service token issued",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ServiceTokenDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "401",
+                    description = "Unknown client or wrong secret",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    @PostMapping("/service-token")
+    public ResponseEntity<ServiceTokenDTO> issueServiceToken(@Valid @RequestBody ServiceTokenRequestDTO request) {
+        return ResponseEntity.ok(service.issueServiceToken(request));
+    }
 }
@@ -0,0 +1,50 @@
+package co.edu.uis.lunchuis.identityservice.web.controller;
+
+import co.edu.uis.lunchuis.identityservice.application.service.SigningKeyService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * Controller publishing the public keys that verify access tokens.
+ * Resource servers fetch this key set in the background and verify tokens locally.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Keys", description = "Public key set used to verify access tokens.")
+public class JwksController {
+    private static final MediaType JWK_SET = MediaType.parseMediaType("application/jwk-set+json");
+
+    private final SigningKeyService signingKeyService;
+
+    /**
+     * Returns the JWK Set of every key that may have signed a token still in circulation.
+     * @return the serialized key set
+     */
+    @Operation(summary = "Get the token verification keys",
+            description = "Returns the public keys, as a JWK Set, that verify the tokens issued by this service.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Key set returned",
+                    content = @Content(
+                            mediaType = "application/jwk-set+json",
+                            examples = @ExampleObject(value = "{ \"keys\": [ { \"kty\": \"RSA\", \"kid\": \"...\", \"alg\": \"RS256\", \"use\": \"sig\", \"n\": \"...\", \"e\": \"AQAB\" } ] }")
+                    )
+            )
+    })
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<String> getJwkSet() {
+        return ResponseEntity.ok()
+                .contentType(JWK_SET)
+                .body(signingKeyService.getJwkSet());
+    }
+}
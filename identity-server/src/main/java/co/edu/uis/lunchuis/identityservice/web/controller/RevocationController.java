@@ -0,0 +1,60 @@
+package co.edu.uis.lunchuis.identityservice.web.controller;
+
+import co.edu.uis.lunchuis.common.dto.TokenRevocationDTO;
+import co.edu.uis.lunchuis.identityservice.application.service.TokenRevocationService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Controller publishing the token revocations.
+ * Resource servers poll this feed in the background and reject revoked tokens locally,
+ * just as they verify signatures against the published key set. The feed names disabled
+ * and deleted users, so it requires a service token or the ADMIN role.
+ */
+@RestController
+@RequiredArgsConstructor
+@Tag(name = "Revocations", description = "Revoked tokens, to be rejected before they expire.")
+public class RevocationController {
+    private final TokenRevocationService tokenRevocationService;
+
+    /**
+     * Returns the revocations made since the given instant that still apply to unexpired tokens.
+     * @param since the instant to look from; every active revocation when omitted
+     * @return the revocations
+     */
+    @Operation(summary = "Get the token revocations",
+            description = "Returns the revocations made since the given instant that still apply to unexpired tokens. "
+                    + "Requires a service token or ADMIN role.")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Revocations returned",
+                    content = @Content(
+                            mediaType = "application/json",
+                            array = @ArraySchema(schema = @Schema(implementation = TokenRevocationDTO.class))
+                    )
+            ),
+            @ApiResponse(responseCode = "403", description = "Missing token, or neither a service token nor ADMIN role")
+    })
+    @GetMapping("/auth/revocations")
+    public ResponseEntity<List<TokenRevocationDTO>> getRevocations(
+            @Parameter(description = "Only revocations made at or after this instant", example = "2025-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant since) {
+        return ResponseEntity.ok(tokenRevocationService.findRevocations(since != null ? since : Instant.EPOCH));
+    }
+}
@@ -5,8 +5,10 @@ import co.edu.uis.lunchuis.common.dto.MessageResponse;
 import co.edu.uis.lunchuis.common.enums.RoleType;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.UpdateUserRequest;
 import co.edu.uis.lunchuis.identityservice.application.dto.request.UpdateUserRoleRequest;
+import co.edu.uis.lunchuis.identityservice.application.dto.response.UserPageResponseDTO;
 import co.edu.uis.lunchuis.identityservice.application.dto.response.UserResponseDTO;
 import co.edu.uis.lunchuis.identityservice.application.service.UserManagementService;
+import co.edu.uis.lunchuis.identityservice.domain.model.UserSearchCriteria;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -18,10 +20,12 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
@@ -35,6 +39,8 @@ import java.util.UUID;
 @Tag(name = "User Management", description = "Endpoints for user management operations (Admin only)")
 @SecurityRequirement(name = "bearerAuth")
 public class UserController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+    private static final String TOTAL_COUNT_HEADER = "X-Total-Count";
     
     private final UserManagementService userManagementService;
     
@@ -42,17 +48,87 @@ public class UserController {
     
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get all users", description = "Retrieves all users in the system")
+    @Operation(summary = "Search users",
+            description = "Retrieves users page by page, newest first, optionally filtered by role, enabled status "
+                    + "and creation time. Pass the " + NEXT_CURSOR_HEADER + " response header as 'after' to get "
+                    + "the next page. The number of matching users is returned in the " + TOTAL_COUNT_HEADER
+                    + " header unless 'count' is false.")
     @ApiResponses(value = {
             @ApiResponse(
                     responseCode = "200",
-                    description = "Successfully retrieved all users",
+                    description = "Successfully retrieved the page of users",
                     content = @Content(
                             mediaType = "application/json",
                             schema = @Schema(implementation = UserResponseDTO.class),
                             examples = @ExampleObject(value = "[{\"id\":\"f47ac10b-58cc-4372-a567-0e02b2c3d479\",\"firstName\":\"Carlos\",\"lastName\":\"Beltrán\",\"institutionalCode\":2180001,\"email\":\"carlos.beltran@uis.edu.co\",\"role\":\"STUDENT\",\"enabled\":true}]")
                     )
             ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid filters, cursor or limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "403",
+                    description = "Forbidden - User does not have ADMIN role",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            )
+    })
+    public ResponseEntity<List<UserResponseDTO>> searchUsers(
+            @Parameter(description = "Only users with this role", example = "STUDENT")
+            @RequestParam(required = false) RoleType role,
+            @Parameter(description = "Only users with this enabled status", example = "true")
+            @RequestParam(required = false) Boolean enabled,
+            @Parameter(description = "Only users created at or after this instant", example = "2025-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdFrom,
+            @Parameter(description = "Only users created before this instant", example = "2026-01-01T00:00:00Z")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) Instant createdTo,
+            @Parameter(description = "Cursor returned with the previous page")
+            @RequestParam(required = false) String after,
+            @Parameter(description = "Maximum number of users in the page", example = "100")
+            @RequestParam(defaultValue = "100") int limit,
+            @Parameter(description = "Whether to count every matching user")
+            @RequestParam(defaultValue = "true") boolean count) {
+        UserSearchCriteria criteria = new UserSearchCriteria(role, enabled, createdFrom, createdTo);
+        UserPageResponseDTO page = userManagementService.searchUsers(criteria, after, limit, count);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        if (page.total() != null) {
+            response.header(TOTAL_COUNT_HEADER, String.valueOf(page.total()));
+        }
+        return response.body(page.items());
+    }
+    
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "Look up users",
+            description = "Type-ahead search: returns the users whose institutional code starts with a numeric query, "
+                    + "or whose names or email contain or resemble any other query, best matches first")
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Successfully retrieved the matching users",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = UserResponseDTO.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Search text shorter than three characters or invalid limit",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = ErrorResponse.class)
+                    )
+            ),
             @ApiResponse(
                     responseCode = "403",
                     description = "Forbidden - User does not have ADMIN role",
@@ -62,9 +138,12 @@ public class UserController {
                     )
             )
     })
-    public ResponseEntity<List<UserResponseDTO>> getAllUsers() {
-        List<UserResponseDTO> users = userManagementService.findAllUsers();
-        return ResponseEntity.ok(users);
+    public ResponseEntity<List<UserResponseDTO>> lookupUsers(
+            @Parameter(description = "Text typed so far: a code prefix, or part of a name or email", example = "beltr")
+            @RequestParam String q,
+            @Parameter(description = "Maximum number of users to return", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userManagementService.lookupUsers(q, limit));
     }
     
     @GetMapping("/{id}")
@@ -123,26 +202,6 @@ public class UserController {
         return ResponseEntity.ok(user);
     }
     
-    @GetMapping("/role/{roleType}")
-    @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get users by role", description = "Retrieves users by their role type")
-    public ResponseEntity<List<UserResponseDTO>> getUsersByRole(
-            @Parameter(description = "Role type", example = "STUDENT")
-            @PathVariable RoleType roleType) {
-        List<UserResponseDTO> users = userManagementService.findUsersByRole(roleType);
-        return ResponseEntity.ok(users);
-    }
-    
-    @GetMapping("/enabled/{enabled}")
-    @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get users by enabled status", description = "Retrieves users by their enabled status")
-    public ResponseEntity<List<UserResponseDTO>> getUsersByEnabled(
-            @Parameter(description = "Enabled status", example = "true")
-            @PathVariable Boolean enabled) {
-        List<UserResponseDTO> users = userManagementService.findUsersByEnabled(enabled);
-        return ResponseEntity.ok(users);
-    }
-    
     // ========== UPDATE OPERATIONS ==========
     
     @PutMapping("/{id}")
@@ -1,13 +0,0 @@
-package co.edu.uis.lunchuis;
-
-/**
- * Hello world!
- *
- */
-public class App 
-{
-    public static void main( String[] args )
-    {
-        System.out.println( "Hello World!" );
-    }
-}
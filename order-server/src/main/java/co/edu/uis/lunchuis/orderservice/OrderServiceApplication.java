@@ -0,0 +1,26 @@
+package co.edu.uis.lunchuis.orderservice;
+
+import io.swagger.v3.oas.annotations.OpenAPIDefinition;
+import io.swagger.v3.oas.annotations.info.Info;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Main entry point for the Order Service application.
+ */
+@SpringBootApplication
+@EnableScheduling
+@ComponentScan(basePackages = {
+        "co.edu.uis.lunchuis.orderservice",
+        "co.edu.uis.lunchuis.common"
+})
+@OpenAPIDefinition(info = @Info(title = "Order Service API", version = "1.0",
+        description = "API for placing and reviewing lunch orders."))
+public class OrderServiceApplication
+{
+    public static void main( String[] args ) {
+        SpringApplication.run(OrderServiceApplication.class, args);
+    }
+}
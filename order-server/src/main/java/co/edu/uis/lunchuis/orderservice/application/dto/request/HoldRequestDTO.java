@@ -0,0 +1,30 @@
+package co.edu.uis.lunchuis.orderservice.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object (DTO) for holding units of a combo during checkout.
+ * Fields:
+ * - comboId: The ID of the combo to hold.
+ * - units: Number of units to hold, between 1 and 5.
+ */
+@Schema(description = "Data Transfer Object for holding units of a combo during checkout")
+public record HoldRequestDTO(
+        @Schema(description = "ID of the combo to hold", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Combo id is required")
+        UUID comboId,
+
+        @Schema(description = "Number of units to hold", example = "1",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Units are required")
+        @Positive(message = "Units must be positive")
+        @Max(value = 5, message = "At most 5 units can be ordered at once")
+        Integer units
+) {
+}
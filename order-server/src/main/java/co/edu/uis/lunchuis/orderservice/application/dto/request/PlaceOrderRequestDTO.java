@@ -0,0 +1,30 @@
+package co.edu.uis.lunchuis.orderservice.application.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+
+import java.util.UUID;
+
+/**
+ * Data Transfer Object (DTO) for placing an Order.
+ * Fields:
+ * - comboId: The ID of the combo to order.
+ * - units: Number of units to order, between 1 and 5.
+ */
+@Schema(description = "Data Transfer Object for placing an Order")
+public record PlaceOrderRequestDTO(
+        @Schema(description = "ID of the combo to order", example = "3fa85f64-5717-4562-b3fc-2c963f66afa6",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Combo id is required")
+        UUID comboId,
+
+        @Schema(description = "Number of units to order", example = "1",
+                requiredMode = Schema.RequiredMode.REQUIRED)
+        @NotNull(message = "Units are required")
+        @Positive(message = "Units must be positive")
+        @Max(value = 5, message = "At most 5 units can be ordered at once")
+        Integer units
+) {
+}
@@ -0,0 +1,23 @@
+package co.edu.uis.lunchuis.orderservice.application.dto.response;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Represents a Hold as returned to clients.
+ * Fields:
+ * - id: The unique identifier of the hold, also the ID of the order it becomes once confirmed.
+ * - comboId: The ID of the held combo.
+ * - units: The number of units held.
+ * - unitPrice: The price of each unit, kept if the hold is confirmed.
+ * - expiresAt: The instant the units go back to the combo unless the hold is confirmed.
+ */
+public record HoldResponseDTO(
+        UUID id,
+        UUID comboId,
+        Integer units,
+        BigDecimal unitPrice,
+        Instant expiresAt
+) {
+}
@@ -0,0 +1,15 @@
+package co.edu.uis.lunchuis.orderservice.application.dto.response;
+
+import java.util.List;
+
+/**
+ * Represents one page of a keyset-paginated order listing.
+ * Fields:
+ * - items: The orders in this page, newest first.
+ * - nextCursor: The cursor ("createdAt,id") to request the next page, or null if this is the last page.
+ */
+public record OrderPageResponseDTO(
+        List<OrderResponseDTO> items,
+        String nextCursor
+) {
+}
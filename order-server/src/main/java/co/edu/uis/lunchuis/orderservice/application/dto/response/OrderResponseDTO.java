@@ -0,0 +1,29 @@
+package co.edu.uis.lunchuis.orderservice.application.dto.response;
+
+import co.edu.uis.lunchuis.common.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Represents an Order as returned to clients.
+ * Fields:
+ * - id: The unique identifier of the order.
+ * - comboId: The ID of the ordered combo.
+ * - units: The number of units ordered.
+ * - unitPrice: The price of each unit when the order was placed.
+ * - total: The amount to pay for the order.
+ * - status: The status of the order, represented by {@link OrderStatus}.
+ * - createdAt: The instant the order was placed.
+ */
+public record OrderResponseDTO(
+        UUID id,
+        UUID comboId,
+        Integer units,
+        BigDecimal unitPrice,
+        BigDecimal total,
+        OrderStatus status,
+        Instant createdAt
+) {
+}
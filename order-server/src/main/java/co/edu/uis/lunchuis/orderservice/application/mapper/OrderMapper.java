@@ -0,0 +1,27 @@
+package co.edu.uis.lunchuis.orderservice.application.mapper;
+
+import co.edu.uis.lunchuis.orderservice.application.dto.response.HoldResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.OrderResponseDTO;
+import co.edu.uis.lunchuis.orderservice.domain.model.Hold;
+import co.edu.uis.lunchuis.orderservice.domain.model.Order;
+import org.mapstruct.Mapper;
+
+/**
+ * MapStruct interface responsible for mapping the Order and Hold domain models to their DTOs.
+ */
+@Mapper(componentModel = "spring")
+public interface OrderMapper {
+    /**
+     * Maps an {@link Order} domain model to an {@link OrderResponseDTO}.
+     * @param order The {@link Order} domain model.
+     * @return The mapped {@link OrderResponseDTO}.
+     */
+    OrderResponseDTO toResponse(Order order);
+
+    /**
+     * Maps a {@link Hold} domain model to a {@link HoldResponseDTO}.
+     * @param hold The {@link Hold} domain model.
+     * @return The mapped {@link HoldResponseDTO}.
+     */
+    HoldResponseDTO toResponse(Hold hold);
+}
@@ -0,0 +1,222 @@
+package co.edu.uis.lunchuis.orderservice.application.scheduling;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hierarchical hashed timing wheel tracking when keys expire.
+ * Time is cut into ticks; each level is a ring of 64 slots, and each slot of a level
+ * spans a whole revolution of the level below. A key is filed in the lowest level whose
+ * current revolution contains its deadline. When a level-0 revolution completes, the next
+ * slot of the level above is cascaded down, so each key moves at most once per level.
+ * Slots are intrusive doubly-linked lists and keys are indexed by a hash map, so
+ * scheduling and cancelling are O(1), and advancing costs O(1) per tick plus the keys
+ * that expire or cascade, no matter how many keys are tracked.
+ * Four levels of 64 slots cover 2^24 ticks. All methods are thread-safe.
+ * @param <K> the type of the tracked keys
+ */
+public final class TimingWheel<K> {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int SLOT_MASK = SLOTS - 1;
+    private static final int LEVELS = 4;
+    private static final long SPAN_TICKS = 1L << (SLOT_BITS * LEVELS);
+
+    private final long tickMillis;
+    private final Slot<K>[][] wheels;
+    private final Map<K, Entry<K>> entries = new HashMap<>();
+    private long currentTick;
+
+    /**
+     * Constructs an empty wheel.
+     * @param tick  The resolution of the wheel; keys expire at most one tick late.
+     * @param start The current instant.
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheel(Duration tick, Instant start) {
+        this.tickMillis = tick.toMillis();
+        if (tickMillis <= 0) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond");
+        }
+        this.wheels = new Slot[LEVELS][SLOTS];
+        for (Slot<K>[] wheel : wheels) {
+            for (int i = 0; i < SLOTS; i++) {
+                wheel[i] = new Slot<>();
+            }
+        }
+        this.currentTick = start.toEpochMilli() / tickMillis;
+    }
+
+    /**
+     * Schedules a key to expire at the given instant, replacing any previous deadline.
+     * @param key       The key.
+     * @param expiresAt The instant the key expires.
+     * @return false if the key is already due, in which case it is not tracked.
+     * @throws IllegalArgumentException if the deadline is beyond the span of the wheel.
+     */
+    public synchronized boolean schedule(K key, Instant expiresAt) {
+        cancel(key);
+        // Rounded up, so a key never expires early
+        long deadline = Math.ceilDiv(expiresAt.toEpochMilli(), tickMillis);
+        if (deadline <= currentTick) {
+            return false;
+        }
+        if (deadline - currentTick >= SPAN_TICKS) {
+            throw new IllegalArgumentException("Deadline " + expiresAt + " is beyond the span of the wheel");
+        }
+        Entry<K> entry = new Entry<>(key, deadline);
+        entries.put(key, entry);
+        file(entry);
+        return true;
+    }
+
+    /**
+     * Stops tracking a key.
+     * @param key The key.
+     * @return true if the key was tracked.
+     */
+    public synchronized boolean cancel(K key) {
+        Entry<K> entry = entries.remove(key);
+        if (entry == null) {
+            return false;
+        }
+        entry.unlink();
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to the given instant.
+     * @param now The current instant.
+     * @return the keys that expired since the previous call, no longer tracked.
+     */
+    public synchronized List<K> advance(Instant now) {
+        long target = now.toEpochMilli() / tickMillis;
+        List<K> expired = new ArrayList<>();
+        while (currentTick < target) {
+            currentTick++;
+            // Bring down the slot of each upper level whose revolution starts now
+            for (int level = 1; level < LEVELS && (currentTick & mask(level)) == 0; level++) {
+                Slot<K> slot = wheels[level][(int) (currentTick >>> (SLOT_BITS * level)) & SLOT_MASK];
+                for (Entry<K> entry = slot.drain(); entry != null; ) {
+                    Entry<K> next = entry.next;
+                    entry.next = null;
+                    if (entry.deadline <= currentTick) {
+                        expire(entry, expired);
+                    } else {
+                        file(entry);
+                    }
+                    entry = next;
+                }
+            }
+            Slot<K> due = wheels[0][(int) currentTick & SLOT_MASK];
+            for (Entry<K> entry = due.drain(); entry != null; ) {
+                Entry<K> next = entry.next;
+                expire(entry, expired);
+                entry = next;
+            }
+        }
+        return expired;
+    }
+
+    /**
+     * Returns the number of tracked keys.
+     * @return the number of keys waiting to expire.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Files an entry in the lowest level whose current revolution contains its deadline.
+     */
+    private void file(Entry<K> entry) {
+        for (int level = 0; level < LEVELS; level++) {
+            int shift = SLOT_BITS * (level + 1);
+            if (level == LEVELS - 1 || (entry.deadline >>> shift) == (currentTick >>> shift)) {
+                wheels[level][(int) (entry.deadline >>> (SLOT_BITS * level)) & SLOT_MASK].add(entry);
+                return;
+            }
+        }
+    }
+
+    private void expire(Entry<K> entry, List<K> expired) {
+        entry.next = null;
+        entry.slot = null;
+        entries.remove(entry.key);
+        expired.add(entry.key);
+    }
+
+    /**
+     * Returns the mask of the tick bits below the given level.
+     */
+    private static long mask(int level) {
+        return (1L << (SLOT_BITS * level)) - 1;
+    }
+
+    /**
+     * A slot of a level: an intrusive doubly-linked list of entries.
+     */
+    private static final class Slot<K> {
+        private Entry<K> head;
+
+        private void add(Entry<K> entry) {
+            entry.slot = this;
+            entry.prev = null;
+            entry.next = head;
+            if (head != null) {
+                head.prev = entry;
+            }
+            head = entry;
+        }
+
+        /**
+         * Detaches every entry at once; they stay chained through {@code next}.
+         */
+        private Entry<K> drain() {
+            Entry<K> first = head;
+            head = null;
+            for (Entry<K> entry = first; entry != null; entry = entry.next) {
+                entry.slot = null;
+                entry.prev = null;
+            }
+            return first;
+        }
+    }
+
+    /**
+     * A tracked key, linked into the slot it is filed in.
+     */
+    private static final class Entry<K> {
+        private final K key;
+        private final long deadline;
+        private Slot<K> slot;
+        private Entry<K> prev;
+        private Entry<K> next;
+
+        private Entry(K key, long deadline) {
+            this.key = key;
+            this.deadline = deadline;
+        }
+
+        private void unlink() {
+            if (slot == null) {
+                return;
+            }
+            if (prev != null) {
+                prev.next = next;
+            } else {
+                slot.head = next;
+            }
+            if (next != null) {
+                next.prev = prev;
+            }
+            slot = null;
+            prev = null;
+            next = null;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package co.edu.uis.lunchuis.orderservice.application.service;
+
+import java.util.UUID;
+
+/**
+ * Application Service Port deciding, per combo, which requests for units may go on now,
+ * so that a rush on a combo waits in memory instead of reaching the database.
+ */
+public interface AdmissionService {
+    /**
+     * Lets a request for units of a combo through, or puts it in line.
+     * @param comboId  The ID of the combo.
+     * @param userCode The institutional code of the user making the request.
+     * @param units    The number of units requested.
+     * @param ticket   The ticket of a request already in line, or null for a new request.
+     * @throws co.edu.uis.lunchuis.common.exception.InvalidRequestException if the ticket was issued to another user
+     * or for another number of units.
+     * @throws co.edu.uis.lunchuis.orderservice.domain.exception.RequestQueuedException if the request has to wait its turn.
+     * @throws co.edu.uis.lunchuis.common.exception.QuotaExhaustedException if the combo is sold out.
+     * @throws co.edu.uis.lunchuis.common.exception.ResourceNotFoundException if the combo does not exist.
+     * @throws co.edu.uis.lunchuis.common.exception.ServiceBusyException if the line is full or the combo cannot be
+     * loaded in time.
+     */
+    void admit(UUID comboId, Integer userCode, int units, UUID ticket);
+
+    /**
+     * Drops unused tickets and the waiting rooms of combos no longer in demand.
+     */
+    void evictStale();
+}
@@ -0,0 +1,53 @@
+package co.edu.uis.lunchuis.orderservice.application.service;
+
+import co.edu.uis.lunchuis.orderservice.application.dto.request.HoldRequestDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.HoldResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.OrderResponseDTO;
+
+import java.util.UUID;
+
+/**
+ * Application Service Port for holding combo units during checkout.
+ * A hold takes its units from the combo's quota right away and gives them back unless
+ * it is confirmed before it expires.
+ */
+public interface HoldService {
+    /**
+     * Holds units of a combo for the authenticated user, who may hold each combo only once at a time.
+     * @param requestDTO DTO containing the combo and the number of units.
+     * @param ticket     The ticket of a request already waiting in line for the combo, or null.
+     * @return DTO of the hold, with the instant it expires.
+     * @throws co.edu.uis.lunchuis.common.exception.InvalidRequestException if the ticket was issued for another request.
+     * @throws co.edu.uis.lunchuis.orderservice.domain.exception.RequestQueuedException if the request has to wait its turn.
+     * @throws co.edu.uis.lunchuis.common.exception.DuplicateResourceException if the user already holds the combo.
+     * @throws co.edu.uis.lunchuis.common.exception.QuotaExhaustedException if the combo is sold out.
+     * @throws co.edu.uis.lunchuis.common.exception.ResourceNotFoundException if the combo does not exist.
+     * @throws co.edu.uis.lunchuis.common.exception.ServiceBusyException if the Combo Service is unavailable.
+     */
+    HoldResponseDTO createHold(HoldRequestDTO requestDTO, UUID ticket);
+
+    /**
+     * Turns one of the authenticated user's holds into an order, before it expires.
+     * @param id The ID of the hold.
+     * @return DTO of the order, which has the ID of the hold; PENDING until the Combo Service confirms its units.
+     * @throws co.edu.uis.lunchuis.common.exception.ResourceNotFoundException if the user has no such active hold.
+     */
+    OrderResponseDTO confirmHold(UUID id);
+
+    /**
+     * Gives back the units of one of the authenticated user's holds.
+     * @param id The ID of the hold.
+     * @throws co.edu.uis.lunchuis.common.exception.ResourceNotFoundException if the user has no such active hold.
+     */
+    void cancelHold(UUID id);
+
+    /**
+     * Gives back the units of the holds that expired since the previous call.
+     */
+    void expireDueHolds();
+
+    /**
+     * Gives back the units of expired holds no instance is tracking, such as those of a stopped instance.
+     */
+    void sweepExpiredHolds();
+}
@@ -0,0 +1,41 @@
+package co.edu.uis.lunchuis.orderservice.application.service;
+
+import co.edu.uis.lunchuis.orderservice.application.dto.request.PlaceOrderRequestDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.OrderPageResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.OrderResponseDTO;
+
+import java.util.UUID;
+
+/**
+ * Application Service Port for managing Orders.
+ * Defines the use cases for the Order domain.
+ */
+public interface OrderService {
+    /**
+     * Places an order for the authenticated user, taking its units from the combo's quota.
+     * @param requestDTO DTO containing the combo and the number of units.
+     * @param ticket     The ticket of a request already waiting in line for the combo, or null.
+     * @return DTO of the order, PENDING until the Combo Service confirms its units.
+     * @throws co.edu.uis.lunchuis.common.exception.InvalidRequestException if the ticket was issued for another request.
+     * @throws co.edu.uis.lunchuis.orderservice.domain.exception.RequestQueuedException if the request has to wait its turn.
+     * @throws co.edu.uis.lunchuis.common.exception.QuotaExhaustedException if the combo is sold out.
+     * @throws co.edu.uis.lunchuis.common.exception.ResourceNotFoundException if the combo does not exist.
+     * @throws co.edu.uis.lunchuis.common.exception.ServiceBusyException if the Combo Service is unavailable.
+     */
+    OrderResponseDTO placeOrder(PlaceOrderRequestDTO requestDTO, UUID ticket);
+
+    /**
+     * Retrieves an order by its ID. Only its owner or an administrator may see it.
+     * @param id The ID of the order.
+     * @return DTO of the order.
+     */
+    OrderResponseDTO getOrder(UUID id);
+
+    /**
+     * Retrieves one page of the authenticated user's orders, newest first.
+     * @param after The cursor returned with the previous page, or null for the first page.
+     * @param limit The maximum number of orders to return.
+     * @return the page of orders and the cursor of the next one.
+     */
+    OrderPageResponseDTO getMyOrders(String after, int limit);
+}
@@ -0,0 +1,22 @@
+package co.edu.uis.lunchuis.orderservice.application.service;
+
+import co.edu.uis.lunchuis.orderservice.domain.model.Order;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Application Service Port for storing new orders.
+ * Orders submitted concurrently may be written together, so callers wait on the
+ * returned future rather than on the write itself.
+ */
+public interface OrderWriter {
+    /**
+     * Queues an order to be stored.
+     * @param order The order to store.
+     * @return a future completed once the order is durably stored, or completed
+     * exceptionally if it could not be; a
+     * {@link co.edu.uis.lunchuis.common.exception.ServiceBusyException} means the
+     * writer was too far behind to accept it.
+     */
+    CompletableFuture<Void> write(Order order);
+}
@@ -0,0 +1,12 @@
+package co.edu.uis.lunchuis.orderservice.application.service;
+
+/**
+ * Application Service Port relaying the quota changes of the outbox to the Combo Service.
+ */
+public interface QuotaRelayService {
+    /**
+     * Drains the outbox: resends the batches left unfinished, then claims and sends new
+     * batches until no full batch is left.
+     */
+    void relay();
+}
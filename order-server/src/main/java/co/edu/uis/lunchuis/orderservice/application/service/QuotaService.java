@@ -0,0 +1,58 @@
+package co.edu.uis.lunchuis.orderservice.application.service;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Application Service Port admitting orders against a local view of each combo's quota,
+ * so placing an order needs no call to the Combo Service.
+ */
+public interface QuotaService {
+    /**
+     * Takes units from the local view of a combo's quota for an order about to be written.
+     * @param comboId The ID of the combo.
+     * @param units   The number of units to reserve. Must be positive.
+     * @return the current unit price of the combo.
+     * @throws co.edu.uis.lunchuis.common.exception.QuotaExhaustedException if the combo is sold out or not available.
+     * @throws co.edu.uis.lunchuis.common.exception.ResourceNotFoundException if the combo does not exist.
+     * @throws co.edu.uis.lunchuis.common.exception.ServiceBusyException if the combo has to be loaded and the Combo
+     * Service cannot be reached in time.
+     */
+    BigDecimal reserve(UUID comboId, int units);
+
+    /**
+     * Returns the units of a combo that can still be ordered, according to the local view.
+     * @param comboId The ID of the combo.
+     * @return the available units, or 0 if the combo is not available.
+     * @throws co.edu.uis.lunchuis.common.exception.ResourceNotFoundException if the combo does not exist.
+     * @throws co.edu.uis.lunchuis.common.exception.ServiceBusyException if the combo has to be loaded and the Combo
+     * Service cannot be reached in time.
+     */
+    int availableQuota(UUID comboId);
+
+    /**
+     * Gives back the units of an order that could not be written.
+     * @param comboId The ID of the combo.
+     * @param units   The number of units to release. Must be positive.
+     */
+    void release(UUID comboId, int units);
+
+    /**
+     * Records that the order holding these units is stored, along with its outbox event.
+     * @param comboId The ID of the combo.
+     * @param units   The number of units of the stored order. Must be positive.
+     */
+    void settle(UUID comboId, int units);
+
+    /**
+     * Gives back units whose return is already recorded in the outbox, such as those of an expired hold.
+     * @param comboId The ID of the combo.
+     * @param units   The number of units to give back. Must be positive.
+     */
+    void restore(UUID comboId, int units);
+
+    /**
+     * Resynchronizes the view of every tracked combo with the Combo Service and the outbox.
+     */
+    void refresh();
+}
@@ -0,0 +1,127 @@
+package co.edu.uis.lunchuis.orderservice.application.service.impl;
+
+import co.edu.uis.lunchuis.common.exception.InvalidRequestException;
+import co.edu.uis.lunchuis.common.exception.QuotaExhaustedException;
+import co.edu.uis.lunchuis.common.exception.ServiceBusyException;
+import co.edu.uis.lunchuis.orderservice.application.service.AdmissionService;
+import co.edu.uis.lunchuis.orderservice.application.service.QuotaService;
+import co.edu.uis.lunchuis.orderservice.domain.exception.RequestQueuedException;
+import co.edu.uis.lunchuis.orderservice.domain.model.Admission;
+import co.edu.uis.lunchuis.orderservice.domain.model.WaitingRoom;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the {@link AdmissionService} interface.
+ * Keeps one {@link WaitingRoom} per combo, fed with the available units of the
+ * {@link QuotaService}'s in-memory view. Requests for a sold-out combo are rejected
+ * without touching the database, and when a combo opens to more demand than it has
+ * quota, the excess waits in line with a ticket, a position and an estimated wait
+ * instead of piling up on the database. Rooms and their tickets live in the memory of
+ * each instance; a client that lands on another instance simply gets a new place in line.
+ * Admissions are published as the {@code orders.admission} counter, tagged by outcome,
+ * and the requests in line as the {@code orders.admission.waiting} gauge.
+ */
+@Service
+public class AdmissionServiceImpl implements AdmissionService {
+    private final QuotaService quotaService;
+    private final double ratePerSecond;
+    private final int burst;
+    private final int maxLength;
+    private final Duration claimTimeout;
+    private final Duration abandonAfter;
+    private final Duration maxPollInterval;
+    private final Map<UUID, WaitingRoom> rooms = new ConcurrentHashMap<>();
+    private final Counter admitted;
+    private final Counter queued;
+    private final Counter soldOut;
+    private final Counter full;
+
+    /**
+     * Constructs the service and registers its metrics.
+     * @param quotaService    The service holding the local view of each combo's quota.
+     * @param ratePerSecond   The maximum number of requests per combo let through per second.
+     * @param burst           The number of requests per combo that may go straight through at once.
+     * @param maxLength       The maximum number of requests waiting for one combo.
+     * @param claimTimeout    How long a request let through has to come back with its ticket.
+     * @param abandonAfter    How long a waiting request keeps its place without coming back.
+     * @param maxPollInterval The longest delay suggested to waiting requests; must stay below abandonAfter.
+     * @param meterRegistry   The registry where the metrics are published.
+     */
+    public AdmissionServiceImpl(QuotaService quotaService,
+                                @Value("${order.admission.rate-per-second:200}") double ratePerSecond,
+                                @Value("${order.admission.burst:200}") int burst,
+                                @Value("${order.admission.max-queue-length:20000}") int maxLength,
+                                @Value("${order.admission.claim-timeout:10s}") Duration claimTimeout,
+                                @Value("${order.admission.abandon-after:30s}") Duration abandonAfter,
+                                @Value("${order.admission.max-poll-interval:5s}") Duration maxPollInterval,
+                                MeterRegistry meterRegistry) {
+        this.quotaService = quotaService;
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.maxLength = maxLength;
+        this.claimTimeout = claimTimeout;
+        this.abandonAfter = abandonAfter;
+        this.maxPollInterval = maxPollInterval;
+        Gauge.builder("orders.admission.waiting", rooms,
+                        map -> map.values().stream().mapToInt(WaitingRoom::getWaiting).sum())
+                .description("Requests waiting in line for a combo")
+                .register(meterRegistry);
+        this.admitted = outcomeCounter(meterRegistry, Admission.Outcome.ADMITTED);
+        this.queued = outcomeCounter(meterRegistry, Admission.Outcome.QUEUED);
+        this.soldOut = outcomeCounter(meterRegistry, Admission.Outcome.SOLD_OUT);
+        this.full = outcomeCounter(meterRegistry, Admission.Outcome.FULL);
+    }
+
+    @Override
+    public void admit(UUID comboId, Integer userCode, int units, UUID ticket) {
+        int available = quotaService.availableQuota(comboId);
+        WaitingRoom room = rooms.computeIfAbsent(comboId, id ->
+                new WaitingRoom(id, ratePerSecond, burst, claimTimeout, abandonAfter, System.nanoTime()));
+        Admission admission = room.enter(ticket, userCode, units, available, maxLength, System.nanoTime());
+        switch (admission.outcome()) {
+            case ADMITTED -> admitted.increment();
+            case SOLD_OUT -> {
+                soldOut.increment();
+                throw new QuotaExhaustedException("Combo", "id", comboId.toString());
+            }
+            case FULL -> {
+                full.increment();
+                throw new ServiceBusyException("queue for this combo", maxPollInterval);
+            }
+            case MISMATCH -> throw new InvalidRequestException(
+                    "The queue ticket was issued for another user or number of units");
+            case QUEUED -> {
+                queued.increment();
+                Duration estimatedWait = Duration.ofMillis((long) (admission.position() * 1000 / ratePerSecond));
+                // Come back before the ticket is abandoned, even if the turn is further away
+                Duration retryAfter = estimatedWait.compareTo(maxPollInterval) < 0 ? estimatedWait : maxPollInterval;
+                throw new RequestQueuedException("Combo", "id", comboId, admission.ticket(), admission.position(),
+                        estimatedWait, retryAfter);
+            }
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${order.admission.eviction-interval-ms:1000}")
+    public void evictStale() {
+        long now = System.nanoTime();
+        rooms.values().removeIf(room -> room.evict(now));
+    }
+
+    private static Counter outcomeCounter(MeterRegistry meterRegistry, Admission.Outcome outcome) {
+        return Counter.builder("orders.admission")
+                .description("Requests for combo units, by admission outcome")
+                .tag("outcome", outcome.name().toLowerCase())
+                .register(meterRegistry);
+    }
+}
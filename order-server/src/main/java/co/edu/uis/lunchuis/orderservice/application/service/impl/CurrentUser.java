@@ -0,0 +1,34 @@
+package co.edu.uis.lunchuis.orderservice.application.service.impl;
+
+import co.edu.uis.lunchuis.common.exception.UnauthorizedActionException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Reads the authenticated user of the current request.
+ */
+final class CurrentUser {
+    private CurrentUser() {
+    }
+
+    /**
+     * Returns the institutional code of the authenticated user, the subject of its token.
+     */
+    static Integer code() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            throw new UnauthorizedActionException("User is not authenticated");
+        }
+        try {
+            return Integer.valueOf(authentication.getName());
+        } catch (NumberFormatException ex) {
+            throw new UnauthorizedActionException("The token subject is not an institutional code");
+        }
+    }
+
+    static boolean isAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+}
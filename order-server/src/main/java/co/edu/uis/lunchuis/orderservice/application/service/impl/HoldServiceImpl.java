@@ -0,0 +1,237 @@
+package co.edu.uis.lunchuis.orderservice.application.service.impl;
+
+import co.edu.uis.lunchuis.common.enums.OrderStatus;
+import co.edu.uis.lunchuis.common.exception.DuplicateResourceException;
+import co.edu.uis.lunchuis.common.exception.ResourceNotFoundException;
+import co.edu.uis.lunchuis.orderservice.application.dto.request.HoldRequestDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.HoldResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.OrderResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.mapper.OrderMapper;
+import co.edu.uis.lunchuis.orderservice.application.scheduling.TimingWheel;
+import co.edu.uis.lunchuis.orderservice.application.service.AdmissionService;
+import co.edu.uis.lunchuis.orderservice.application.service.HoldService;
+import co.edu.uis.lunchuis.orderservice.application.service.QuotaService;
+import co.edu.uis.lunchuis.orderservice.domain.model.Hold;
+import co.edu.uis.lunchuis.orderservice.domain.model.Order;
+import co.edu.uis.lunchuis.orderservice.domain.model.QuotaEvent;
+import co.edu.uis.lunchuis.orderservice.domain.repository.HoldRepository;
+import co.edu.uis.lunchuis.orderservice.domain.repository.OrderRepository;
+import co.edu.uis.lunchuis.orderservice.domain.repository.QuotaOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@link HoldService} interface.
+ * Holds are stored along with their quota event, like orders, and their deadlines are
+ * tracked in memory by a {@link TimingWheel}, so finding the holds due at each tick costs
+ * nothing for the thousands still running. Due holds are released in batches: one
+ * DELETE ... RETURNING removes those still stored, and the quota events giving their
+ * units back are written in the same transaction.
+ * Only deletes end a hold, so confirmation, cancellation and expiry never both succeed,
+ * even when every instance tracks the same hold. On startup the wheel is rebuilt from the
+ * stored holds; holds of an instance that stopped for good are released by a slow sweep.
+ * A user holds each combo at most once: the insert skips a second hold, and an expired one
+ * still stored is released before the user may hold the combo again.
+ */
+@Service
+@Slf4j
+public class HoldServiceImpl implements HoldService {
+    private final HoldRepository holdRepository;
+    private final OrderRepository orderRepository;
+    private final QuotaOutboxRepository quotaOutboxRepository;
+    private final QuotaService quotaService;
+    private final AdmissionService admissionService;
+    private final OrderMapper orderMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration timeToLive;
+    private final int releaseBatchSize;
+    private final TimingWheel<UUID> wheel;
+    private final Counter expired;
+
+    /**
+     * Constructs the service and registers its metrics.
+     * @param holdRepository        The repository where holds are stored.
+     * @param orderRepository       The repository where confirmed holds are stored as orders.
+     * @param quotaOutboxRepository The outbox where the quota events of holds are stored.
+     * @param quotaService          The service admitting holds against each combo's quota.
+     * @param admissionService      The service pacing requests for each combo.
+     * @param orderMapper           The mapper of holds and orders to DTOs.
+     * @param transactionTemplate   The template running each change in a transaction.
+     * @param timeToLive            How long a hold lasts unless confirmed.
+     * @param tickMillis            The resolution of the expiration wheel, in milliseconds.
+     * @param releaseBatchSize      The maximum number of holds released in one statement.
+     * @param meterRegistry         The registry where the metrics are published.
+     */
+    public HoldServiceImpl(HoldRepository holdRepository, OrderRepository orderRepository,
+                           QuotaOutboxRepository quotaOutboxRepository, QuotaService quotaService,
+                           AdmissionService admissionService, OrderMapper orderMapper, TransactionTemplate transactionTemplate,
+                           @Value("${order.holds.time-to-live:5m}") Duration timeToLive,
+                           @Value("${order.holds.tick-ms:250}") long tickMillis,
+                           @Value("${order.holds.release-batch-size:500}") int releaseBatchSize,
+                           MeterRegistry meterRegistry) {
+        this.holdRepository = holdRepository;
+        this.orderRepository = orderRepository;
+        this.quotaOutboxRepository = quotaOutboxRepository;
+        this.quotaService = quotaService;
+        this.admissionService = admissionService;
+        this.orderMapper = orderMapper;
+        this.transactionTemplate = transactionTemplate;
+        this.timeToLive = timeToLive;
+        this.releaseBatchSize = releaseBatchSize;
+        this.wheel = new TimingWheel<>(Duration.ofMillis(tickMillis), Instant.now());
+        Gauge.builder("orders.holds.tracked", wheel, TimingWheel::size)
+                .description("Holds waiting to be confirmed or to expire")
+                .register(meterRegistry);
+        this.expired = Counter.builder("orders.holds.expired")
+                .description("Holds whose units went back to the combo because they were not confirmed")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public HoldResponseDTO createHold(HoldRequestDTO requestDTO, UUID ticket) {
+        Integer userCode = CurrentUser.code();
+        UUID comboId = requestDTO.comboId();
+        int units = requestDTO.units();
+        // 1. Turn down a second hold on the combo before it waits in line, giving back the units of an expired one
+        holdRepository.findByUserAndCombo(userCode, comboId).ifPresent(existing -> {
+            if (existing.expiresAt().isAfter(Instant.now())) {
+                throw new DuplicateResourceException("Hold", "comboId", comboId);
+            }
+            wheel.cancel(existing.id());
+            release(List.of(existing.id()));
+        });
+        // 2. Wait in line while the combo is in demand, then take the units from the local view of its quota
+        admissionService.admit(comboId, userCode, units, ticket);
+        BigDecimal unitPrice = quotaService.reserve(comboId, units);
+        Instant now = Instant.now();
+        Hold hold = new Hold(UUID.randomUUID(), userCode, comboId, units, unitPrice, now, now.plus(timeToLive));
+        // 3. Store the hold together with its quota event, then start its countdown
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!holdRepository.insert(hold)) {
+                    throw new DuplicateResourceException("Hold", "comboId", comboId);
+                }
+                quotaOutboxRepository.insertAll(List.of(QuotaEvent.held(hold)));
+            });
+        } catch (RuntimeException ex) {
+            quotaService.release(comboId, units);
+            throw ex;
+        }
+        quotaService.settle(comboId, units);
+        wheel.schedule(hold.id(), hold.expiresAt());
+        return orderMapper.toResponse(hold);
+    }
+
+    @Override
+    public OrderResponseDTO confirmHold(UUID id) {
+        Integer userCode = CurrentUser.code();
+        // The hold already took its units, so the order needs no quota event of its own. It stays
+        // pending while that event waits in the outbox; locking the event first keeps its batch from
+        // completing before the order is stored, so the relay places or cancels the order with it
+        Order order = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            boolean pending = quotaOutboxRepository.lockPendingEvent(id);
+            Hold hold = holdRepository.deleteActive(id, userCode, now)
+                    .orElseThrow(() -> new ResourceNotFoundException("Hold", "id", id));
+            Order placed = hold.toOrder(now, pending ? OrderStatus.PENDING : OrderStatus.PLACED);
+            orderRepository.insertAll(List.of(placed));
+            return placed;
+        });
+        wheel.cancel(id);
+        return orderMapper.toResponse(order);
+    }
+
+    @Override
+    public void cancelHold(UUID id) {
+        Integer userCode = CurrentUser.code();
+        Hold hold = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            Hold cancelled = holdRepository.deleteActive(id, userCode, now)
+                    .orElseThrow(() -> new ResourceNotFoundException("Hold", "id", id));
+            quotaOutboxRepository.insertAll(List.of(QuotaEvent.released(cancelled, now)));
+            return cancelled;
+        });
+        wheel.cancel(id);
+        quotaService.restore(hold.comboId(), hold.units());
+    }
+
+    @Override
+    @Scheduled(fixedRateString = "${order.holds.tick-ms:250}")
+    public void expireDueHolds() {
+        List<UUID> due = wheel.advance(Instant.now());
+        if (!due.isEmpty()) {
+            release(due);
+        }
+    }
+
+    @Override
+    @Scheduled(initialDelayString = "${order.holds.sweep-interval-ms:60000}",
+            fixedDelayString = "${order.holds.sweep-interval-ms:60000}")
+    public void sweepExpiredHolds() {
+        try {
+            List<UUID> ids;
+            do {
+                ids = holdRepository.findExpiredIds(Instant.now(), releaseBatchSize);
+                release(ids);
+            } while (ids.size() == releaseBatchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Could not sweep expired holds: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Tracks every stored hold again once the application is up, releasing those that
+     * expired while no instance was watching.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        List<UUID> due = new ArrayList<>();
+        List<Hold> holds = holdRepository.findAll();
+        for (Hold hold : holds) {
+            if (!wheel.schedule(hold.id(), hold.expiresAt())) {
+                due.add(hold.id());
+            }
+        }
+        log.info("Tracking {} hold(s); {} already expired.", holds.size() - due.size(), due.size());
+        release(due);
+    }
+
+    /**
+     * Releases the given holds that expired, in batches. A batch that fails is left to the sweep.
+     */
+    private void release(List<UUID> ids) {
+        for (int from = 0; from < ids.size(); from += releaseBatchSize) {
+            List<UUID> batch = ids.subList(from, Math.min(from + releaseBatchSize, ids.size()));
+            try {
+                List<Hold> released = transactionTemplate.execute(status -> {
+                    Instant now = Instant.now();
+                    List<Hold> removed = holdRepository.deleteExpired(batch, now);
+                    quotaOutboxRepository.insertAll(removed.stream()
+                            .map(hold -> QuotaEvent.released(hold, now))
+                            .toList());
+                    return removed;
+                });
+                released.forEach(hold -> quotaService.restore(hold.comboId(), hold.units()));
+                expired.increment(released.size());
+            } catch (RuntimeException ex) {
+                log.warn("Could not release {} expired hold(s); the sweep will retry: {}", batch.size(),
+                        ex.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package co.edu.uis.lunchuis.orderservice.application.service.impl;
+
+import co.edu.uis.lunchuis.common.exception.ResourceNotFoundException;
+import co.edu.uis.lunchuis.common.exception.UnauthorizedActionException;
+import co.edu.uis.lunchuis.common.pagination.Keyset;
+import co.edu.uis.lunchuis.common.pagination.KeysetPage;
+import co.edu.uis.lunchuis.orderservice.application.dto.request.PlaceOrderRequestDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.OrderPageResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.OrderResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.mapper.OrderMapper;
+import co.edu.uis.lunchuis.orderservice.application.service.AdmissionService;
+import co.edu.uis.lunchuis.orderservice.application.service.OrderService;
+import co.edu.uis.lunchuis.orderservice.application.service.OrderWriter;
+import co.edu.uis.lunchuis.orderservice.application.service.QuotaService;
+import co.edu.uis.lunchuis.orderservice.domain.model.Order;
+import co.edu.uis.lunchuis.orderservice.domain.repository.OrderRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Implementation of the {@link OrderService} interface.
+ * Placing an order involves no other service: the caller's token is verified locally,
+ * the {@link AdmissionService} lets the request through or puts it in line, the units are taken from the {@link QuotaService}'s in-memory view of the combo's
+ * quota, and the order is handed to the {@link OrderWriter}, which commits it and its
+ * quota event together with the orders of concurrent requests. The Combo Service
+ * learns about the order later, through the outbox relay.
+ * The time taken to place an order is published as the {@code orders.place} timer,
+ * with the configured latency objective as a service level bucket.
+ */
+@Service
+public class OrderServiceImpl implements OrderService {
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final OrderRepository orderRepository;
+    private final OrderWriter orderWriter;
+    private final QuotaService quotaService;
+    private final AdmissionService admissionService;
+    private final OrderMapper orderMapper;
+    private final Timer placementTime;
+
+    /**
+     * Constructs the service and registers its metrics.
+     * @param orderRepository  The repository where orders are read.
+     * @param orderWriter      The writer storing new orders.
+     * @param quotaService     The service admitting orders against each combo's quota.
+     * @param admissionService The service pacing requests for each combo.
+     * @param orderMapper      The mapper of orders to DTOs.
+     * @param latencyObjective The target latency of placing an order.
+     * @param meterRegistry    The registry where the metrics are published.
+     */
+    public OrderServiceImpl(OrderRepository orderRepository, OrderWriter orderWriter, QuotaService quotaService,
+                            AdmissionService admissionService, OrderMapper orderMapper,
+                            @Value("${order.placement.latency-objective:150ms}") Duration latencyObjective,
+                            MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.orderWriter = orderWriter;
+        this.quotaService = quotaService;
+        this.admissionService = admissionService;
+        this.orderMapper = orderMapper;
+        this.placementTime = Timer.builder("orders.place")
+                .description("Time taken to place an order, including the quota reservation")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .serviceLevelObjectives(latencyObjective)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public OrderResponseDTO placeOrder(PlaceOrderRequestDTO requestDTO, UUID ticket) {
+        return placementTime.record(() -> {
+            Integer userCode = CurrentUser.code();
+            UUID comboId = requestDTO.comboId();
+            int units = requestDTO.units();
+            // 1. Wait in line while the combo is in demand; rejects in memory once it is sold out
+            admissionService.admit(comboId, userCode, units, ticket);
+            // 2. Take the units from the local view of the combo's quota
+            BigDecimal unitPrice = quotaService.reserve(comboId, units);
+            // 3. Store the order together with its quota event, committed with concurrent orders
+            Order order = new Order(null, userCode, comboId, units, unitPrice, null, null);
+            try {
+                await(orderWriter.write(order));
+            } catch (RuntimeException ex) {
+                quotaService.release(comboId, units);
+                throw ex;
+            }
+            quotaService.settle(comboId, units);
+            return orderMapper.toResponse(order);
+        });
+    }
+
+    @Override
+    public OrderResponseDTO getOrder(UUID id) {
+        Order order = orderRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Order", "id", id));
+        if (!order.getUserCode().equals(CurrentUser.code()) && !CurrentUser.isAdmin()) {
+            throw new UnauthorizedActionException("You can only see your own orders");
+        }
+        return orderMapper.toResponse(order);
+    }
+
+    @Override
+    public OrderPageResponseDTO getMyOrders(String after, int limit) {
+        int fetchSize = KeysetPage.fetchSize(limit, MAX_PAGE_SIZE);
+        Keyset<Instant> keyset = Keyset.decode(after, "createdAt", Instant::parse);
+        List<Order> orders = orderRepository.findPageByUser(CurrentUser.code(), keyset.position(), keyset.id(), fetchSize);
+        KeysetPage<Order> page = KeysetPage.of(orders, limit, order -> new Keyset<>(order.getCreatedAt(), order.getId()));
+        return new OrderPageResponseDTO(page.items().stream().map(orderMapper::toResponse).toList(), page.nextCursor());
+    }
+
+    /**
+     * Waits for an order to be stored, rethrowing the cause of a failed write as is.
+     */
+    private static void await(CompletableFuture<Void> write) {
+        try {
+            write.get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the order to be stored", ex);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("The order could not be stored", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package co.edu.uis.lunchuis.orderservice.application.service.impl;
+
+import co.edu.uis.lunchuis.common.batch.BatchingWorker;
+import co.edu.uis.lunchuis.common.exception.ServiceBusyException;
+import co.edu.uis.lunchuis.orderservice.application.service.OrderWriter;
+import co.edu.uis.lunchuis.orderservice.domain.model.Order;
+import co.edu.uis.lunchuis.orderservice.domain.model.QuotaEvent;
+import co.edu.uis.lunchuis.orderservice.domain.repository.OrderRepository;
+import co.edu.uis.lunchuis.orderservice.domain.repository.QuotaOutboxRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Implementation of the {@link OrderWriter} interface using group commit.
+ * Orders from concurrent requests are queued in a {@link BatchingWorker} whose threads
+ * drain it in micro-batches: a batch is written as soon as it holds {@code batchSize}
+ * orders or once its first order has waited {@code maxDelay}. Each batch is one
+ * transaction holding a multi-row INSERT of the orders and one of their quota events
+ * into the outbox, and every caller's future completes only once that commit returns. Under load, batches grow instead of commits queueing up, so
+ * throughput follows demand rather than the disk's flush latency.
+ * If a batch fails, its orders are retried one by one so a single bad row does not
+ * fail the others. When the queue stays full, callers are turned away with a
+ * {@link ServiceBusyException} instead of piling up.
+ */
+@Service
+@Slf4j
+public class OrderWriterImpl implements OrderWriter {
+    private final OrderRepository orderRepository;
+    private final QuotaOutboxRepository quotaOutboxRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration enqueueTimeout;
+    private final Duration retryAfter;
+    private final Timer flushTime;
+    private final DistributionSummary batchSizes;
+    private final BatchingWorker<PendingOrder> worker;
+
+    /**
+     * Constructs the writer and starts its threads.
+     * @param orderRepository       The repository where orders are stored.
+     * @param quotaOutboxRepository The outbox where the quota events of the orders are stored.
+     * @param transactionTemplate   The template running each batch in a transaction.
+     * @param capacity        The maximum number of orders waiting to be written.
+     * @param batchSize       The maximum number of orders written in one statement.
+     * @param maxDelay        The maximum time the first order of a batch waits for others.
+     * @param writerCount     The number of batches written concurrently.
+     * @param enqueueTimeout  How long a caller waits for room in a full queue.
+     * @param retryAfter      The delay suggested to callers that are turned away.
+     * @param meterRegistry   The registry where the metrics are published.
+     */
+    public OrderWriterImpl(OrderRepository orderRepository, QuotaOutboxRepository quotaOutboxRepository,
+                           TransactionTemplate transactionTemplate,
+                           @Value("${order.writer.queue-capacity:5000}") int capacity,
+                           @Value("${order.writer.batch-size:100}") int batchSize,
+                           @Value("${order.writer.max-delay:2ms}") Duration maxDelay,
+                           @Value("${order.writer.threads:2}") int writerCount,
+                           @Value("${order.writer.enqueue-timeout:100ms}") Duration enqueueTimeout,
+                           @Value("${order.writer.retry-after:2s}") Duration retryAfter,
+                           MeterRegistry meterRegistry) {
+        this.orderRepository = orderRepository;
+        this.quotaOutboxRepository = quotaOutboxRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enqueueTimeout = enqueueTimeout;
+        this.retryAfter = retryAfter;
+        this.flushTime = Timer.builder("orders.writer.flush")
+                .description("Time spent writing and committing a batch of orders")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.batchSizes = DistributionSummary.builder("orders.writer.batch.size")
+                .description("Number of orders committed together")
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .register(meterRegistry);
+        this.worker = new BatchingWorker<>("order-writer", capacity, batchSize, maxDelay, writerCount, this::write);
+        Gauge.builder("orders.writer.queued", worker, BatchingWorker::size)
+                .description("Orders waiting to be written")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public CompletableFuture<Void> write(Order order) {
+        PendingOrder pending = new PendingOrder(order, new CompletableFuture<>());
+        try {
+            if (!worker.offer(pending, enqueueTimeout)) {
+                pending.result().completeExceptionally(new ServiceBusyException("place orders", retryAfter));
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            pending.result().completeExceptionally(ex);
+        }
+        return pending.result();
+    }
+
+    /**
+     * Stops the writers once every queued order has been written.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        worker.shutdown(Duration.ofSeconds(10));
+    }
+
+    /**
+     * Writes a batch and completes the futures of its orders.
+     */
+    private void write(List<PendingOrder> batch) {
+        try {
+            List<Order> orders = batch.stream().map(PendingOrder::order).toList();
+            flushTime.record(() -> store(orders));
+            batchSizes.record(batch.size());
+            batch.forEach(pending -> pending.result().complete(null));
+        } catch (RuntimeException ex) {
+            if (batch.size() == 1) {
+                batch.getFirst().result().completeExceptionally(ex);
+            } else {
+                log.warn("Could not write a batch of {} orders; retrying them one by one: {}", batch.size(),
+                        ex.getMessage());
+                batch.forEach(this::writeOne);
+            }
+        }
+    }
+
+    private void writeOne(PendingOrder pending) {
+        try {
+            store(List.of(pending.order()));
+            pending.result().complete(null);
+        } catch (RuntimeException ex) {
+            pending.result().completeExceptionally(ex);
+        }
+    }
+
+    /**
+     * Stores orders and their quota events in a single transaction.
+     */
+    private void store(List<Order> orders) {
+        transactionTemplate.executeWithoutResult(status -> {
+            orderRepository.insertAll(orders);
+            quotaOutboxRepository.insertAll(orders.stream().map(QuotaEvent::placed).toList());
+        });
+    }
+
+    /**
+     * An order waiting to be written, with the future its caller waits on.
+     */
+    private record PendingOrder(Order order, CompletableFuture<Void> result) {
+    }
+}
@@ -0,0 +1,186 @@
+package co.edu.uis.lunchuis.orderservice.application.service.impl;
+
+import co.edu.uis.lunchuis.orderservice.application.service.QuotaRelayService;
+import co.edu.uis.lunchuis.orderservice.domain.gateway.QuotaAdjustmentGateway;
+import co.edu.uis.lunchuis.orderservice.domain.model.Hold;
+import co.edu.uis.lunchuis.orderservice.domain.model.QuotaEvent;
+import co.edu.uis.lunchuis.orderservice.domain.repository.HoldRepository;
+import co.edu.uis.lunchuis.orderservice.domain.repository.OrderRepository;
+import co.edu.uis.lunchuis.orderservice.domain.repository.QuotaOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Implementation of the {@link QuotaRelayService} interface.
+ * Each run claims up to {@code batchSize} events under a new batch ID, coalesces them into
+ * one net change per combo and sends them through the {@link QuotaAdjustmentGateway} in a
+ * single call; once the Combo Service confirms, the events are deleted and the changes it
+ * applied are added to the ledger, in one transaction. A batch whose
+ * delivery failed keeps its ID and is resent once abandoned, and the Combo Service skips
+ * batches it already applied, so every change is applied exactly once.
+ * Orders stay pending until their batch completes: those the Combo Service took units for
+ * are then placed, and when it could not take every unit of a batch, the newest orders and
+ * holds of that combo are cancelled to cover the shortfall, so their owners see it.
+ */
+@Service
+@Slf4j
+public class QuotaRelayServiceImpl implements QuotaRelayService {
+    private final QuotaOutboxRepository quotaOutboxRepository;
+    private final OrderRepository orderRepository;
+    private final HoldRepository holdRepository;
+    private final QuotaAdjustmentGateway quotaAdjustmentGateway;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final Duration abandonAfter;
+    private final Counter relayed;
+    private final Counter failed;
+    private final Counter cancelled;
+
+    /**
+     * Constructs the relay and registers its metrics.
+     * @param quotaOutboxRepository  The outbox of quota changes.
+     * @param orderRepository        The repository of orders, to cancel oversold ones.
+     * @param holdRepository         The repository of holds, to cancel oversold ones.
+     * @param quotaAdjustmentGateway The transport to the Combo Service.
+     * @param transactionTemplate    The template running the completion of a batch in a transaction.
+     * @param batchSize              The maximum number of events sent in one batch.
+     * @param abandonAfter           How long a claimed batch may stay unfinished before it is resent.
+     * @param meterRegistry          The registry where the metrics are published.
+     */
+    public QuotaRelayServiceImpl(QuotaOutboxRepository quotaOutboxRepository, OrderRepository orderRepository,
+                                 HoldRepository holdRepository, QuotaAdjustmentGateway quotaAdjustmentGateway,
+                                 TransactionTemplate transactionTemplate,
+                                 @Value("${order.outbox.batch-size:500}") int batchSize,
+                                 @Value("${order.outbox.abandon-after:30s}") Duration abandonAfter,
+                                 MeterRegistry meterRegistry) {
+        this.quotaOutboxRepository = quotaOutboxRepository;
+        this.orderRepository = orderRepository;
+        this.holdRepository = holdRepository;
+        this.quotaAdjustmentGateway = quotaAdjustmentGateway;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.abandonAfter = abandonAfter;
+        this.relayed = Counter.builder("orders.outbox.relayed")
+                .description("Quota events applied by the Combo Service")
+                .register(meterRegistry);
+        this.failed = Counter.builder("orders.outbox.failed")
+                .description("Quota event batches that could not be delivered")
+                .register(meterRegistry);
+        this.cancelled = Counter.builder("orders.oversold.cancelled")
+                .description("Orders and holds cancelled because the Combo Service had no quota left for them")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${order.outbox.relay-interval-ms:200}")
+    public void relay() {
+        try {
+            // 1. Resend the batches whose relay failed or crashed
+            Instant now = Instant.now();
+            Instant abandonedBefore = now.minus(abandonAfter);
+            for (UUID batchId : quotaOutboxRepository.findAbandonedBatches(abandonedBefore)) {
+                List<QuotaEvent> events = quotaOutboxRepository.reclaim(batchId, now, abandonedBefore);
+                if (!events.isEmpty() && !send(batchId, events)) {
+                    return;
+                }
+            }
+            // 2. Claim and send new batches while the outbox keeps filling them
+            List<QuotaEvent> events;
+            do {
+                UUID batchId = UUID.randomUUID();
+                events = quotaOutboxRepository.claim(batchId, Instant.now(), batchSize);
+                if (events.isEmpty() || !send(batchId, events)) {
+                    return;
+                }
+            } while (events.size() == batchSize);
+        } catch (RuntimeException ex) {
+            log.warn("Could not relay quota events: {}", ex.getMessage());
+        }
+    }
+
+    /**
+     * Sends a batch and completes it.
+     * @return true if the Combo Service applied the batch, false if it could not be delivered.
+     */
+    private boolean send(UUID batchId, List<QuotaEvent> events) {
+        Map<UUID, Integer> deltas = new LinkedHashMap<>();
+        events.forEach(event -> deltas.merge(event.comboId(), event.delta(), Integer::sum));
+        deltas.values().removeIf(delta -> delta == 0);
+        Map<UUID, Integer> applied;
+        try {
+            applied = deltas.isEmpty() ? Map.of() : quotaAdjustmentGateway.apply(batchId, deltas);
+        } catch (RuntimeException ex) {
+            failed.increment();
+            log.warn("Could not deliver quota batch {} ({} events); it will be resent: {}", batchId, events.size(),
+                    ex.getMessage());
+            return false;
+        }
+        transactionTemplate.executeWithoutResult(status -> {
+            // Deleting the batch first waits for holds being confirmed, so their orders are seen below
+            quotaOutboxRepository.completeBatch(batchId, applied);
+            deltas.forEach((comboId, requested) -> {
+                Integer taken = applied.get(comboId);
+                if (taken != null && requested < 0 && taken > requested) {
+                    coverShortfall(comboId, taken - requested, events);
+                }
+            });
+            orderRepository.placeAll(events.stream()
+                    .filter(event -> event.delta() < 0)
+                    .map(QuotaEvent::orderId)
+                    .toList());
+        });
+        relayed.increment(events.size());
+        return true;
+    }
+
+    /**
+     * Cancels the newest orders and holds of a combo in the batch until they account for
+     * the units the Combo Service could not take, and gives back any units cancelled in excess.
+     * Events of holds carry the hold's ID, which is also the ID of the order it became.
+     */
+    private void coverShortfall(UUID comboId, int shortfall, List<QuotaEvent> events) {
+        List<QuotaEvent> candidates = events.stream()
+                .filter(event -> event.comboId().equals(comboId) && event.delta() < 0)
+                .sorted(Comparator.comparing(QuotaEvent::id).reversed())
+                .toList();
+        List<UUID> orderIds = new ArrayList<>();
+        int units = 0;
+        for (QuotaEvent event : candidates) {
+            if (units >= shortfall) {
+                break;
+            }
+            orderIds.add(event.orderId());
+            units -= event.delta();
+        }
+        Set<UUID> cancelledIds = new HashSet<>(orderRepository.cancelAll(orderIds));
+        holdRepository.deleteAll(orderIds).stream().map(Hold::id).forEach(cancelledIds::add);
+        int cancelledUnits = candidates.stream()
+                .filter(event -> cancelledIds.contains(event.orderId()))
+                .mapToInt(event -> -event.delta())
+                .sum();
+        if (cancelledUnits > shortfall) {
+            // The Combo Service took these units for orders that are now cancelled
+            QuotaEvent last = candidates.get(orderIds.size() - 1);
+            quotaOutboxRepository.insertAll(List.of(
+                    new QuotaEvent(null, last.orderId(), comboId, cancelledUnits - shortfall, Instant.now())));
+        }
+        cancelled.increment(cancelledIds.size());
+        log.warn("Combo {} was oversold by {} unit(s); cancelled orders and holds {}.", comboId, shortfall, cancelledIds);
+    }
+}
@@ -0,0 +1,156 @@
+package co.edu.uis.lunchuis.orderservice.application.service.impl;
+
+import co.edu.uis.lunchuis.common.exception.QuotaExhaustedException;
+import co.edu.uis.lunchuis.common.exception.ResourceNotFoundException;
+import co.edu.uis.lunchuis.orderservice.application.service.QuotaService;
+import co.edu.uis.lunchuis.orderservice.domain.gateway.ComboGateway;
+import co.edu.uis.lunchuis.orderservice.domain.model.ComboQuota;
+import co.edu.uis.lunchuis.orderservice.domain.model.ComboSnapshot;
+import co.edu.uis.lunchuis.orderservice.domain.repository.QuotaOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of the {@link QuotaService} interface.
+ * Keeps one {@link ComboQuota} per combo in a concurrent map. A combo is loaded from the
+ * Combo Service the first time it is ordered, by a single request while the others arriving
+ * meanwhile wait for its result, and every tracked combo is resynchronized
+ * on a fixed delay from the quota the Combo Service has persisted and the ledger of quota
+ * events, which covers the orders of every instance.
+ * Between two refreshes, instances may admit a few units more than remain; the Combo
+ * Service never takes more than it has, and the relay cancels the orders it could not cover.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class QuotaServiceImpl implements QuotaService {
+    private final ComboGateway comboGateway;
+    private final QuotaOutboxRepository quotaOutboxRepository;
+    private final Map<UUID, ComboQuota> quotas = new ConcurrentHashMap<>();
+    private final Map<UUID, CompletableFuture<ComboQuota>> loads = new ConcurrentHashMap<>();
+
+    @Override
+    public BigDecimal reserve(UUID comboId, int units) {
+        ComboQuota quota = getOrLoad(comboId);
+        if (!quota.tryReserve(units)) {
+            throw new QuotaExhaustedException("Combo", "id", comboId.toString());
+        }
+        return quota.getUnitPrice();
+    }
+
+    @Override
+    public int availableQuota(UUID comboId) {
+        ComboQuota quota = getOrLoad(comboId);
+        return quota.isOpen() ? quota.getAvailableQuota() : 0;
+    }
+
+    @Override
+    public void release(UUID comboId, int units) {
+        ComboQuota quota = quotas.get(comboId);
+        if (quota != null) {
+            quota.release(units);
+        }
+    }
+
+    @Override
+    public void settle(UUID comboId, int units) {
+        ComboQuota quota = quotas.get(comboId);
+        if (quota != null) {
+            quota.settle(units);
+        }
+    }
+
+    @Override
+    public void restore(UUID comboId, int units) {
+        ComboQuota quota = quotas.get(comboId);
+        if (quota != null) {
+            quota.restore(units);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${order.quota.refresh-interval-ms:2000}")
+    public void refresh() {
+        if (quotas.isEmpty()) {
+            return;
+        }
+        Map<UUID, Integer> ledger;
+        try {
+            ledger = quotaOutboxRepository.sumLedger();
+        } catch (RuntimeException ex) {
+            log.warn("Could not read the quota ledger: {}", ex.getMessage());
+            return;
+        }
+        for (ComboQuota quota : quotas.values()) {
+            try {
+                Optional<ComboSnapshot> snapshot = comboGateway.findCombo(quota.getComboId());
+                if (snapshot.isPresent()) {
+                    quota.sync(snapshot.get(), ledger.getOrDefault(quota.getComboId(), 0));
+                } else {
+                    // The combo was deleted, so it can no longer be ordered
+                    quotas.remove(quota.getComboId());
+                }
+            } catch (RuntimeException ex) {
+                // Keep serving the last known quota; the next refresh tries again
+                log.debug("Could not refresh quota of combo {}: {}", quota.getComboId(), ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Returns the quota of a combo, loading it the first time the combo is ordered.
+     * Concurrent first orders of the same combo share a single load.
+     */
+    private ComboQuota getOrLoad(UUID comboId) {
+        ComboQuota quota = quotas.get(comboId);
+        if (quota != null) {
+            return quota;
+        }
+        CompletableFuture<ComboQuota> load = new CompletableFuture<>();
+        CompletableFuture<ComboQuota> running = loads.putIfAbsent(comboId, load);
+        if (running != null) {
+            return join(running);
+        }
+        try {
+            // Another load may have finished between the first lookup and claiming this one
+            quota = quotas.get(comboId);
+            if (quota == null) {
+                ComboSnapshot snapshot = comboGateway.findCombo(comboId)
+                        .orElseThrow(() -> new ResourceNotFoundException("Combo", "id", comboId.toString()));
+                int ledger = quotaOutboxRepository.sumLedger().getOrDefault(comboId, 0);
+                quota = quotas.computeIfAbsent(comboId, id -> new ComboQuota(snapshot, ledger));
+            }
+            load.complete(quota);
+            return quota;
+        } catch (RuntimeException ex) {
+            load.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            loads.remove(comboId, load);
+        }
+    }
+
+    /**
+     * Waits for a load started by another request, rethrowing its failure as is.
+     */
+    private static ComboQuota join(CompletableFuture<ComboQuota> load) {
+        try {
+            return load.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("The combo could not be loaded", ex.getCause());
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package co.edu.uis.lunchuis.orderservice.domain.exception;
+
+import co.edu.uis.lunchuis.common.exception.DomainException;
+import org.springframework.http.HttpStatus;
+
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Exception thrown when a request is put in line behind others competing for the same
+ * resource (e.g., a combo that just opened). The client keeps its place by retrying the
+ * same request with its ticket after the suggested delay.
+ * Turned into a response by {@link co.edu.uis.lunchuis.orderservice.web.QueueExceptionHandler}.
+ */
+public class RequestQueuedException extends DomainException {
+    private final UUID ticket;
+    private final long position;
+    private final Duration estimatedWait;
+    private final Duration retryAfter;
+
+    /**
+     * Constructs a new RequestQueuedException for the given resource.
+     * @param resource      the name of the resource the request is waiting for
+     * @param field         the name of the field identifying the resource
+     * @param value         the value of the identifying field
+     * @param ticket        the ticket holding the client's place in line
+     * @param position      the number of requests ahead of the client, itself included
+     * @param estimatedWait the expected time until the request is let through
+     * @param retryAfter    the delay after which the client should retry with its ticket
+     */
+    public RequestQueuedException(String resource, String field, Object value, UUID ticket, long position,
+                                  Duration estimatedWait, Duration retryAfter) {
+        super("REQUEST_QUEUED",
+                String.format("Waiting in line for %s with %s: %s. Position %d, estimated wait %d second(s)",
+                        resource, field, value, position, Math.max(1, estimatedWait.toSeconds())),
+                HttpStatus.TOO_MANY_REQUESTS);
+        this.ticket = ticket;
+        this.position = position;
+        this.estimatedWait = estimatedWait;
+        this.retryAfter = retryAfter;
+    }
+
+    // --- Getters ---
+    public UUID getTicket() {
+        return ticket;
+    }
+    public long getPosition() {
+        return position;
+    }
+    public Duration getEstimatedWait() {
+        return estimatedWait;
+    }
+    public Duration getRetryAfter() {
+        return retryAfter;
+    }
+}
@@ -0,0 +1,20 @@
+package co.edu.uis.lunchuis.orderservice.domain.gateway;
+
+import co.edu.uis.lunchuis.orderservice.domain.model.ComboSnapshot;
+
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Domain Gateway Port for reading combos from the Combo Service.
+ * Implementations (adapters) will reside in the infrastructure layer.
+ */
+public interface ComboGateway {
+    /**
+     * Reads the current state of a combo.
+     * @param comboId The ID of the combo.
+     * @return the state of the combo, or an empty Optional if it does not exist.
+     * @throws co.edu.uis.lunchuis.common.exception.ServiceBusyException if the Combo Service cannot be reached in time.
+     */
+    Optional<ComboSnapshot> findCombo(UUID comboId);
+}
@@ -0,0 +1,21 @@
+package co.edu.uis.lunchuis.orderservice.domain.gateway;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain Gateway Port for the transport applying net quota changes to the Combo Service.
+ * Implementations (adapters) will reside in the infrastructure layer.
+ */
+public interface QuotaAdjustmentGateway {
+    /**
+     * Applies a batch of net quota changes, all or nothing. Sending a batch again with
+     * the same ID has no further effect and answers the same outcome.
+     * @param batchId The ID of the batch, kept when it is resent.
+     * @param deltas  The net change of each combo.
+     * @return the change actually applied to each combo, also when the batch had already been applied.
+     * Combos that do not exist are left out.
+     * @throws RuntimeException if the batch could not be delivered; it may or may not have been applied.
+     */
+    Map<UUID, Integer> apply(UUID batchId, Map<UUID, Integer> deltas);
+}
@@ -0,0 +1,47 @@
+package co.edu.uis.lunchuis.orderservice.domain.model;
+
+import java.util.UUID;
+
+/**
+ * The answer of a {@link WaitingRoom} to a request for units of its combo.
+ * @param outcome  whether the request may go on, must wait or is turned away
+ * @param ticket   the ticket holding the request's place in line, or null unless it waits
+ * @param position the number of requests ahead of it, itself included, or 0 unless it waits
+ */
+public record Admission(Outcome outcome, UUID ticket, long position) {
+    /**
+     * The possible answers of a waiting room.
+     */
+    public enum Outcome {
+        /** The request may take its units now. */
+        ADMITTED,
+        /** The request waits in line and must come back with its ticket. */
+        QUEUED,
+        /** Not enough quota is left for the request. */
+        SOLD_OUT,
+        /** The line is too long to take one more request. */
+        FULL,
+        /** The ticket was issued to another user or for another number of units. */
+        MISMATCH
+    }
+
+    static Admission admitted() {
+        return new Admission(Outcome.ADMITTED, null, 0);
+    }
+
+    static Admission queued(UUID ticket, long position) {
+        return new Admission(Outcome.QUEUED, ticket, position);
+    }
+
+    static Admission soldOut() {
+        return new Admission(Outcome.SOLD_OUT, null, 0);
+    }
+
+    static Admission full() {
+        return new Admission(Outcome.FULL, null, 0);
+    }
+
+    static Admission mismatch() {
+        return new Admission(Outcome.MISMATCH, null, 0);
+    }
+}
@@ -0,0 +1,118 @@
+package co.edu.uis.lunchuis.orderservice.domain.model;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Local, lock-free view of the quota of a combo, used to admit or reject orders
+ * without asking the Combo Service.
+ * The view starts from the quota persisted by the Combo Service without the changes it applied
+ * from the outbox, plus every quota event written so far, minus the units reserved by orders
+ * being written. The first part does not move when a batch is relayed and the second counts
+ * each event once, whether its batch is still in the outbox or already applied, so the view
+ * never counts a change twice nor misses it while a batch is in flight.
+ * It is resynchronized periodically, so it converges with changes made elsewhere.
+ */
+public final class ComboQuota {
+    private final UUID comboId;
+    private final AtomicInteger available;
+    private final AtomicInteger inFlight;
+    private volatile BigDecimal unitPrice;
+    private volatile boolean open;
+
+    /**
+     * Constructs a new ComboQuota from the state of a combo.
+     * @param snapshot    The state reported by the Combo Service.
+     * @param ledgerDelta The net change of every quota event of this combo, from the ledger and the outbox.
+     */
+    public ComboQuota(ComboSnapshot snapshot, int ledgerDelta) {
+        this.comboId = Objects.requireNonNull(snapshot.id(), "Combo id cannot be null");
+        this.available = new AtomicInteger();
+        this.inFlight = new AtomicInteger();
+        sync(snapshot, ledgerDelta);
+    }
+
+    /**
+     * Atomically takes units from the available quota for an order about to be written.
+     * @param units The number of units to reserve. Must be positive.
+     * @return true if the units were reserved, false if the combo is closed or there is not enough quota.
+     */
+    public boolean tryReserve(int units) {
+        requirePositive(units);
+        while (open) {
+            int current = available.get();
+            if (current < units) {
+                return false;
+            }
+            if (available.compareAndSet(current, current - units)) {
+                inFlight.addAndGet(units);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gives back the units of an order that could not be written.
+     * @param units The number of units to release. Must be positive.
+     */
+    public void release(int units) {
+        requirePositive(units);
+        inFlight.addAndGet(-units);
+        available.addAndGet(units);
+    }
+
+    /**
+     * Records that the order holding these units is stored, so its change is now in the outbox.
+     * @param units The number of units of the stored order. Must be positive.
+     */
+    public void settle(int units) {
+        requirePositive(units);
+        inFlight.addAndGet(-units);
+    }
+
+    /**
+     * Gives back units whose return is already recorded in the outbox, such as those of an
+     * expired hold, so they can be ordered again before the next resynchronization.
+     * @param units The number of units to give back. Must be positive.
+     */
+    public void restore(int units) {
+        requirePositive(units);
+        available.addAndGet(units);
+    }
+
+    /**
+     * Recomputes the available quota from fresh state.
+     * @param snapshot    The state reported by the Combo Service.
+     * @param ledgerDelta The net change of every quota event of this combo, from the ledger and the outbox.
+     */
+    public void sync(ComboSnapshot snapshot, int ledgerDelta) {
+        unitPrice = snapshot.unitPrice();
+        open = snapshot.open();
+        int base = snapshot.availableQuota() - snapshot.adjustedQuota();
+        available.set(Math.max(0, base + ledgerDelta - inFlight.get()));
+    }
+
+    // --- Getters ---
+
+    public UUID getComboId() {
+        return comboId;
+    }
+    public int getAvailableQuota() {
+        return available.get();
+    }
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+    public boolean isOpen() {
+        return open;
+    }
+
+    private static void requirePositive(int units) {
+        if (units <= 0) {
+            throw new IllegalArgumentException("Units must be positive");
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package co.edu.uis.lunchuis.orderservice.domain.model;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * The state of a combo as last reported by the Combo Service.
+ * @param id             the ID of the combo
+ * @param unitPrice      the current price of each unit
+ * @param availableQuota the available quota, as persisted by the Combo Service
+ * @param adjustedQuota  the net change the Combo Service applied from every quota adjustment batch,
+ *                       read together with the available quota
+ * @param open           whether the combo currently accepts orders
+ */
+public record ComboSnapshot(UUID id, BigDecimal unitPrice, int availableQuota, int adjustedQuota, boolean open) {
+}
@@ -0,0 +1,33 @@
+package co.edu.uis.lunchuis.orderservice.domain.model;
+
+import co.edu.uis.lunchuis.common.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Units of a combo set aside for a user during checkout.
+ * The units are taken from the combo's quota when the hold is created; confirming the
+ * hold turns it into an order with the same ID, and a hold not confirmed before it
+ * expires gives its units back.
+ * @param id        the unique identifier of the hold, kept by the order it becomes
+ * @param userCode  the institutional code of the user holding the units
+ * @param comboId   the ID of the held combo
+ * @param units     the number of units held
+ * @param unitPrice the price of each unit when the hold was created
+ * @param createdAt the instant the hold was created
+ * @param expiresAt the instant the units go back to the combo's quota unless confirmed
+ */
+public record Hold(UUID id, Integer userCode, UUID comboId, Integer units, BigDecimal unitPrice,
+                   Instant createdAt, Instant expiresAt) {
+    /**
+     * Creates the order this hold becomes once confirmed.
+     * @param confirmedAt the instant the hold was confirmed
+     * @param status      PENDING while the hold's units wait in the outbox, PLACED once the Combo Service took them
+     * @return the order
+     */
+    public Order toOrder(Instant confirmedAt, OrderStatus status) {
+        return new Order(id, userCode, comboId, units, unitPrice, status, confirmedAt);
+    }
+}
@@ -0,0 +1,85 @@
+package co.edu.uis.lunchuis.orderservice.domain.model;
+
+import co.edu.uis.lunchuis.common.enums.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Represents an order of one or more units of a combo, placed by a user.
+ * The unit price is copied from the combo when the order is placed, so later
+ * price changes do not alter orders already placed.
+ */
+public final class Order {
+    private final UUID id;
+    private final Integer userCode;
+    private final UUID comboId;
+    private final Integer units;
+    private final BigDecimal unitPrice;
+    private OrderStatus status;
+    private final Instant createdAt;
+
+    /**
+     * Constructs an instance of the Order class.
+     * @param id        The unique identifier for the order. If null, a new UUID is generated.
+     * @param userCode  The institutional code of the user who placed the order.
+     * @param comboId   The ID of the ordered combo.
+     * @param units     The number of units ordered. Must be positive.
+     * @param unitPrice The price of each unit when the order was placed.
+     * @param status    The status of the order. Defaults to PENDING if null.
+     * @param createdAt The instant the order was placed. Defaults to now if null.
+     */
+    public Order(UUID id, Integer userCode, UUID comboId, Integer units, BigDecimal unitPrice,
+                 OrderStatus status, Instant createdAt) {
+        this.id = (id != null) ? id : UUID.randomUUID();
+        this.userCode = Objects.requireNonNull(userCode, "User code cannot be null");
+        this.comboId = Objects.requireNonNull(comboId, "Combo id cannot be null");
+        this.units = Objects.requireNonNull(units, "Units cannot be null");
+        if (units <= 0) {
+            throw new IllegalArgumentException("Units must be positive");
+        }
+        this.unitPrice = Objects.requireNonNull(unitPrice, "Unit price cannot be null");
+        this.createdAt = (createdAt != null) ? createdAt : Instant.now();
+        setStatus((status != null) ? status : OrderStatus.PENDING);
+    }
+
+    // --- Getters ---
+
+    public UUID getId() {
+        return id;
+    }
+    public Integer getUserCode() {
+        return userCode;
+    }
+    public UUID getComboId() {
+        return comboId;
+    }
+    public Integer getUnits() {
+        return units;
+    }
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+    public OrderStatus getStatus() {
+        return status;
+    }
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Returns the amount to pay for the order.
+     * @return the unit price times the number of units.
+     */
+    public BigDecimal getTotal() {
+        return unitPrice.multiply(BigDecimal.valueOf(units));
+    }
+
+    // --- Setters ---
+
+    public void setStatus(OrderStatus status) {
+        this.status = Objects.requireNonNull(status, "Status cannot be null");
+    }
+}
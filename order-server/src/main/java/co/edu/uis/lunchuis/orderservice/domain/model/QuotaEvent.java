@@ -0,0 +1,43 @@
+package co.edu.uis.lunchuis.orderservice.domain.model;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * A change to the quota of a combo caused by an order, waiting in the outbox to be
+ * applied by the Combo Service.
+ * @param id        the sequence number assigned by the outbox, or null before it is stored
+ * @param orderId   the ID of the order or hold that caused the change
+ * @param comboId   the ID of the combo
+ * @param delta     the number of units to add (positive) or take (negative)
+ * @param createdAt the instant the change happened
+ */
+public record QuotaEvent(Long id, UUID orderId, UUID comboId, int delta, Instant createdAt) {
+    /**
+     * Creates the event of units taken by a newly placed order.
+     * @param order the placed order
+     * @return the event
+     */
+    public static QuotaEvent placed(Order order) {
+        return new QuotaEvent(null, order.getId(), order.getComboId(), -order.getUnits(), order.getCreatedAt());
+    }
+
+    /**
+     * Creates the event of units set aside by a new hold.
+     * @param hold the created hold
+     * @return the event
+     */
+    public static QuotaEvent held(Hold hold) {
+        return new QuotaEvent(null, hold.id(), hold.comboId(), -hold.units(), hold.createdAt());
+    }
+
+    /**
+     * Creates the event of units given back by a hold that expired or was cancelled.
+     * @param hold       the released hold
+     * @param releasedAt the instant the hold was released
+     * @return the event
+     */
+    public static QuotaEvent released(Hold hold, Instant releasedAt) {
+        return new QuotaEvent(null, hold.id(), hold.comboId(), hold.units(), releasedAt);
+    }
+}
@@ -0,0 +1,224 @@
+package co.edu.uis.lunchuis.orderservice.domain.model;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * In-memory line of the requests competing for the units of one combo.
+ * Requests are let through in arrival order at no more than {@code ratePerSecond}, and
+ * only while the units of the requests already let through but not yet ordered fit in the
+ * quota still available, so the rate follows what is left to sell. A request arriving while
+ * nobody waits and a permit is free goes straight through; any other is given a ticket and
+ * comes back with it until its turn. Once the quota is gone, the whole line is turned away.
+ * Positions count from the last ticket let through, so tickets abandoned ahead make them
+ * slightly pessimistic. Tickets let through but never used, and waiting tickets whose
+ * holder stopped coming back, are dropped after a while. A ticket only serves the user it
+ * was issued to and the units it was issued for, so it cannot be passed on or used to jump
+ * the line with a larger request.
+ * Every method is synchronized; each does a constant amount of work per ticket it lets through or drops,
+ * except {@link #evict(long)}, which the scheduler calls in the background and visits every ticket.
+ */
+public final class WaitingRoom {
+    private final UUID comboId;
+    private final double ratePerSecond;
+    private final double burst;
+    private final long claimTimeoutNanos;
+    private final long abandonAfterNanos;
+    private final ArrayDeque<Ticket> line = new ArrayDeque<>();
+    private final Map<UUID, Ticket> tickets = new HashMap<>();
+    private double permits;
+    private long refilledAt;
+    private long issuedSeq;
+    private long servedSeq;
+    private int admittedUnits;
+    private long lastActivity;
+
+    /**
+     * Constructs an empty waiting room.
+     * @param comboId       The ID of the combo.
+     * @param ratePerSecond The maximum number of requests let through per second.
+     * @param burst         The number of requests that may go straight through at once after a quiet spell.
+     * @param claimTimeout  How long a ticket let through stays valid.
+     * @param abandonAfter  How long a waiting ticket is kept without its holder coming back.
+     * @param now           The current value of {@link System#nanoTime()}.
+     */
+    public WaitingRoom(UUID comboId, double ratePerSecond, int burst, Duration claimTimeout, Duration abandonAfter,
+                       long now) {
+        this.comboId = Objects.requireNonNull(comboId, "Combo id cannot be null");
+        if (ratePerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("Rate and burst must be positive");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.burst = burst;
+        this.claimTimeoutNanos = claimTimeout.toNanos();
+        this.abandonAfterNanos = abandonAfter.toNanos();
+        this.permits = burst;
+        this.refilledAt = now;
+        this.lastActivity = now;
+    }
+
+    /**
+     * Decides whether a request for units may go on.
+     * @param ticketId       The ticket of a request coming back, or null for a new request.
+     *                       Unknown tickets, such as dropped ones, are treated as new requests.
+     * @param userCode       The institutional code of the user making the request.
+     * @param units          The number of units requested.
+     * @param availableQuota The units of the combo still available.
+     * @param maxLength      The maximum number of requests waiting in line.
+     * @param now            The current value of {@link System#nanoTime()}.
+     * @return the admission of the request.
+     */
+    public synchronized Admission enter(UUID ticketId, int userCode, int units, int availableQuota, int maxLength,
+                                        long now) {
+        lastActivity = now;
+        Ticket ticket = ticketId != null ? tickets.get(ticketId) : null;
+        if (ticket != null && (ticket.userCode != userCode || ticket.units != units)) {
+            // Left in place for the request it was issued to
+            return Admission.mismatch();
+        }
+        if (availableQuota <= 0) {
+            // Nobody in line can be served any more
+            clear();
+            return Admission.soldOut();
+        }
+        if (units > availableQuota) {
+            if (ticket != null) {
+                leave(ticket);
+            }
+            return Admission.soldOut();
+        }
+        letThrough(availableQuota, now);
+        if (ticket != null) {
+            if (ticket.admitted) {
+                leave(ticket);
+                return Admission.admitted();
+            }
+            ticket.lastSeen = now;
+            return Admission.queued(ticket.id, ticket.seq - servedSeq);
+        }
+        if (line.isEmpty() && permits >= 1 && admittedUnits + units <= availableQuota) {
+            permits -= 1;
+            return Admission.admitted();
+        }
+        if (line.size() >= maxLength) {
+            return Admission.full();
+        }
+        ticket = new Ticket(UUID.randomUUID(), ++issuedSeq, userCode, units, now);
+        line.addLast(ticket);
+        tickets.put(ticket.id, ticket);
+        return Admission.queued(ticket.id, ticket.seq - servedSeq);
+    }
+
+    /**
+     * Drops the tickets let through but not used in time, freeing the units they stood for,
+     * and the waiting tickets whose holder stopped coming back, wherever they are in line.
+     * @param now The current value of {@link System#nanoTime()}.
+     * @return true if the room has been idle long enough to be discarded.
+     */
+    public synchronized boolean evict(long now) {
+        Iterator<Ticket> iterator = tickets.values().iterator();
+        while (iterator.hasNext()) {
+            Ticket ticket = iterator.next();
+            if (ticket.admitted && now - ticket.admittedAt > claimTimeoutNanos) {
+                iterator.remove();
+                admittedUnits -= ticket.units;
+            }
+        }
+        line.removeIf(ticket -> {
+            if (ticket.gone || now - ticket.lastSeen > abandonAfterNanos) {
+                tickets.remove(ticket.id);
+                return true;
+            }
+            return false;
+        });
+        return tickets.isEmpty() && now - lastActivity > abandonAfterNanos;
+    }
+
+    /**
+     * Returns the number of requests waiting in line.
+     * @return the length of the line.
+     */
+    public synchronized int getWaiting() {
+        return line.size();
+    }
+
+    public UUID getComboId() {
+        return comboId;
+    }
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    /**
+     * Lets the head of the line through while permits and quota allow, dropping abandoned tickets on the way.
+     */
+    private void letThrough(int availableQuota, long now) {
+        permits = Math.min(burst, permits + (now - refilledAt) * ratePerSecond / 1_000_000_000d);
+        refilledAt = now;
+        while (!line.isEmpty()) {
+            Ticket head = line.peekFirst();
+            if (head.gone || now - head.lastSeen > abandonAfterNanos) {
+                line.pollFirst();
+                tickets.remove(head.id);
+                servedSeq = head.seq;
+                continue;
+            }
+            if (permits < 1 || admittedUnits + head.units > availableQuota) {
+                return;
+            }
+            line.pollFirst();
+            servedSeq = head.seq;
+            permits -= 1;
+            head.admitted = true;
+            head.admittedAt = now;
+            admittedUnits += head.units;
+        }
+    }
+
+    /**
+     * Removes a ticket, whether waiting or let through.
+     */
+    private void leave(Ticket ticket) {
+        tickets.remove(ticket.id);
+        if (ticket.admitted) {
+            admittedUnits -= ticket.units;
+        } else {
+            // Still in line; skipped once it reaches the head
+            ticket.gone = true;
+        }
+    }
+
+    private void clear() {
+        line.clear();
+        tickets.clear();
+        admittedUnits = 0;
+        servedSeq = issuedSeq;
+    }
+
+    /**
+     * A place in line.
+     */
+    private static final class Ticket {
+        private final UUID id;
+        private final long seq;
+        private final int userCode;
+        private final int units;
+        private long lastSeen;
+        private boolean admitted;
+        private long admittedAt;
+        private boolean gone;
+
+        private Ticket(UUID id, long seq, int userCode, int units, long now) {
+            this.id = id;
+            this.seq = seq;
+            this.userCode = userCode;
+            this.units = units;
+            this.lastSeen = now;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package co.edu.uis.lunchuis.orderservice.domain.repository;
+
+import co.edu.uis.lunchuis.orderservice.domain.model.Hold;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Domain Repository Port for {@link Hold}.
+ * A hold is only ever ended by deleting it, and every delete returns the holds it removed,
+ * so whichever of confirmation, cancellation or expiry gets there first wins, even across instances.
+ * Implementations (adapters) will reside in the infrastructure layer.
+ */
+public interface HoldRepository {
+    /**
+     * Inserts a new hold, unless the user already has a hold on the same combo.
+     * @param hold The hold to insert.
+     * @return true if the hold was inserted, false if the user already holds the combo.
+     */
+    boolean insert(Hold hold);
+
+    /**
+     * Retrieves a user's hold on a combo, expired or not.
+     * @param userCode The institutional code of the user holding it.
+     * @param comboId  The ID of the combo.
+     * @return an Optional containing the hold, or empty if the user does not hold the combo.
+     */
+    Optional<Hold> findByUserAndCombo(Integer userCode, UUID comboId);
+
+    /**
+     * Removes a user's hold if it has not expired yet.
+     * @param id       The ID of the hold.
+     * @param userCode The institutional code of the user holding it.
+     * @param now      The current instant.
+     * @return an Optional containing the removed hold, or empty if there is no such active hold.
+     */
+    Optional<Hold> deleteActive(UUID id, Integer userCode, Instant now);
+
+    /**
+     * Removes the given holds that have expired, leaving alone those no longer stored.
+     * @param ids The IDs of the holds.
+     * @param now The current instant.
+     * @return the holds actually removed.
+     */
+    List<Hold> deleteExpired(List<UUID> ids, Instant now);
+
+    /**
+     * Removes the given holds whatever their expiration, leaving alone those no longer stored.
+     * @param ids The IDs of the holds.
+     * @return the holds actually removed.
+     */
+    List<Hold> deleteAll(List<UUID> ids);
+
+    /**
+     * Retrieves every stored hold, expired or not.
+     * @return the holds.
+     */
+    List<Hold> findAll();
+
+    /**
+     * Retrieves the IDs of holds that expired before the given instant.
+     * @param before The instant.
+     * @param limit  The maximum number of IDs to return.
+     * @return the IDs, earliest expiration first.
+     */
+    List<UUID> findExpiredIds(Instant before, int limit);
+}
@@ -0,0 +1,52 @@
+package co.edu.uis.lunchuis.orderservice.domain.repository;
+
+import co.edu.uis.lunchuis.orderservice.domain.model.Order;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Domain Repository Port for {@link Order}.
+ * This interface defines the contract for persistence operations on orders.
+ * Implementations (adapters) will reside in the infrastructure layer.
+ */
+public interface OrderRepository {
+    /**
+     * Inserts several orders in a single multi-row statement.
+     * Either every order is stored or none is.
+     * @param orders The orders to insert.
+     */
+    void insertAll(List<Order> orders);
+
+    /**
+     * Marks the given pending orders as placed, leaving alone those already cancelled.
+     * @param ids The IDs of the orders.
+     */
+    void placeAll(List<UUID> ids);
+
+    /**
+     * Cancels the given orders, leaving alone those already cancelled.
+     * @param ids The IDs of the orders.
+     * @return the IDs of the orders actually cancelled.
+     */
+    List<UUID> cancelAll(List<UUID> ids);
+
+    /**
+     * Finds an order by its ID.
+     * @param id The ID of the order.
+     * @return an Optional containing the order if found.
+     */
+    Optional<Order> findById(UUID id);
+
+    /**
+     * Retrieves one page of a user's orders, newest first (ordered by creation time, then by ID).
+     * @param userCode       The institutional code of the user.
+     * @param afterCreatedAt The creation time of the last order of the previous page, or null for the first page.
+     * @param afterId        The ID of the last order of the previous page, or null for the first page.
+     * @param limit          The maximum number of orders to return.
+     * @return the orders of the page.
+     */
+    List<Order> findPageByUser(Integer userCode, Instant afterCreatedAt, UUID afterId, int limit);
+}
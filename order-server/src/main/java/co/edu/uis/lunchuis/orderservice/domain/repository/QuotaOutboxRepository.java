@@ -0,0 +1,72 @@
+package co.edu.uis.lunchuis.orderservice.domain.repository;
+
+import co.edu.uis.lunchuis.orderservice.domain.model.QuotaEvent;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Domain Repository Port for the outbox of quota changes waiting to be applied by the
+ * Combo Service. Events are written in the same transaction as the orders causing them,
+ * and relayed in batches: a batch is first claimed under an ID, then sent, then deleted
+ * while the change the Combo Service applied for it is added to a per-combo ledger.
+ * Implementations (adapters) will reside in the infrastructure layer.
+ */
+public interface QuotaOutboxRepository {
+    /**
+     * Inserts several events in a single statement. Must run in the transaction of their orders.
+     * @param events The events to insert.
+     */
+    void insertAll(List<QuotaEvent> events);
+
+    /**
+     * Locks the event taking the units of an order or hold while it waits in the outbox, so its
+     * batch cannot complete until the current transaction ends. Must run in a transaction.
+     * @param orderId The ID of the order or hold.
+     * @return true if the event is still in the outbox, false if its batch was already completed.
+     */
+    boolean lockPendingEvent(UUID orderId);
+
+    /**
+     * Claims the oldest unclaimed events for a new batch, skipping those another relay is claiming.
+     * @param batchId   The ID of the new batch.
+     * @param claimedAt The instant of the claim.
+     * @param limit     The maximum number of events to claim.
+     * @return the claimed events.
+     */
+    List<QuotaEvent> claim(UUID batchId, Instant claimedAt, int limit);
+
+    /**
+     * Finds the batches claimed before the given instant and never completed.
+     * @param claimedBefore The instant before which a claimed batch is considered abandoned.
+     * @return the IDs of the abandoned batches.
+     */
+    List<UUID> findAbandonedBatches(Instant claimedBefore);
+
+    /**
+     * Takes over an abandoned batch, unless another relay already did.
+     * @param batchId       The ID of the batch.
+     * @param claimedAt     The instant of the new claim.
+     * @param claimedBefore The instant before which the batch is considered abandoned.
+     * @return the events of the batch, or an empty list if it is no longer abandoned.
+     */
+    List<QuotaEvent> reclaim(UUID batchId, Instant claimedAt, Instant claimedBefore);
+
+    /**
+     * Deletes the events of a batch once the Combo Service has applied it, and adds the
+     * change it applied to each combo to the ledger. Must run in a transaction.
+     * @param batchId The ID of the batch.
+     * @param applied The change the Combo Service applied to each combo for the batch.
+     */
+    void completeBatch(UUID batchId, Map<UUID, Integer> applied);
+
+    /**
+     * Sums, per combo, every quota event ever written: as applied by the Combo Service for
+     * completed batches, and as requested for those still in the outbox. Read in a single
+     * statement, so a batch completing meanwhile is counted exactly once.
+     * @return the net change of each combo with events.
+     */
+    Map<UUID, Integer> sumLedger();
+}
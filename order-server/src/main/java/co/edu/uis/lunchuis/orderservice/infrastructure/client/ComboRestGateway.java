@@ -0,0 +1,80 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.client;
+
+import co.edu.uis.lunchuis.common.enums.ComboStatus;
+import co.edu.uis.lunchuis.common.exception.ServiceBusyException;
+import co.edu.uis.lunchuis.common.security.ServiceTokenProvider;
+import co.edu.uis.lunchuis.orderservice.domain.gateway.ComboGateway;
+import co.edu.uis.lunchuis.orderservice.domain.model.ComboSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Adapter implementing the {@link ComboGateway} port over the Combo Service's REST API.
+ * Combos are read with this service's own token. When the Combo Service is unreachable,
+ * too slow or failing, callers get a {@link ServiceBusyException} instead of waiting.
+ */
+@Component
+@Slf4j
+public class ComboRestGateway implements ComboGateway {
+    private final RestClient restClient;
+    private final ServiceTokenProvider serviceTokenProvider;
+    private final Duration retryAfter;
+
+    /**
+     * Constructs the gateway.
+     * @param restClient           The client bound to the Combo Service.
+     * @param serviceTokenProvider The provider of this service's tokens.
+     * @param retryAfter           The delay suggested to clients when the Combo Service is unavailable.
+     */
+    public ComboRestGateway(@Qualifier("comboRestClient") RestClient restClient,
+                            ServiceTokenProvider serviceTokenProvider,
+                            @Value("${order.combo-service.retry-after:2s}") Duration retryAfter) {
+        this.restClient = restClient;
+        this.serviceTokenProvider = serviceTokenProvider;
+        this.retryAfter = retryAfter;
+    }
+
+    @Override
+    public Optional<ComboSnapshot> findCombo(UUID comboId) {
+        try {
+            ComboQuotaState combo = restClient.get()
+                    .uri("/combos/{id}/quota-state", comboId)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + serviceTokenProvider.getToken())
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                            return null;
+                        }
+                        if (response.getStatusCode().isError()) {
+                            throw new RestClientException("HTTP " + response.getStatusCode().value());
+                        }
+                        return response.bodyTo(ComboQuotaState.class);
+                    });
+            if (combo == null) {
+                return Optional.empty();
+            }
+            return Optional.of(new ComboSnapshot(combo.id(), BigDecimal.valueOf(combo.price()),
+                    combo.availableQuota(), combo.adjustedQuota(), combo.status() == ComboStatus.AVAILABLE));
+        } catch (RestClientException ex) {
+            log.warn("Could not read combo {} from the Combo Service: {}", comboId, ex.getMessage());
+            throw new ServiceBusyException("place orders", retryAfter);
+        }
+    }
+
+    /**
+     * The Combo Service's representation of the stored quota of a combo.
+     */
+    private record ComboQuotaState(UUID id, Double price, ComboStatus status, Integer availableQuota,
+                                   Integer adjustedQuota) {
+    }
+}
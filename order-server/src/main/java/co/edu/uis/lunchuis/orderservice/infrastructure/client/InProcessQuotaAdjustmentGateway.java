@@ -0,0 +1,43 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.client;
+
+import co.edu.uis.lunchuis.orderservice.domain.gateway.QuotaAdjustmentGateway;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-process stand-in for the Combo Service's bulk quota endpoint, for tests and local
+ * runs without a Combo Service. Every change is applied in full and accumulated in
+ * memory, and batches already applied are skipped and answered with their first outcome,
+ * like the real endpoint does.
+ * Enabled with {@code order.outbox.transport=in-process}.
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.transport", havingValue = "in-process")
+@Slf4j
+public class InProcessQuotaAdjustmentGateway implements QuotaAdjustmentGateway {
+    private final Map<UUID, Map<UUID, Integer>> appliedBatches = new ConcurrentHashMap<>();
+    private final Map<UUID, Integer> totals = new ConcurrentHashMap<>();
+
+    @Override
+    public Map<UUID, Integer> apply(UUID batchId, Map<UUID, Integer> deltas) {
+        return appliedBatches.computeIfAbsent(batchId, id -> {
+            deltas.forEach((comboId, delta) -> totals.merge(comboId, delta, Integer::sum));
+            log.debug("Applied quota adjustment batch {} in process: {}", batchId, deltas);
+            return Map.copyOf(deltas);
+        });
+    }
+
+    /**
+     * Returns the net change applied so far to a combo.
+     * @param comboId The ID of the combo.
+     * @return the sum of every change applied to the combo.
+     */
+    public int getAppliedDelta(UUID comboId) {
+        return totals.getOrDefault(comboId, 0);
+    }
+}
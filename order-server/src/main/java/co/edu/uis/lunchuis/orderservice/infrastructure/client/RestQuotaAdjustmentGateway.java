@@ -0,0 +1,63 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.client;
+
+import co.edu.uis.lunchuis.common.dto.QuotaAdjustmentBatchDTO;
+import co.edu.uis.lunchuis.common.dto.QuotaAdjustmentDTO;
+import co.edu.uis.lunchuis.common.dto.QuotaAdjustmentResultDTO;
+import co.edu.uis.lunchuis.common.security.ServiceTokenProvider;
+import co.edu.uis.lunchuis.orderservice.domain.gateway.QuotaAdjustmentGateway;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * Adapter implementing the {@link QuotaAdjustmentGateway} port with the Combo Service's
+ * bulk quota endpoint: one request per batch, authenticated with this service's token.
+ * This is the default transport; set {@code order.outbox.transport=in-process} to replace it.
+ */
+@Component
+@ConditionalOnProperty(name = "order.outbox.transport", havingValue = "http", matchIfMissing = true)
+public class RestQuotaAdjustmentGateway implements QuotaAdjustmentGateway {
+    private static final ParameterizedTypeReference<List<QuotaAdjustmentResultDTO>> RESULTS =
+            new ParameterizedTypeReference<>() { };
+
+    private final RestClient restClient;
+    private final ServiceTokenProvider serviceTokenProvider;
+
+    /**
+     * Constructs the gateway.
+     * @param restClient           The client bound to the Combo Service.
+     * @param serviceTokenProvider The provider of this service's tokens.
+     */
+    public RestQuotaAdjustmentGateway(@Qualifier("comboRestClient") RestClient restClient,
+                                      ServiceTokenProvider serviceTokenProvider) {
+        this.restClient = restClient;
+        this.serviceTokenProvider = serviceTokenProvider;
+    }
+
+    @Override
+    public Map<UUID, Integer> apply(UUID batchId, Map<UUID, Integer> deltas) {
+        List<QuotaAdjustmentDTO> adjustments = deltas.entrySet().stream()
+                .map(entry -> new QuotaAdjustmentDTO(entry.getKey(), entry.getValue()))
+                .toList();
+        List<QuotaAdjustmentResultDTO> results = restClient.post()
+                .uri("/combos/quota-adjustments")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + serviceTokenProvider.getToken())
+                .body(new QuotaAdjustmentBatchDTO(batchId, adjustments))
+                .retrieve()
+                .body(RESULTS);
+        if (results == null) {
+            return Map.of();
+        }
+        return results.stream()
+                .collect(Collectors.toMap(QuotaAdjustmentResultDTO::comboId, QuotaAdjustmentResultDTO::applied,
+                        Integer::sum));
+    }
+}
@@ -0,0 +1,44 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+
+/**
+ * Configures the HTTP client used to call the Combo Service.
+ * The JDK client keeps connections alive and multiplexes them, and blocking on it
+ * is cheap on virtual threads. Both timeouts are short: an order waiting longer
+ * than them would miss the latency objective anyway, and failing fast keeps a slow
+ * Combo Service from piling up requests here.
+ */
+@Configuration
+public class ComboClientConfig {
+    /**
+     * Creates the RestClient bound to the Combo Service's base URI.
+     * @param builder        The builder pre-configured by Spring Boot (message converters, observation).
+     * @param baseUri        The base URI of the Combo Service, including its context path.
+     * @param connectTimeout The maximum time to establish a connection.
+     * @param readTimeout    The maximum time to wait for a response.
+     * @return the RestClient.
+     */
+    @Bean
+    public RestClient comboRestClient(RestClient.Builder builder,
+                                      @Value("${order.combo-service.base-uri}") String baseUri,
+                                      @Value("${order.combo-service.connect-timeout:500ms}") Duration connectTimeout,
+                                      @Value("${order.combo-service.read-timeout:1s}") Duration readTimeout) {
+        HttpClient httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return builder
+                .baseUrl(baseUri)
+                .requestFactory(requestFactory)
+                .build();
+    }
+}
@@ -0,0 +1,223 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.config;
+
+import co.edu.uis.lunchuis.common.security.RevocationList;
+import co.edu.uis.lunchuis.common.security.RevocationListSynchronizer;
+import co.edu.uis.lunchuis.common.security.ServiceTokenProvider;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.KeySourceException;
+import com.nimbusds.jose.jwk.JWKMatcher;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.jwk.source.JWKSourceBuilder;
+import com.nimbusds.jose.proc.JWSVerificationKeySelector;
+import com.nimbusds.jose.proc.SecurityContext;
+import com.nimbusds.jwt.proc.DefaultJWTProcessor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
+import org.springframework.security.config.annotation.web.builders.HttpSecurity;
+import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
+import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
+import org.springframework.security.config.http.SessionCreationPolicy;
+import org.springframework.security.oauth2.core.DelegatingOAuth2TokenValidator;
+import org.springframework.security.oauth2.core.OAuth2Error;
+import org.springframework.security.oauth2.core.OAuth2ErrorCodes;
+import org.springframework.security.oauth2.core.OAuth2TokenValidatorResult;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.security.oauth2.jwt.JwtValidators;
+import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
+import org.springframework.security.oauth2.server.resource.authentication.JwtGrantedAuthoritiesConverter;
+import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.web.client.RestClient;
+
+import java.net.MalformedURLException;
+import java.net.URI;
+import java.time.Duration;
+
+/**
+ * Security configuration for the Order Service.
+ * Configures the service as a stateless OAuth2 Resource Server,
+ * validating JWTs signed by the Identity Service against its published key set,
+ * and rejecting the tokens it has revoked.
+ */
+@Configuration
+@EnableWebSecurity
+@EnableMethodSecurity
+@Slf4j
+public class SecurityConfig {
+    private static final OAuth2Error REVOKED_TOKEN =
+            new OAuth2Error(OAuth2ErrorCodes.INVALID_TOKEN, "The token has been revoked", null);
+
+    /**
+     * The URI of the Identity Service's JWK Set, from the config-server.
+     */
+    @Value("${jwt.jwk-set-uri}")
+    private String jwkSetUri;
+
+    @Value("${jwt.jwk-set.cache-ttl:5m}")
+    private Duration jwkSetCacheTtl;
+
+    @Value("${jwt.jwk-set.refresh-ahead:30s}")
+    private Duration jwkSetRefreshAhead;
+
+    @Value("${jwt.jwk-set.outage-tolerance:24h}")
+    private Duration jwkSetOutageTolerance;
+
+    /**
+     * Configures the main security filter chain.
+     */
+    @Bean
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, JwtDecoder jwtDecoder) throws Exception {
+        http
+                // Disable CORS y CSRF
+                .cors(AbstractHttpConfigurer::disable)
+                .csrf(AbstractHttpConfigurer::disable)
+                // Configure session management as stateless (no sessions will be created)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                // Configure authorization rules
+                .authorizeHttpRequests(authorize -> authorize
+                        // Permit access to Swagger UI and API docs
+                        .requestMatchers(
+                                "/swagger-ui/**",
+                                "/orders/api-docs/**",
+                                "/swagger-ui.html",
+                                "/actuator/**"
+                        ).permitAll()
+                        // Require authentication for all other requests
+                        .anyRequest().authenticated()
+                )
+                // Configure this service as an OAuth2 Resource Server validating JWTs
+                .oauth2ResourceServer(oauth2 -> oauth2
+                        .jwt(jwt -> jwt
+                                .decoder(jwtDecoder)
+                                // Use our custom converter to extract roles
+                                .jwtAuthenticationConverter(jwtAuthenticationConverter())
+                        )
+                );
+
+        return http.build();
+    }
+
+    /**
+     * Creates the cached source of the Identity Service's public keys.
+     * The key set is refreshed in the background before it expires, so key lookups
+     * by ID are served from memory and requests never wait on the Identity Service.
+     * If it is unreachable, the last key set keeps being used for a while.
+     * @return the JWK source.
+     * @throws MalformedURLException if the configured JWK Set URI is not a valid URL.
+     */
+    @Bean
+    public JWKSource<SecurityContext> jwkSource() throws MalformedURLException {
+        return JWKSourceBuilder.<SecurityContext>create(URI.create(jwkSetUri).toURL())
+                .cache(jwkSetCacheTtl.toMillis(), JWKSourceBuilder.DEFAULT_CACHE_REFRESH_TIMEOUT)
+                .refreshAheadCache(jwkSetRefreshAhead.toMillis(), true)
+                .outageTolerant(jwkSetOutageTolerance.toMillis())
+                .build();
+    }
+
+    /**
+     * Creates the list of revoked tokens, kept in sync with the Identity Service.
+     * @return the revocation list.
+     */
+    @Bean
+    public RevocationList revocationList() {
+        return new RevocationList();
+    }
+
+    /**
+     * Creates the provider of the tokens this service presents when calling other services.
+     * @param restClientBuilder The builder of the HTTP client.
+     * @param tokenUri          The URI of the Identity Service's service token endpoint.
+     * @param clientId          The name this service identifies itself with.
+     * @param clientSecret      The secret shared with the Identity Service.
+     * @return the service token provider.
+     */
+    @Bean
+    public ServiceTokenProvider serviceTokenProvider(RestClient.Builder restClientBuilder,
+                                                     @Value("${jwt.service.token-uri}") String tokenUri,
+                                                     @Value("${spring.application.name}") String clientId,
+                                                     @Value("${jwt.service.secret}") String clientSecret) {
+        return new ServiceTokenProvider(restClientBuilder.build(), tokenUri, clientId, clientSecret);
+    }
+
+    /**
+     * Creates the poller keeping the revocation list in sync with the Identity Service.
+     * @param revocationList       The list checked when validating tokens.
+     * @param restClientBuilder    The builder of the HTTP client.
+     * @param serviceTokenProvider The provider of the token the revocation feed requires.
+     * @param revocationsUri       The URI of the Identity Service's revocation feed.
+     * @param overlap              How far each poll looks back before the previous one.
+     * @return the synchronizer.
+     */
+    @Bean
+    public RevocationListSynchronizer revocationListSynchronizer(RevocationList revocationList,
+                                                                 RestClient.Builder restClientBuilder,
+                                                                 ServiceTokenProvider serviceTokenProvider,
+                                                                 @Value("${jwt.revocations-uri}") String revocationsUri,
+                                                                 @Value("${jwt.revocations.sync-overlap:30s}") Duration overlap) {
+        return new RevocationListSynchronizer(revocationList, restClientBuilder.build(), serviceTokenProvider,
+                revocationsUri, overlap);
+    }
+
+    /**
+     * Creates the JwtDecoder bean, verifying RS256 signatures with the cached key set
+     * and rejecting revoked tokens.
+     * @param jwkSource      The cached source of the Identity Service's public keys.
+     * @param revocationList The list of revoked tokens.
+     * @return the JWT decoder.
+     */
+    @Bean
+    public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSource, RevocationList revocationList) {
+        DefaultJWTProcessor<SecurityContext> jwtProcessor = new DefaultJWTProcessor<>();
+        jwtProcessor.setJWSKeySelector(new JWSVerificationKeySelector<>(JWSAlgorithm.RS256, jwkSource));
+        // Claims (expiration, not-before) are validated by the decoder itself
+        jwtProcessor.setJWTClaimsSetVerifier((claims, context) -> { });
+        NimbusJwtDecoder decoder = new NimbusJwtDecoder(jwtProcessor);
+        decoder.setJwtValidator(new DelegatingOAuth2TokenValidator<>(
+                JwtValidators.createDefault(),
+                jwt -> revocationList.isRevoked(jwt.getId(), jwt.getSubject(), jwt.getIssuedAt())
+                        ? OAuth2TokenValidatorResult.failure(REVOKED_TOKEN)
+                        : OAuth2TokenValidatorResult.success()));
+        return decoder;
+    }
+
+    /**
+     * Loads the key set once the application is ready, so the first request does not fetch it.
+     * @throws MalformedURLException if the configured JWK Set URI is not a valid URL.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void preloadJwkSet() throws MalformedURLException {
+        try {
+            // Resolves to the singleton bean, since configuration classes are proxied
+            int keys = jwkSource().get(new JWKSelector(new JWKMatcher.Builder().build()), null).size();
+            log.info("Loaded {} token verification key(s) from {}.", keys, jwkSetUri);
+        } catch (KeySourceException ex) {
+            // Loaded on the first request instead
+            log.warn("Could not preload the JWK Set from {}: {}", jwkSetUri, ex.getMessage());
+        }
+    }
+
+    /**
+     * Creates a custom converter to extract roles from the JWT 'roles' claim
+     * and map them to Spring Security's GrantedAuthority.
+     * It adds the "ROLE_" prefix, which @PreAuthorize expects.
+     * @return A configured JwtAuthenticationConverter.
+     */
+    @Bean
+    public JwtAuthenticationConverter jwtAuthenticationConverter() {
+        JwtGrantedAuthoritiesConverter grantedAuthoritiesConverter = new JwtGrantedAuthoritiesConverter();
+        // Look for the "roles" claim in the JWT
+        grantedAuthoritiesConverter.setAuthoritiesClaimName("roles");
+        // Add "ROLE_" prefix (e.g., "ADMIN" in token becomes "ROLE_ADMIN")
+        grantedAuthoritiesConverter.setAuthorityPrefix("ROLE_");
+
+        JwtAuthenticationConverter jwtAuthenticationConverter = new JwtAuthenticationConverter();
+        jwtAuthenticationConverter.setJwtGrantedAuthoritiesConverter(grantedAuthoritiesConverter);
+        return jwtAuthenticationConverter;
+    }
+}
@@ -0,0 +1,99 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.persistence.adapter;
+
+import co.edu.uis.lunchuis.orderservice.domain.model.Hold;
+import co.edu.uis.lunchuis.orderservice.domain.repository.HoldRepository;
+import co.edu.uis.lunchuis.orderservice.infrastructure.persistence.entity.HoldEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistence Adapter that implements the {@link HoldRepository} port.
+ * The table is described by {@link HoldEntity}. Every removal is a single
+ * DELETE ... RETURNING, so concurrent attempts to end the same hold cannot both succeed,
+ * and inserts skip a hold the user already has on the combo, so concurrent checkouts cannot both hold it.
+ */
+@Repository
+@RequiredArgsConstructor
+public class HoldRepositoryAdapter implements HoldRepository {
+    private static final String COLUMNS = "id, user_code, combo_id, units, unit_price, created_at, expires_at";
+    private static final String INSERT_SQL = "INSERT INTO holds (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?) "
+            + "ON CONFLICT (user_code, combo_id) DO NOTHING";
+    private static final String FIND_BY_USER_AND_COMBO_SQL =
+            "SELECT " + COLUMNS + " FROM holds WHERE user_code = ? AND combo_id = ?";
+    private static final String DELETE_ACTIVE_SQL =
+            "DELETE FROM holds WHERE id = ? AND user_code = ? AND expires_at > ? RETURNING " + COLUMNS;
+    private static final String DELETE_EXPIRED_SQL =
+            "DELETE FROM holds WHERE id = ANY (?) AND expires_at <= ? RETURNING " + COLUMNS;
+    private static final String DELETE_ALL_SQL = "DELETE FROM holds WHERE id = ANY (?) RETURNING " + COLUMNS;
+    private static final String FIND_ALL_SQL = "SELECT " + COLUMNS + " FROM holds";
+    private static final String FIND_EXPIRED_IDS_SQL =
+            "SELECT id FROM holds WHERE expires_at < ? ORDER BY expires_at LIMIT ?";
+    private static final RowMapper<Hold> HOLD_ROW_MAPPER = (rs, rowNum) -> new Hold(
+            rs.getObject("id", UUID.class),
+            rs.getInt("user_code"),
+            rs.getObject("combo_id", UUID.class),
+            rs.getInt("units"),
+            rs.getBigDecimal("unit_price"),
+            rs.getTimestamp("created_at").toInstant(),
+            rs.getTimestamp("expires_at").toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public boolean insert(Hold hold) {
+        return jdbcTemplate.update(INSERT_SQL, hold.id(), hold.userCode(), hold.comboId(), hold.units(),
+                hold.unitPrice(), Timestamp.from(hold.createdAt()), Timestamp.from(hold.expiresAt())) == 1;
+    }
+
+    @Override
+    public Optional<Hold> findByUserAndCombo(Integer userCode, UUID comboId) {
+        return jdbcTemplate.query(FIND_BY_USER_AND_COMBO_SQL, HOLD_ROW_MAPPER, userCode, comboId)
+                .stream().findFirst();
+    }
+
+    @Override
+    public Optional<Hold> deleteActive(UUID id, Integer userCode, Instant now) {
+        return jdbcTemplate.query(DELETE_ACTIVE_SQL, HOLD_ROW_MAPPER, id, userCode, Timestamp.from(now))
+                .stream().findFirst();
+    }
+
+    @Override
+    public List<Hold> deleteExpired(List<UUID> ids, Instant now) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(DELETE_EXPIRED_SQL, ps -> {
+            ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray()));
+            ps.setTimestamp(2, Timestamp.from(now));
+        }, HOLD_ROW_MAPPER);
+    }
+
+    @Override
+    public List<Hold> deleteAll(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(DELETE_ALL_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+                HOLD_ROW_MAPPER);
+    }
+
+    @Override
+    public List<Hold> findAll() {
+        return jdbcTemplate.query(FIND_ALL_SQL, HOLD_ROW_MAPPER);
+    }
+
+    @Override
+    public List<UUID> findExpiredIds(Instant before, int limit) {
+        return jdbcTemplate.queryForList(FIND_EXPIRED_IDS_SQL, UUID.class, Timestamp.from(before), limit);
+    }
+}
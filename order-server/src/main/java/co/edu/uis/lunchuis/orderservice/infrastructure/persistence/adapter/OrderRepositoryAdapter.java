@@ -0,0 +1,124 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.persistence.adapter;
+
+import co.edu.uis.lunchuis.common.enums.OrderStatus;
+import co.edu.uis.lunchuis.orderservice.domain.model.Order;
+import co.edu.uis.lunchuis.orderservice.domain.repository.OrderRepository;
+import co.edu.uis.lunchuis.orderservice.infrastructure.persistence.entity.OrderEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Persistence Adapter that implements the {@link OrderRepository} port.
+ * The table is described by {@link OrderEntity}; statements are plain SQL so that
+ * storing orders skips the lookup the persistence context would run first for
+ * entities with an assigned ID. Batches are written as a single multi-row
+ * INSERT, so the whole batch costs one round trip.
+ */
+@Repository
+@RequiredArgsConstructor
+public class OrderRepositoryAdapter implements OrderRepository {
+    private static final String INSERT_PREFIX =
+            "INSERT INTO orders (id, user_code, combo_id, units, unit_price, status, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?, ?, ?, ?)";
+    private static final int COLUMNS = 7;
+    /**
+     * PostgreSQL accepts at most 65535 bind parameters per statement.
+     */
+    private static final int MAX_ROWS_PER_STATEMENT = 65535 / COLUMNS;
+    private static final String PLACE_SQL = "UPDATE orders SET status = 'PLACED' WHERE id = ANY (?) AND status = 'PENDING'";
+    private static final String CANCEL_SQL = """
+            UPDATE orders SET status = 'CANCELLED'
+            WHERE id = ANY (?) AND status IN ('PENDING', 'PLACED')
+            RETURNING id
+            """;
+    private static final String SELECT_SQL = """
+            SELECT id, user_code, combo_id, units, unit_price, status, created_at
+            FROM orders
+            """;
+    private static final String FIND_BY_ID_SQL = SELECT_SQL + "WHERE id = ?";
+    private static final String FIRST_PAGE_SQL = SELECT_SQL + """
+            WHERE user_code = ?
+            ORDER BY created_at DESC, id DESC
+            LIMIT ?
+            """;
+    private static final String NEXT_PAGE_SQL = SELECT_SQL + """
+            WHERE user_code = ? AND (created_at, id) < (?, ?)
+            ORDER BY created_at DESC, id DESC
+            LIMIT ?
+            """;
+    private static final RowMapper<Order> ORDER_ROW_MAPPER = (rs, rowNum) -> new Order(
+            rs.getObject("id", UUID.class),
+            rs.getInt("user_code"),
+            rs.getObject("combo_id", UUID.class),
+            rs.getInt("units"),
+            rs.getBigDecimal("unit_price"),
+            OrderStatus.valueOf(rs.getString("status")),
+            rs.getTimestamp("created_at").toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return;
+        }
+        if (orders.size() > MAX_ROWS_PER_STATEMENT) {
+            throw new IllegalArgumentException("At most " + MAX_ROWS_PER_STATEMENT + " orders can be inserted at once");
+        }
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(orders.size(), ROW_PLACEHOLDERS));
+        Object[] args = new Object[orders.size() * COLUMNS];
+        int i = 0;
+        for (Order order : orders) {
+            args[i++] = order.getId();
+            args[i++] = order.getUserCode();
+            args[i++] = order.getComboId();
+            args[i++] = order.getUnits();
+            args[i++] = order.getUnitPrice();
+            args[i++] = order.getStatus().name();
+            args[i++] = Timestamp.from(order.getCreatedAt());
+        }
+        jdbcTemplate.update(sql, args);
+    }
+
+    @Override
+    public void placeAll(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.update(PLACE_SQL, ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())));
+    }
+
+    @Override
+    public List<UUID> cancelAll(List<UUID> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return jdbcTemplate.query(CANCEL_SQL,
+                ps -> ps.setArray(1, ps.getConnection().createArrayOf("uuid", ids.toArray())),
+                (rs, rowNum) -> rs.getObject("id", UUID.class));
+    }
+
+    @Override
+    public Optional<Order> findById(UUID id) {
+        return jdbcTemplate.query(FIND_BY_ID_SQL, ORDER_ROW_MAPPER, id).stream().findFirst();
+    }
+
+    @Override
+    public List<Order> findPageByUser(Integer userCode, Instant afterCreatedAt, UUID afterId, int limit) {
+        if (afterCreatedAt == null || afterId == null) {
+            return jdbcTemplate.query(FIRST_PAGE_SQL, ORDER_ROW_MAPPER, userCode, limit);
+        }
+        return jdbcTemplate.query(NEXT_PAGE_SQL, ORDER_ROW_MAPPER, userCode, Timestamp.from(afterCreatedAt),
+                afterId, limit);
+    }
+}
@@ -0,0 +1,129 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.persistence.adapter;
+
+import co.edu.uis.lunchuis.orderservice.domain.model.QuotaEvent;
+import co.edu.uis.lunchuis.orderservice.domain.repository.QuotaOutboxRepository;
+import co.edu.uis.lunchuis.orderservice.infrastructure.persistence.entity.QuotaLedgerEntity;
+import co.edu.uis.lunchuis.orderservice.infrastructure.persistence.entity.QuotaOutboxEntity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Persistence Adapter that implements the {@link QuotaOutboxRepository} port.
+ * The table is described by {@link QuotaOutboxEntity}. Claims are single UPDATE ... RETURNING
+ * statements that skip rows locked by another relay, so several instances can drain the
+ * outbox concurrently without waiting on each other or claiming the same event twice.
+ * The ledger is described by {@link QuotaLedgerEntity}; its rows are updated in combo order,
+ * so relays completing batches with the same combos never deadlock.
+ */
+@Repository
+@RequiredArgsConstructor
+public class QuotaOutboxRepositoryAdapter implements QuotaOutboxRepository {
+    private static final String INSERT_PREFIX = "INSERT INTO quota_outbox (order_id, combo_id, delta, created_at) VALUES ";
+    private static final String ROW_PLACEHOLDERS = "(?, ?, ?, ?)";
+    private static final int COLUMNS = 4;
+    private static final String RETURNED_COLUMNS = "RETURNING id, order_id, combo_id, delta, created_at";
+    private static final String CLAIM_SQL = """
+            UPDATE quota_outbox SET batch_id = ?, claimed_at = ?
+            WHERE id IN (SELECT id FROM quota_outbox WHERE batch_id IS NULL ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED)
+            """ + RETURNED_COLUMNS;
+    private static final String FIND_ABANDONED_SQL = """
+            SELECT DISTINCT batch_id FROM quota_outbox WHERE batch_id IS NOT NULL AND claimed_at < ?
+            """;
+    private static final String RECLAIM_SQL = """
+            UPDATE quota_outbox SET claimed_at = ?
+            WHERE batch_id = ? AND claimed_at < ?
+            """ + RETURNED_COLUMNS;
+    private static final String LOCK_PENDING_SQL =
+            "SELECT id FROM quota_outbox WHERE order_id = ? AND delta < 0 FOR SHARE";
+    private static final String DELETE_BATCH_SQL = "DELETE FROM quota_outbox WHERE batch_id = ?";
+    private static final String RECORD_APPLIED_SQL = """
+            INSERT INTO quota_ledger (combo_id, applied) VALUES (?, ?)
+            ON CONFLICT (combo_id) DO UPDATE SET applied = quota_ledger.applied + EXCLUDED.applied
+            """;
+    private static final String SUM_LEDGER_SQL = """
+            SELECT combo_id, SUM(delta) AS delta FROM (
+                SELECT combo_id, delta FROM quota_outbox
+                UNION ALL
+                SELECT combo_id, applied FROM quota_ledger
+            ) AS events GROUP BY combo_id
+            """;
+    private static final RowMapper<QuotaEvent> EVENT_ROW_MAPPER = (rs, rowNum) -> new QuotaEvent(
+            rs.getLong("id"),
+            rs.getObject("order_id", UUID.class),
+            rs.getObject("combo_id", UUID.class),
+            rs.getInt("delta"),
+            rs.getTimestamp("created_at").toInstant()
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void insertAll(List<QuotaEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        String sql = INSERT_PREFIX + String.join(", ", Collections.nCopies(events.size(), ROW_PLACEHOLDERS));
+        Object[] args = new Object[events.size() * COLUMNS];
+        int i = 0;
+        for (QuotaEvent event : events) {
+            args[i++] = event.orderId();
+            args[i++] = event.comboId();
+            args[i++] = event.delta();
+            args[i++] = Timestamp.from(event.createdAt());
+        }
+        jdbcTemplate.update(sql, args);
+    }
+
+    @Override
+    public boolean lockPendingEvent(UUID orderId) {
+        return !jdbcTemplate.queryForList(LOCK_PENDING_SQL, Long.class, orderId).isEmpty();
+    }
+
+    @Override
+    public List<QuotaEvent> claim(UUID batchId, Instant claimedAt, int limit) {
+        return jdbcTemplate.query(CLAIM_SQL, EVENT_ROW_MAPPER, batchId, Timestamp.from(claimedAt), limit);
+    }
+
+    @Override
+    public List<UUID> findAbandonedBatches(Instant claimedBefore) {
+        return jdbcTemplate.queryForList(FIND_ABANDONED_SQL, UUID.class, Timestamp.from(claimedBefore));
+    }
+
+    @Override
+    public List<QuotaEvent> reclaim(UUID batchId, Instant claimedAt, Instant claimedBefore) {
+        return jdbcTemplate.query(RECLAIM_SQL, EVENT_ROW_MAPPER, Timestamp.from(claimedAt), batchId,
+                Timestamp.from(claimedBefore));
+    }
+
+    @Override
+    public void completeBatch(UUID batchId, Map<UUID, Integer> applied) {
+        jdbcTemplate.update(DELETE_BATCH_SQL, batchId);
+        List<Map.Entry<UUID, Integer>> changes = List.copyOf(new TreeMap<>(applied).entrySet());
+        if (!changes.isEmpty()) {
+            jdbcTemplate.batchUpdate(RECORD_APPLIED_SQL, changes, changes.size(), (ps, change) -> {
+                ps.setObject(1, change.getKey());
+                ps.setInt(2, change.getValue());
+            });
+        }
+    }
+
+    @Override
+    public Map<UUID, Integer> sumLedger() {
+        Map<UUID, Integer> deltas = new HashMap<>();
+        jdbcTemplate.query(SUM_LEDGER_SQL, rs -> {
+            deltas.put(rs.getObject("combo_id", UUID.class), rs.getInt("delta"));
+        });
+        return deltas;
+    }
+}
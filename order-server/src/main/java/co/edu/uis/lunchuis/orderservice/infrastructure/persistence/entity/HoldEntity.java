@@ -0,0 +1,53 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Represents the database entity for holds.
+ * This class maps directly to the "holds" table in PostgresSQL.
+ * Rows live from checkout until the hold is confirmed, cancelled or expires.
+ * A user has at most one hold per combo.
+ */
+@Entity
+@Table(name = "holds", indexes = {
+        @Index(name = "idx_holds_expires_at", columnList = "expires_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_holds_user_code_combo_id", columnNames = {"user_code", "combo_id"})
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class HoldEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "user_code", nullable = false, updatable = false)
+    private Integer userCode;
+
+    @Column(name = "combo_id", nullable = false, updatable = false)
+    private UUID comboId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer units;
+
+    @Column(name = "unit_price", nullable = false, updatable = false, precision = 12, scale = 2)
+    private BigDecimal unitPrice;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private Instant expiresAt;
+}
@@ -0,0 +1,53 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.persistence.entity;
+
+import co.edu.uis.lunchuis.common.enums.OrderStatus;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Represents the database entity for orders.
+ * This class maps directly to the "orders" table in PostgresSQL.
+ * The listing index leads with the user, since orders are always listed per user.
+ */
+@Entity
+@Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_user_listing", columnList = "user_code, created_at, id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderEntity {
+    @Id
+    private UUID id;
+
+    @Column(name = "user_code", nullable = false, updatable = false)
+    private Integer userCode;
+
+    @Column(name = "combo_id", nullable = false, updatable = false)
+    private UUID comboId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer units;
+
+    @Column(name = "unit_price", nullable = false, updatable = false, precision = 12, scale = 2)
+    private BigDecimal unitPrice;
+
+    @Column(nullable = false, length = 20)
+    @Enumerated(EnumType.STRING)
+    private OrderStatus status;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+}
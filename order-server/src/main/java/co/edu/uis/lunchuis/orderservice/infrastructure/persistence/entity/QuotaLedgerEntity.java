@@ -0,0 +1,31 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+/**
+ * Represents the database entity for the quota ledger.
+ * This class maps directly to the "quota_ledger" table in PostgresSQL.
+ * Each row holds, for one combo, the net change the Combo Service applied from every
+ * relayed batch, recorded in the same transaction that deletes the batch from the outbox.
+ */
+@Entity
+@Table(name = "quota_ledger")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuotaLedgerEntity {
+    @Id
+    @Column(name = "combo_id")
+    private UUID comboId;
+
+    @Column(nullable = false)
+    private Integer applied;
+}
@@ -0,0 +1,52 @@
+package co.edu.uis.lunchuis.orderservice.infrastructure.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Represents the database entity for the outbox of quota changes.
+ * This class maps directly to the "quota_outbox" table in PostgresSQL.
+ * Rows are short-lived: they are deleted as soon as the Combo Service applies their batch.
+ */
+@Entity
+@Table(name = "quota_outbox", indexes = {
+        @Index(name = "idx_quota_outbox_batch", columnList = "batch_id, claimed_at"),
+        @Index(name = "idx_quota_outbox_order_id", columnList = "order_id")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class QuotaOutboxEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "order_id", nullable = false, updatable = false)
+    private UUID orderId;
+
+    @Column(name = "combo_id", nullable = false, updatable = false)
+    private UUID comboId;
+
+    @Column(nullable = false, updatable = false)
+    private Integer delta;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private Instant createdAt;
+
+    @Column(name = "batch_id")
+    private UUID batchId;
+
+    @Column(name = "claimed_at")
+    private Instant claimedAt;
+}
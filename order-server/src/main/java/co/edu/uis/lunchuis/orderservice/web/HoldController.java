@@ -0,0 +1,57 @@
+package co.edu.uis.lunchuis.orderservice.web;
+
+import co.edu.uis.lunchuis.orderservice.application.dto.request.HoldRequestDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.HoldResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.OrderResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.service.HoldService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("orders/holds")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Holds", description = "Endpoints for holding combo units during checkout.")
+public class HoldController {
+    private final HoldService holdService;
+
+    @Operation(summary = "Hold combo units",
+            description = "Sets units of a combo aside for the authenticated user until the returned expiration. "
+                    + "Returns 409 when the combo is sold out or the user already holds it. While the combo is "
+                    + "in demand, returns 429 with a place in line: retry after Retry-After, sending back the "
+                    + QueueExceptionHandler.QUEUE_TICKET_HEADER + " header.")
+    @PostMapping
+    @PreAuthorize("hasAnyRole('STUDENT', 'ADMIN')")
+    public ResponseEntity<HoldResponseDTO> createHold(
+            @Valid @RequestBody HoldRequestDTO requestDTO,
+            @RequestHeader(name = QueueExceptionHandler.QUEUE_TICKET_HEADER, required = false) UUID ticket) {
+        return new ResponseEntity<>(holdService.createHold(requestDTO, ticket), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Confirm a Hold",
+            description = "Places an order with the held units. Returns 404 when the hold expired or does not exist. "
+                    + "The order is PENDING until the Combo Service confirms its units.")
+    @PostMapping("/{id}/confirm")
+    @PreAuthorize("hasAnyRole('STUDENT', 'ADMIN')")
+    public ResponseEntity<OrderResponseDTO> confirmHold(@PathVariable UUID id) {
+        return new ResponseEntity<>(holdService.confirmHold(id), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Cancel a Hold",
+            description = "Gives the held units back to the combo.")
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasAnyRole('STUDENT', 'ADMIN')")
+    public ResponseEntity<Void> cancelHold(@PathVariable UUID id) {
+        holdService.cancelHold(id);
+        return ResponseEntity.noContent().build();
+    }
+}
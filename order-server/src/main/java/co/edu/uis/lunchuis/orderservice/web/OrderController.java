@@ -0,0 +1,65 @@
+package co.edu.uis.lunchuis.orderservice.web;
+
+import co.edu.uis.lunchuis.orderservice.application.dto.request.PlaceOrderRequestDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.OrderPageResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.dto.response.OrderResponseDTO;
+import co.edu.uis.lunchuis.orderservice.application.service.OrderService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("orders")
+@SecurityRequirement(name = "bearerAuth")
+@Tag(name = "Orders", description = "Endpoints for placing and consulting orders.")
+public class OrderController {
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private final OrderService orderService;
+
+    @Operation(summary = "Place an Order",
+            description = "Orders units of a combo for the authenticated user. Returns 409 when the combo is sold out "
+                    + "and 503 with Retry-After when the quota cannot be checked in time. While the combo is in "
+                    + "demand, returns 429 with a place in line: retry after Retry-After, sending back the "
+                    + QueueExceptionHandler.QUEUE_TICKET_HEADER + " header. The order is PENDING until the Combo "
+                    + "Service confirms its units; poll it until it is PLACED, or CANCELLED if the combo was oversold.")
+    @PostMapping
+    @PreAuthorize("hasAnyRole('STUDENT', 'ADMIN')")
+    public ResponseEntity<OrderResponseDTO> placeOrder(
+            @Valid @RequestBody PlaceOrderRequestDTO requestDTO,
+            @RequestHeader(name = QueueExceptionHandler.QUEUE_TICKET_HEADER, required = false) UUID ticket) {
+        return new ResponseEntity<>(orderService.placeOrder(requestDTO, ticket), HttpStatus.CREATED);
+    }
+
+    @Operation(summary = "Get my Orders",
+            description = "Retrieves the authenticated user's orders page by page, newest first. Pass the "
+                    + NEXT_CURSOR_HEADER + " response header as 'after' to get the next page.")
+    @GetMapping
+    public ResponseEntity<List<OrderResponseDTO>> getMyOrders(
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "100") int limit) {
+        OrderPageResponseDTO page = orderService.getMyOrders(after, limit);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.nextCursor() != null) {
+            response.header(NEXT_CURSOR_HEADER, page.nextCursor());
+        }
+        return response.body(page.items());
+    }
+
+    @Operation(summary = "Get Order by ID",
+            description = "Retrieves a specific order by its ID. Only its owner or an ADMIN may see it.")
+    @GetMapping("/{id}")
+    public ResponseEntity<OrderResponseDTO> getOrder(@PathVariable UUID id) {
+        return ResponseEntity.ok(orderService.getOrder(id));
+    }
+}
@@ -0,0 +1,56 @@
+package co.edu.uis.lunchuis.orderservice.web;
+
+import co.edu.uis.lunchuis.common.dto.ErrorResponse;
+import co.edu.uis.lunchuis.orderservice.domain.exception.RequestQueuedException;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.context.request.WebRequest;
+
+import java.time.Instant;
+
+/**
+ * Exception Handler for requests waiting in line for a combo.
+ * Runs before the common {@code GlobalExceptionHandler}, which would otherwise answer
+ * {@link RequestQueuedException} as a plain domain exception, without the headers the
+ * client needs to keep its place.
+ */
+@RestControllerAdvice
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueueExceptionHandler {
+    /**
+     * Header carrying the ticket of a queued request, sent back by the client to keep its place.
+     */
+    public static final String QUEUE_TICKET_HEADER = "X-Queue-Ticket";
+    private static final String QUEUE_POSITION_HEADER = "X-Queue-Position";
+
+    /**
+     * Handles requests put in line behind others competing for the same combo.
+     * Returns the standardized ErrorResponse with HTTP status 429 (Too Many Requests),
+     * a Retry-After header telling the client when to try again, and the ticket and
+     * position it keeps by retrying with the {@value #QUEUE_TICKET_HEADER} header.
+     * @param ex      The caught {@link RequestQueuedException}.
+     * @param request The current web request.
+     * @return A {@link ResponseEntity} containing the standardized {@link ErrorResponse}.
+     */
+    @ExceptionHandler(RequestQueuedException.class)
+    public ResponseEntity<ErrorResponse> handleRequestQueued(RequestQueuedException ex, WebRequest request) {
+        ErrorResponse errorResponse = new ErrorResponse(
+                Instant.now(),
+                ex.getStatus().value(),
+                ex.getCode(),
+                ex.getMessage(),
+                request.getDescription(false).replace("uri=", "")
+        );
+        // Retry-After is expressed in whole seconds; round up so clients never retry too early
+        long seconds = Math.max(1, (ex.getRetryAfter().toMillis() + 999) / 1000);
+        return ResponseEntity.status(ex.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(seconds))
+                .header(QUEUE_TICKET_HEADER, ex.getTicket().toString())
+                .header(QUEUE_POSITION_HEADER, String.valueOf(ex.getPosition()))
+                .body(errorResponse);
+    }
+}